@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# Compara vazão e latência p99 de GET /contatos entre os modos de execução da API:
+#   plataforma - Spring MVC com o pool de threads do Tomcat
+#   virtual    - Spring MVC com threads virtuais (perfil virtual-threads)
+#   reativo    - WebFlux + R2DBC (perfil reactive)
+#
+# Pré-requisitos: Java 21 e o artefato gerado com "mvn -Pjava21 package -DskipTests".
+# Uso: scripts/carga-modos.sh [concorrencia] [segundos]
+set -euo pipefail
+
+CONCORRENCIA="${1:-400}"
+SEGUNDOS="${2:-30}"
+PORTA=8080
+JAR="$(ls target/projeto-agenda-spring-boot-*.jar | grep -v original | head -n 1)"
+URL="http://localhost:${PORTA}/contatos?limit=20"
+
+# Pools de conexões e de threads pequenos e iguais em todos os modos, para evidenciar a saturação.
+OPCOES_COMUNS=(
+  "--server.port=${PORTA}"
+  "--server.tomcat.threads.max=50"
+  "--spring.datasource.hikari.maximum-pool-size=20"
+  "--spring.r2dbc.pool.max-size=20"
+  "--spring.jpa.show-sql=false"
+)
+
+executar() {
+  local modo="$1"
+  shift
+  java -jar "${JAR}" "${OPCOES_COMUNS[@]}" "$@" > "target/carga-${modo}.log" 2>&1 &
+  local pid=$!
+  trap "kill ${pid} 2>/dev/null || true" RETURN
+
+  until curl -sf "http://localhost:${PORTA}/actuator/health" > /dev/null; do sleep 0.5; done
+
+  # Popula a agenda com 5.000 contatos (POST individual, disponível em todos os modos).
+  python3 - "${PORTA}" <<'PY'
+import json, sys, urllib.request
+from concurrent.futures import ThreadPoolExecutor
+
+def criar(i):
+    corpo = json.dumps({"nome": f"Contato {i}", "email": f"contato{i}@email.com",
+                        "telefone": f"(11) 9{i // 10000:04d}-{i % 10000:04d}"}).encode()
+    req = urllib.request.Request(f"http://localhost:{sys.argv[1]}/contatos", data=corpo,
+                                 headers={"Content-Type": "application/json"})
+    urllib.request.urlopen(req).close()
+
+with ThreadPoolExecutor(32) as executor:
+    list(executor.map(criar, range(5000)))
+PY
+
+  echo -n "{\"modo\":\"${modo}\",\"resultado\":"
+  mvn -q -Pbenchmark exec:java -Dexec.classpathScope=test \
+      -Dexec.mainClass=br.com.mascenadev.projetoagendaspringboot.benchmark.ContatoCargaHttp \
+      -Dexec.args="${URL} ${CONCORRENCIA} ${SEGUNDOS}"
+  echo "}"
+}
+
+mvn -q -Pbenchmark test-compile
+executar plataforma
+executar virtual --spring.profiles.active=prod,virtual-threads
+executar reativo --spring.profiles.active=reactive
@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# Mede o tempo até a primeira requisição atendida (GET /contatos com status 200) em cada modo de inicialização:
+#   padrao     - java -jar, sem otimizações
+#   perfil     - perfil fast-start (inicialização preguiçosa, sem Springdoc, console H2 nem inspeção do esquema)
+#   fast-start - perfil fast-start + código AOT + arquivo CDS
+#
+# O tempo é contado do lançamento do processo até a primeira resposta 200, por isso inclui a subida da JVM.
+# Também são registrados os tempos informados pelo Spring Boot (application.started.time e application.ready.time).
+#
+# Pré-requisitos: o artefato gerado com "mvn -Pfast-start package -DskipTests" e curl.
+# Uso: scripts/inicio-modos.sh [repeticoes]
+set -euo pipefail
+
+REPETICOES="${1:-5}"
+PORTA=8080
+DIRETORIO=target/aplicacao
+JAR="$(ls ${DIRETORIO}/projeto-agenda-spring-boot-*.jar | head -n 1)"
+URL="http://localhost:${PORTA}/contatos?limit=1"
+
+# H2 em memória em todos os modos; o esquema precisa ser criado porque o perfil fast-start não o cria.
+OPCOES_COMUNS=(
+  "--server.port=${PORTA}"
+  "--spring.jpa.hibernate.ddl-auto=create"
+  "--spring.jpa.show-sql=false"
+)
+
+metrica() {
+  curl -sf "http://localhost:${PORTA}/actuator/metrics/$1" \
+    | python3 -c 'import json, sys; print(round(json.load(sys.stdin)["measurements"][0]["value"] * 1000))'
+}
+
+medir() {
+  local modo="$1"
+  shift
+  local inicio
+  inicio="$(date +%s%N)"
+  "$@" "${OPCOES_COMUNS[@]}" > "target/inicio-${modo}.log" 2>&1 &
+  local pid=$!
+  trap "kill ${pid} 2>/dev/null || true" RETURN
+
+  until curl -sf -o /dev/null "${URL}"; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "O modo ${modo} terminou antes de responder; veja target/inicio-${modo}.log" >&2
+      return 1
+    fi
+    sleep 0.01
+  done
+  local primeira=$(( ($(date +%s%N) - inicio) / 1000000 ))
+
+  echo "{\"modo\":\"${modo}\",\"primeiraRequisicaoMs\":${primeira},\"startedMs\":$(metrica application.started.time),\"readyMs\":$(metrica application.ready.time)}"
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+}
+
+for _ in $(seq "${REPETICOES}"); do
+  medir padrao java -jar "${JAR}"
+  medir perfil java -jar "${JAR}" --spring.profiles.active=fast-start
+  medir fast-start java -XX:SharedArchiveFile="${DIRETORIO}/aplicacao.jsa" -Dspring.aot.enabled=true \
+      -jar "${JAR}" --spring.profiles.active=fast-start
+done
@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Teste de fumaça da imagem nativa, comparado com o mesmo build na JVM:
+#   jvm    - java -jar target/projeto-agenda-spring-boot-*.jar
+#   nativo - target/projeto-agenda-spring-boot (GraalVM native-image)
+#
+# Ambos rodam com a configuração padrão (H2 em memória). Para cada modo, o script mede o tempo do lançamento
+# até a primeira resposta 200 de GET /contatos, exercita criação, leitura, pesquisa, e-mail duplicado (409),
+# contato inexistente (404) e o Swagger UI, e registra a memória residente (RSS) ao final e o pico (VmHWM, Linux).
+# Qualquer status inesperado encerra o script com erro.
+#
+# Pré-requisitos: GraalVM com native-image, "mvn -Pnative native:compile -DskipTests" (gera o jar e o executável) e curl.
+# Uso: scripts/nativo-smoke.sh
+set -euo pipefail
+
+PORTA=8080
+BASE="http://localhost:${PORTA}"
+JAR="$(ls target/projeto-agenda-spring-boot-*.jar | grep -v original | head -n 1)"
+NATIVO=target/projeto-agenda-spring-boot
+
+esperar_status() {
+  local esperado="$1"
+  shift
+  local status
+  status="$(curl -s -o /dev/null -w '%{http_code}' "$@")"
+  if [ "${status}" != "${esperado}" ]; then
+    echo "Esperado ${esperado}, recebido ${status}: $*" >&2
+    exit 1
+  fi
+}
+
+fumaca() {
+  local corpo='{"nome":"Ana Souza","email":"ana@email.com","telefone":"(11) 91234-5678"}'
+  local local_criado
+  local_criado="$(curl -sf -o /dev/null -D - -H 'Content-Type: application/json' -d "${corpo}" "${BASE}/contatos" \
+    | tr -d '\r' | awk 'tolower($1) == "location:" { print $2 }')"
+  esperar_status 200 "${BASE}${local_criado}"
+  esperar_status 200 "${BASE}/contatos/search?nome=Ana"
+  esperar_status 409 -H 'Content-Type: application/json' -d "${corpo}" "${BASE}/contatos"
+  esperar_status 404 "${BASE}/contatos/999999"
+  esperar_status 200 "${BASE}/v3/api-docs"
+  esperar_status 200 "${BASE}/swagger-ui/index.html"
+}
+
+medir() {
+  local modo="$1"
+  shift
+  local inicio
+  inicio="$(date +%s%N)"
+  "$@" "--server.port=${PORTA}" "--spring.jpa.show-sql=false" > "target/smoke-${modo}.log" 2>&1 &
+  local pid=$!
+  trap "kill ${pid} 2>/dev/null || true" RETURN
+
+  until curl -sf -o /dev/null "${BASE}/contatos?limit=1"; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "O modo ${modo} terminou antes de responder; veja target/smoke-${modo}.log" >&2
+      exit 1
+    fi
+    sleep 0.005
+  done
+  local primeira=$(( ($(date +%s%N) - inicio) / 1000000 ))
+
+  fumaca
+  local rss pico
+  rss="$(ps -o rss= -p "${pid}" | tr -d ' ')"
+  pico="$(awk '/VmHWM/ { print $2 }' "/proc/${pid}/status" 2>/dev/null || echo null)"
+
+  echo "{\"modo\":\"${modo}\",\"primeiraRequisicaoMs\":${primeira},\"rssKb\":${rss},\"picoRssKb\":${pico:-null}}"
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+}
+
+medir jvm java -jar "${JAR}"
+medir nativo "${NATIVO}"
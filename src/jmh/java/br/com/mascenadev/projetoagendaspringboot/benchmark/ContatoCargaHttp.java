@@ -0,0 +1,113 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Gerador de carga HTTP simples para comparar modos de execução da API (threads de plataforma x virtuais).
+ * <p>
+ * Mantém {@code concorrencia} clientes em laço fechado contra a URL informada durante {@code segundos}
+ * e imprime uma linha JSON com vazão, latências p50/p99/máxima e quantidade de erros, para que execuções
+ * possam ser comparadas por script:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=br.com.mascenadev.projetoagendaspringboot.benchmark.ContatoCargaHttp \
+ *     -Dexec.args="http://localhost:8080/contatos?limit=20 200 30"
+ * </pre>
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+public final class ContatoCargaHttp {
+
+    private ContatoCargaHttp() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/contatos?limit=20");
+        int concorrencia = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient cliente = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest requisicao = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long fim = System.nanoTime() + Duration.ofSeconds(segundos).toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(concorrencia);
+        List<Future<Resultado>> futuros = new ArrayList<>(concorrencia);
+        for (int i = 0; i < concorrencia; i++) {
+            futuros.add(executor.submit(() -> executar(cliente, requisicao, fim)));
+        }
+
+        long[] latencias = new long[0];
+        long erros = 0;
+        for (Future<Resultado> futuro : futuros) {
+            Resultado resultado = futuro.get();
+            int anterior = latencias.length;
+            latencias = Arrays.copyOf(latencias, anterior + resultado.quantidade);
+            System.arraycopy(resultado.latencias, 0, latencias, anterior, resultado.quantidade);
+            erros += resultado.erros;
+        }
+        executor.shutdown();
+
+        Arrays.sort(latencias);
+        System.out.printf(
+                "{\"url\":\"%s\",\"concorrencia\":%d,\"segundos\":%d,\"requisicoes\":%d,\"erros\":%d,"
+                + "\"vazaoPorSegundo\":%.1f,\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"maxMs\":%.2f}%n",
+                uri, concorrencia, segundos, latencias.length, erros,
+                latencias.length / (double) segundos,
+                percentil(latencias, 0.50), percentil(latencias, 0.99), percentil(latencias, 1.0));
+    }
+
+    private static Resultado executar(HttpClient cliente, HttpRequest requisicao, long fim) {
+        Resultado resultado = new Resultado();
+        while (System.nanoTime() < fim) {
+            long inicio = System.nanoTime();
+            try {
+                HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                if (resposta.statusCode() >= 400) {
+                    resultado.erros++;
+                }
+            } catch (Exception e) {
+                resultado.erros++;
+            }
+            resultado.registrar(System.nanoTime() - inicio);
+        }
+        return resultado;
+    }
+
+    private static double percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, indice)] / 1_000_000.0;
+    }
+
+    private static final class Resultado {
+
+        private long[] latencias = new long[1024];
+
+        private int quantidade;
+
+        private long erros;
+
+        void registrar(long nanos) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = nanos;
+        }
+    }
+}
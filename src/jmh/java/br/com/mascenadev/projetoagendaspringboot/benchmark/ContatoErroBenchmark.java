@@ -0,0 +1,114 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.exception.ContatoNaoEncontradoException;
+import br.com.mascenadev.projetoagendaspringboot.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Mede a vazão de respostas 404 ({@code GET /contatos/{id}} de um contato inexistente) pelo Spring MVC
+ * (MockMvc, sem rede), comparando o tratamento anterior com o atual:
+ * <ul>
+ * <li>{@code anterior}: exceção com stack trace completo e mensagem montada no construtor, tratada com um
+ * corpo {@code {timestamp, status, error, details}} serializado pelo Jackson a cada requisição;</li>
+ * <li>{@code atual}: {@link ContatoNaoEncontradoException} sem stack trace e o {@link GlobalExceptionHandler},
+ * que devolve o {@code ProblemDetail} já serializado.</li>
+ * </ul>
+ * Rode com {@code -prof gc} para comparar também a alocação. Para medir com a aplicação no ar, use o
+ * {@link ContatoCargaHttp} contra {@code /contatos/999999} (todas as respostas contam como erro; compare a vazão).
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContatoErroBenchmark {
+
+    @Param({"anterior", "atual"})
+    private String tratamento;
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void preparar() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        boolean atual = "atual".equals(tratamento);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ContatosInexistentes(atual))
+                .setControllerAdvice(atual ? new GlobalExceptionHandler(objectMapper) : new TratamentoAnterior())
+                .build();
+    }
+
+    @Benchmark
+    public int buscarInexistente() throws Exception {
+        return mockMvc.perform(get("/contatos/{id}", 999_999L)).andReturn().getResponse().getStatus();
+    }
+
+    /**
+     * Controlador em que todo contato é inexistente.
+     */
+    @RestController
+    @RequestMapping("/contatos")
+    public static class ContatosInexistentes {
+
+        private final boolean atual;
+
+        ContatosInexistentes(boolean atual) {
+            this.atual = atual;
+        }
+
+        @GetMapping("/{id}")
+        public ContatoResponseDTO buscar(@PathVariable Long id) {
+            throw atual ? new ContatoNaoEncontradoException(id) : new NaoEncontradoAnterior(id);
+        }
+    }
+
+    /**
+     * Exceção de 404 como era antes: stack trace completo e mensagem montada a cada instância.
+     */
+    public static class NaoEncontradoAnterior extends RuntimeException {
+
+        NaoEncontradoAnterior(Long id) {
+            super("Contato com o ID:" + id + " não foi encontrado");
+        }
+    }
+
+    /**
+     * Corpo de erro anterior ao {@code ProblemDetail}.
+     */
+    public record ErroAnterior(LocalDateTime timestamp, int status, String error, Object details) {
+    }
+
+    /**
+     * Tratamento de 404 anterior: um novo corpo serializado a cada requisição.
+     */
+    @ControllerAdvice
+    public static class TratamentoAnterior {
+
+        @ExceptionHandler(NaoEncontradoAnterior.class)
+        public ResponseEntity<ErroAnterior> tratar(NaoEncontradoAnterior ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErroAnterior(
+                    LocalDateTime.now(), HttpStatus.NOT_FOUND.value(), "Contato não encontrado", ex.getMessage()));
+        }
+    }
+}
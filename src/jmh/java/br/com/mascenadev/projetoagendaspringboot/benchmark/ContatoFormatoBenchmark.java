@@ -0,0 +1,79 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPaginaResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compara os formatos negociáveis em {@code GET /contatos} (JSON, CBOR e Smile) para uma página de
+ * {@link ContatoResponseDTO}: tempo de serialização, tempo de leitura e bytes na rede.
+ * <p>
+ * Os tamanhos, com e sem gzip, são impressos uma vez por combinação de parâmetros, pois não dependem
+ * de medição repetida.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContatoFormatoBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    @Param({"50", "500"})
+    private int tamanho;
+
+    private ObjectMapper objectMapper;
+
+    private ContatoPaginaResponseDTO pagina;
+
+    private byte[] serializada;
+
+    @Setup
+    public void preparar() throws IOException {
+        objectMapper = switch (formato) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        pagina = new ContatoPaginaResponseDTO(ContatosFixture.respostas(tamanho), "MTIz");
+        serializada = objectMapper.writeValueAsBytes(pagina);
+        System.out.printf("%nformato=%s itens=%d bytes=%d gzip=%d%n",
+                formato, tamanho, serializada.length, gzip(serializada).length);
+    }
+
+    @Benchmark
+    public byte[] serializar() throws IOException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    /**
+     * Leitura em árvore, como faria um consumidor que não compartilha as classes de DTO.
+     */
+    @Benchmark
+    public JsonNode ler() throws IOException {
+        return objectMapper.readTree(serializada);
+    }
+
+    private static byte[] gzip(byte[] dados) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(dados);
+        }
+        return saida.toByteArray();
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoMapper;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo do mapeamento entre DTOs e a entidade {@link Contato}.
+ * <p>
+ * Os métodos {@code *BeanUtils} e {@code *Stream} reproduzem o mapeamento anterior ao {@link ContatoMapper}
+ * (cópia por reflexão e listas montadas por {@code Stream}) e servem de referência para comparação.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContatoMapeamentoBenchmark {
+
+    private ContatoRequestDTO request;
+
+    private Contato contato;
+
+    private List<Contato> contatos;
+
+    @Setup
+    public void preparar() {
+        request = ContatosFixture.request(42);
+        contato = ContatosFixture.contato(42);
+        contatos = new ArrayList<>(500);
+        for (int i = 0; i < 500; i++) {
+            contatos.add(ContatosFixture.contato(i));
+        }
+    }
+
+    @Benchmark
+    public Contato requestParaEntidade() {
+        return request.toEntity();
+    }
+
+    @Benchmark
+    public Contato requestParaEntidadeBeanUtils() {
+        Contato entidade = new Contato();
+        BeanUtils.copyProperties(request, entidade);
+        return entidade;
+    }
+
+    @Benchmark
+    public List<ContatoResponseDTO> listaParaResponse() {
+        return ContatoMapper.toResponseList(contatos);
+    }
+
+    @Benchmark
+    public List<ContatoResponseDTO> listaParaResponseStream() {
+        return contatos.stream().map(ContatoResponseDTO::new).toList();
+    }
+
+    @Benchmark
+    public ContatoResponseDTO entidadeParaResponse() {
+        return new ContatoResponseDTO(contato);
+    }
+}
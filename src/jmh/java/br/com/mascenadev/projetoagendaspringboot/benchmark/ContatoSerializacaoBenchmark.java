@@ -0,0 +1,44 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a serialização JSON de listas de {@link ContatoResponseDTO} com um {@link ObjectMapper}
+ * configurado como o do Spring MVC.
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContatoSerializacaoBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int tamanho;
+
+    private ObjectMapper objectMapper;
+
+    private List<ContatoResponseDTO> contatos;
+
+    @Setup
+    public void preparar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        contatos = ContatosFixture.respostas(tamanho);
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(contatos);
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.ProjetoAgendaSpringBootApplication;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.service.ContatoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede as operações CRUD do {@link ContatoService} contra um H2 em memória, com o contexto Spring completo
+ * (sem servidor web). O parâmetro {@code cache} compara a leitura por ID com e sem o cache Caffeine.
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContatoServiceBenchmark {
+
+    private static final int CONTATOS_INICIAIS = 10_000;
+
+    @Param({"caffeine", "none"})
+    private String cache;
+
+    private ConfigurableApplicationContext contexto;
+
+    private ContatoService contatoService;
+
+    private List<Long> ids;
+
+    private int proximo;
+
+    /**
+     * Índice do próximo contato criado pelos benchmarks de escrita, após os iniciais, para que os e-mails não se repitam.
+     */
+    private int novo = CONTATOS_INICIAIS;
+
+    @Setup
+    public void preparar() {
+        contexto = new SpringApplicationBuilder(ProjetoAgendaSpringBootApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.cache.type=" + cache,
+                        "logging.level.root=WARN")
+                .run();
+        contatoService = contexto.getBean(ContatoService.class);
+
+        List<Contato> contatos = new ArrayList<>(CONTATOS_INICIAIS);
+        for (int i = 0; i < CONTATOS_INICIAIS; i++) {
+            contatos.add(ContatosFixture.request(i).toEntity());
+        }
+        ids = contatoService.salvarEmLote(contatos).stream().map(Contato::getId).toList();
+    }
+
+    @TearDown
+    public void encerrar() {
+        contexto.close();
+    }
+
+    private Long proximoId() {
+        proximo = (proximo + 1) % ids.size();
+        return ids.get(proximo);
+    }
+
+    @Benchmark
+    public Contato salvar() {
+        return contatoService.salvar(ContatosFixture.request(novo++).toEntity());
+    }
+
+    @Benchmark
+    public Optional<Contato> buscarPorId() {
+        return contatoService.buscarPorId(proximoId());
+    }
+
+    @Benchmark
+    public List<Contato> buscarPagina() {
+        return contatoService.buscarTodos(proximoId(), 50);
+    }
+
+    @Benchmark
+    public Contato atualizar() {
+        Long id = proximoId();
+        return contatoService.atualizar(id, ContatosFixture.request(proximo).toEntity(), null);
+    }
+
+    @Benchmark
+    public void salvarEExcluir() {
+        Contato salvo = contatoService.salvar(ContatosFixture.request(novo++).toEntity());
+        contatoService.excluir(salvo.getId(), null);
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.ProjetoAgendaSpringBootApplication;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoRepository;
+import br.com.mascenadev.projetoagendaspringboot.service.ContatoService;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara fronteiras de transação para as mesmas operações, com o contexto Spring completo sobre um H2 em memória.
+ * <ul>
+ * <li>{@code leitura*}: uma página de 50 contatos seguida do detalhe do primeiro, em uma transação {@code readOnly}
+ * (sem snapshots nem flush) e em uma transação de leitura e escrita.</li>
+ * <li>{@code alteracao*}: o {@code PATCH} de um contato (alterar e reler) em uma única transação, como faz o
+ * {@link ContatoService}, e com cada comando em sua própria transação implícita do repositório.</li>
+ * </ul>
+ * <p>
+ * Além do tempo médio, cada resultado traz, por operação, as transações, os flushes e os comandos SQL preparados
+ * contados pelas estatísticas do Hibernate ({@code transacoes}, {@code flushes} e {@code instrucoes}).
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContatoTransacaoBenchmark {
+
+    private static final int CONTATOS_INICIAIS = 10_000;
+
+    private ConfigurableApplicationContext contexto;
+
+    private ContatoService contatoService;
+
+    private ContatoRepository contatoRepository;
+
+    private TransactionTemplate somenteLeitura;
+
+    private TransactionTemplate leituraEscrita;
+
+    private Statistics estatisticas;
+
+    private List<Long> ids;
+
+    private int proximo;
+
+    /**
+     * Contadores por operação, publicados pelo JMH ao lado do tempo médio.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Contadores {
+
+        public long transacoes;
+
+        public long flushes;
+
+        public long instrucoes;
+
+        private long transacoesAntes;
+
+        private long flushesAntes;
+
+        private long instrucoesAntes;
+
+        void antes(Statistics estatisticas) {
+            transacoesAntes = estatisticas.getTransactionCount();
+            flushesAntes = estatisticas.getFlushCount();
+            instrucoesAntes = estatisticas.getPrepareStatementCount();
+        }
+
+        void depois(Statistics estatisticas) {
+            transacoes += estatisticas.getTransactionCount() - transacoesAntes;
+            flushes += estatisticas.getFlushCount() - flushesAntes;
+            instrucoes += estatisticas.getPrepareStatementCount() - instrucoesAntes;
+        }
+    }
+
+    @Setup
+    public void preparar() {
+        contexto = new SpringApplicationBuilder(ProjetoAgendaSpringBootApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:jmh-transacao;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.cache.type=none",
+                        "agenda.outbox.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        contatoService = contexto.getBean(ContatoService.class);
+        contatoRepository = contexto.getBean(ContatoRepository.class);
+        PlatformTransactionManager transactionManager = contexto.getBean(PlatformTransactionManager.class);
+        somenteLeitura = new TransactionTemplate(transactionManager);
+        somenteLeitura.setReadOnly(true);
+        leituraEscrita = new TransactionTemplate(transactionManager);
+        estatisticas = contexto.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        List<Contato> contatos = new ArrayList<>(CONTATOS_INICIAIS);
+        for (int i = 0; i < CONTATOS_INICIAIS; i++) {
+            contatos.add(ContatosFixture.request(i).toEntity());
+        }
+        ids = contatoService.salvarEmLote(contatos).stream().map(Contato::getId).toList();
+    }
+
+    @TearDown
+    public void encerrar() {
+        contexto.close();
+    }
+
+    private Long proximoId() {
+        proximo = (proximo + 1) % (ids.size() - 100);
+        return ids.get(proximo);
+    }
+
+    @Benchmark
+    public Contato leituraSomenteLeitura(Contadores contadores) {
+        return ler(somenteLeitura, contadores);
+    }
+
+    @Benchmark
+    public Contato leituraLeituraEscrita(Contadores contadores) {
+        return ler(leituraEscrita, contadores);
+    }
+
+    @Benchmark
+    public Contato alteracaoUmaTransacao(Contadores contadores) {
+        Long id = proximoId();
+        contadores.antes(estatisticas);
+        Contato atualizado = contatoService.atualizarParcial(id, alteracao(id), null);
+        contadores.depois(estatisticas);
+        return atualizado;
+    }
+
+    @Benchmark
+    public Contato alteracaoTransacaoPorComando(Contadores contadores) {
+        Long id = proximoId();
+        Contato alteracoes = alteracao(id);
+        contadores.antes(estatisticas);
+        contatoRepository.atualizarParcial(TenantContext.PADRAO, id, null, alteracoes.getNome(), null, null);
+        Contato atualizado = contatoRepository.findByTenantIdAndId(TenantContext.PADRAO, id).orElseThrow();
+        contadores.depois(estatisticas);
+        return atualizado;
+    }
+
+    private Contato ler(TransactionTemplate transacao, Contadores contadores) {
+        long aposId = proximoId();
+        contadores.antes(estatisticas);
+        Contato detalhe = transacao.execute(status -> {
+            List<Contato> pagina = contatoRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(
+                    TenantContext.PADRAO, aposId, Limit.of(50));
+            return contatoRepository.findByTenantIdAndId(TenantContext.PADRAO, pagina.get(0).getId()).orElseThrow();
+        });
+        contadores.depois(estatisticas);
+        return detalhe;
+    }
+
+    private Contato alteracao(Long id) {
+        return new Contato("Contato alterado " + id, null, null);
+    }
+}
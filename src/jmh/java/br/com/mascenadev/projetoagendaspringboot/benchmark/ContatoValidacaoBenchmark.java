@@ -0,0 +1,83 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
+import br.com.mascenadev.projetoagendaspringboot.validation.ContatoValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a validação de {@link ContatoRequestDTO} pelo Bean Validation, incluindo o {@code @Pattern} do telefone,
+ * e pelo {@link ContatoValidator} usado nos controladores, para um contato válido e para um contato com todos os
+ * campos inválidos. Rode com {@code -prof gc} para comparar também a alocação por operação.
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContatoValidacaoBenchmark {
+
+    private ValidatorFactory factory;
+
+    private Validator validator;
+
+    private final ContatoValidator contatoValidator = new ContatoValidator();
+
+    private ContatoRequestDTO valido;
+
+    /**
+     * Resultado reaproveitado no caso válido, em que nenhum erro é registrado.
+     */
+    private Errors errosValido;
+
+    private ContatoRequestDTO invalido;
+
+    @Setup
+    public void preparar() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        valido = ContatosFixture.request(42);
+        invalido = new ContatoRequestDTO("Jo", "email-invalido", "11 912345678");
+        errosValido = new BeanPropertyBindingResult(valido, "contatoRequestDTO");
+    }
+
+    @TearDown
+    public void encerrar() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ContatoRequestDTO>> contatoValido() {
+        return validator.validate(valido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ContatoRequestDTO>> contatoInvalido() {
+        return validator.validate(invalido);
+    }
+
+    @Benchmark
+    public Errors validadorValido() {
+        contatoValidator.validate(valido, errosValido);
+        return errosValido;
+    }
+
+    @Benchmark
+    public Errors validadorInvalido() {
+        Errors erros = new BeanPropertyBindingResult(invalido, "contatoRequestDTO");
+        contatoValidator.validate(invalido, erros);
+        return erros;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dados de exemplo compartilhados pelos benchmarks.
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+final class ContatosFixture {
+
+    private ContatosFixture() {
+    }
+
+    static ContatoRequestDTO request(int i) {
+        return new ContatoRequestDTO("Contato " + i, "contato" + i + "@email.com", telefone(i));
+    }
+
+    static Contato contato(long i) {
+        Contato contato = new Contato("Contato " + i, "contato" + i + "@email.com", telefone(i));
+        contato.setId(i);
+        return contato;
+    }
+
+    static List<ContatoResponseDTO> respostas(int quantidade) {
+        List<ContatoResponseDTO> respostas = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            respostas.add(new ContatoResponseDTO(contato(i)));
+        }
+        return respostas;
+    }
+
+    private static String telefone(long i) {
+        return String.format("(11) 9%04d-%04d", (i / 10_000) % 10_000, i % 10_000);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.limite.BaldeDeTokens;
+import br.com.mascenadev.projetoagendaspringboot.limite.LimitadorConcorrencia;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo, com 4 threads, das verificações feitas pelo
+ * {@link br.com.mascenadev.projetoagendaspringboot.limite.LimiteInterceptor} em cada requisição:
+ * o {@link BaldeDeTokens} disputado por todas as threads (um único cliente), um balde por thread
+ * (clientes distintos) e o par adquirir/liberar do {@link LimitadorConcorrencia}.
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LimiteBenchmark {
+
+    private final BaldeDeTokens compartilhado = new BaldeDeTokens(1_000_000, 1_000);
+
+    private final LimitadorConcorrencia concorrencia =
+            new LimitadorConcorrencia(64, 4, 1_000, TimeUnit.MILLISECONDS.toNanos(200));
+
+    @State(Scope.Thread)
+    public static class Cliente {
+
+        private final BaldeDeTokens balde = new BaldeDeTokens(1_000_000, 1_000);
+    }
+
+    @Benchmark
+    public long mesmoCliente() {
+        return compartilhado.consumir(System.nanoTime());
+    }
+
+    @Benchmark
+    public long clientesDistintos(Cliente cliente) {
+        return cliente.balde.consumir(System.nanoTime());
+    }
+
+    @Benchmark
+    public boolean adquirirELiberar() {
+        if (!concorrencia.adquirir()) {
+            return false;
+        }
+        concorrencia.liberar(0, System.nanoTime());
+        return true;
+    }
+}
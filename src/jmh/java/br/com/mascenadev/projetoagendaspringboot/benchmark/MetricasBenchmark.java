@@ -0,0 +1,115 @@
+package br.com.mascenadev.projetoagendaspringboot.benchmark;
+
+import br.com.mascenadev.projetoagendaspringboot.ProjetoAgendaSpringBootApplication;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoCursor;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.metrics.MetricasHttpFilter;
+import br.com.mascenadev.projetoagendaspringboot.service.ContatoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Mede o custo da instrumentação no caminho real de uma requisição, com o contexto Spring completo e o
+ * {@link MockMvc}: o {@link MetricasHttpFilter} com a resposta que conta bytes, o {@code @Timed} do
+ * {@link ContatoService}, o {@link br.com.mascenadev.projetoagendaspringboot.metrics.ContadorDeConsultasInspector}
+ * e as estatísticas do Hibernate ({@code generate_statistics}).
+ * <p>
+ * O parâmetro {@code metricas} compara a aplicação instrumentada com a mesma aplicação sem o filtro, sem o aspecto
+ * do {@code @Timed} e sem as estatísticas do Hibernate. O inspetor continua registrado nos dois casos, mas sem o
+ * filtro não há contador vinculado à thread e ele só faz a leitura do {@link ThreadLocal}. A diferença entre os
+ * resultados é o overhead por requisição. O limite de requisições fica desligado para não interferir.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricasBenchmark {
+
+    private static final int CONTATOS_INICIAIS = 1_000;
+
+    @Param({"ligadas", "desligadas"})
+    private String metricas;
+
+    private ConfigurableApplicationContext contexto;
+
+    private MockMvc mockMvc;
+
+    private List<Long> ids;
+
+    private int proximo;
+
+    @Setup
+    public void preparar() {
+        boolean ligadas = metricas.equals("ligadas");
+        contexto = new SpringApplicationBuilder(ProjetoAgendaSpringBootApplication.class)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh_metricas;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=" + ligadas,
+                        "management.observations.annotations.enabled=" + ligadas,
+                        "agenda.limite.habilitado=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup((WebApplicationContext) contexto);
+        if (ligadas) {
+            FilterRegistrationBean<?> filtro = contexto.getBean("metricasHttpFilter", FilterRegistrationBean.class);
+            builder.addFilter(filtro.getFilter(), "/contatos/*");
+        }
+        mockMvc = builder.build();
+
+        List<Contato> contatos = new ArrayList<>(CONTATOS_INICIAIS);
+        for (int i = 0; i < CONTATOS_INICIAIS; i++) {
+            contatos.add(ContatosFixture.request(i).toEntity());
+        }
+        ids = contexto.getBean(ContatoService.class).salvarEmLote(contatos).stream().map(Contato::getId).toList();
+    }
+
+    @TearDown
+    public void encerrar() {
+        contexto.close();
+    }
+
+    private Long proximoId() {
+        proximo = (proximo + 1) % ids.size();
+        return ids.get(proximo);
+    }
+
+    /**
+     * Leitura por ID, quase sempre atendida pelo cache: mede o filtro e o {@code @Timed} sem SQL.
+     */
+    @Benchmark
+    public int buscarPorId() throws Exception {
+        return mockMvc.perform(get("/contatos/{id}", proximoId())).andReturn().getResponse().getStatus();
+    }
+
+    /**
+     * Página de 20 contatos: inclui a consulta SQL, contada pelo inspetor e pelas estatísticas do Hibernate.
+     */
+    @Benchmark
+    public int buscarPagina() throws Exception {
+        return mockMvc.perform(get("/contatos").param("limit", "20").param("cursor", ContatoCursor.codificar(proximoId())))
+                .andReturn().getResponse().getStatus();
+    }
+}
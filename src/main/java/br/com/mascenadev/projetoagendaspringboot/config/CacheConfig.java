@@ -0,0 +1,48 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * responsável por habilitar o **cache de leitura** de contatos.
+ * <p>
+ * O provedor é o **Caffeine**, configurado em {@code application.yaml} ({@code spring.cache.caffeine.spec})
+ * com limite de tamanho e tempo de expiração. Com o Actuator presente, o Spring Boot registra
+ * automaticamente as métricas de acertos, falhas e remoções do cache em {@code /actuator/metrics/cache.gets}
+ * e {@code /actuator/metrics/cache.evictions}.
+ * </p>
+ * <p>
+ * As chaves são prefixadas pelo tenant da requisição ({@link #CHAVE_ID} e {@link #CHAVE_RESULTADO}), de modo que
+ * contatos de tenants diferentes nunca compartilham entradas.
+ * </p>
+ * <p>
+ * O interceptador de cache roda por fora do transacional ({@link Ordered#HIGHEST_PRECEDENCE}): um acerto no cache
+ * não abre transação nem obtém conexão, e {@code @CachePut}/{@code @CacheEvict} só são aplicados após a confirmação.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see org.springframework.cache.annotation.EnableCaching
+ * @see br.com.mascenadev.projetoagendaspringboot.service.ContatoService
+ * @since 1.1.0
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Nome do cache que guarda contatos por ID.
+     */
+    public static final String CONTATOS = "contatos";
+
+    /**
+     * Expressão SpEL da chave de cache a partir do parâmetro {@code id}: {@code tenant:id}.
+     */
+    public static final String CHAVE_ID = "T(br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext).chave(#id)";
+
+    /**
+     * Expressão SpEL da chave de cache a partir do contato retornado: {@code tenant:id}.
+     */
+    public static final String CHAVE_RESULTADO = "T(br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext).chave(#result.id)";
+}
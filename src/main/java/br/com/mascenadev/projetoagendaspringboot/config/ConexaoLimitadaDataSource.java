@@ -0,0 +1,117 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link DataSource} que limita, por meio de um {@link Semaphore} justo, quantas threads podem
+ * estar com uma conexão ao mesmo tempo.
+ * <p>
+ * Com threads virtuais, milhares de requisições podem chegar simultaneamente ao pool de conexões.
+ * O semáforo, dimensionado com o mesmo tamanho do pool, faz as threads excedentes aguardarem em fila
+ * (FIFO) antes de chegar ao pool, com tempo máximo de espera. A espera em um {@link Semaphore} não fixa
+ * ({@code pin}) a thread virtual na thread de plataforma, ao contrário de blocos {@code synchronized}.
+ * </p>
+ * <p>
+ * A permissão é devolvida quando a conexão é fechada (devolvida ao pool).
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see VirtualThreadsConfig
+ * @since 1.1.0
+ */
+public class ConexaoLimitadaDataSource extends DelegatingDataSource {
+
+    private final Semaphore permissoes;
+
+    private final long esperaMaximaMillis;
+
+    /**
+     * Cria o {@link DataSource} limitado.
+     *
+     * @param alvo               O {@link DataSource} real (normalmente o pool Hikari).
+     * @param maximoConexoes     Quantidade máxima de conexões simultâneas, igual ao tamanho do pool.
+     * @param esperaMaximaMillis Tempo máximo, em milissegundos, que uma thread aguarda por uma permissão.
+     */
+    public ConexaoLimitadaDataSource(DataSource alvo, int maximoConexoes, long esperaMaximaMillis) {
+        super(alvo);
+        this.permissoes = new Semaphore(maximoConexoes, true);
+        this.esperaMaximaMillis = esperaMaximaMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Quantidade de threads aguardando uma permissão, útil para diagnóstico.
+     */
+    public int getThreadsAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Nenhuma conexão disponível após " + esperaMaximaMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+
+    /**
+     * Envolve a conexão em um proxy que devolve a permissão do semáforo no primeiro {@code close()}.
+     */
+    private Connection liberarAoFechar(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConexaoLimitadaDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    if ("close".equals(metodo.getName()) && liberada.compareAndSet(false, true)) {
+                        try {
+                            return metodo.invoke(conexao, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            permissoes.release();
+                        }
+                    }
+                    try {
+                        return metodo.invoke(conexao, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
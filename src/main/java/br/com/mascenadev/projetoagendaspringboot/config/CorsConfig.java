@@ -39,7 +39,7 @@ public class CorsConfig implements WebMvcConfigurer {
      * <li>**{@code .allowedOrigins("http://localhost:4200")}**: Permite que requisições vindas
      * especificamente do frontend Angular rodando em {@code http://localhost:4200} acessem a API.
      * **ATENÇÃO:** Em produção, esta origem deve ser o domínio real do seu frontend.</li>
-     * <li>**{@code .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")}**: Permite as operações HTTP padrão
+     * <li>**{@code .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")}**: Permite as operações HTTP padrão
      * de leitura, criação, atualização e exclusão, além do método OPTIONS (usado para preflight requests CORS).</li>
      * <li>**{@code .allowedHeaders("*")}**: Permite todos os cabeçalhos nas requisições.</li>
      * <li>**{@code .allowCredentials(true)}**: Permite que requisições incluam credenciais (como cookies ou
@@ -52,7 +52,7 @@ public class CorsConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/contatos/**")
                 .allowedOrigins("http://localhost:4200")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
@@ -0,0 +1,78 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoAlteracaoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoLoteItemResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoLoteResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPaginaResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPatchDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoSugestaoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.outbox.OutboxEvento;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoEmailProjection;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoNomeProjection;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * que declara as **dicas de reflexão, proxies e recursos** necessárias à imagem nativa (GraalVM).
+ * <p>
+ * O processamento AOT do Spring já cobre os beans, os controladores e os repositórios, mas não enxerga os tipos
+ * usados fora das assinaturas dos endpoints: os DTOs serializados manualmente (feed de alterações e outbox),
+ * o {@link ProblemDetail} serializado pelos tratadores de exceção, as entidades lidas pelo Hibernate e validadas pelo
+ * Bean Validation, as projeções por interface e os arquivos estáticos do Swagger UI. Em uma JVM comum
+ * estas dicas não têm efeito.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see AgendaRuntimeHints
+ * @since 1.1.0
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.AgendaRuntimeHints.class)
+public class NativeHintsConfig {
+
+    /**
+     * Registra as dicas da aplicação de agenda.
+     */
+    static class AgendaRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Campos, construtores e getters lidos pelo Jackson
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    ContatoRequestDTO.class, ContatoPatchDTO.class, ContatoResponseDTO.class,
+                    ContatoPaginaResponseDTO.class, ContatoLoteResponseDTO.class, ContatoLoteItemResponseDTO.class,
+                    ContatoSugestaoResponseDTO.class, ContatoAlteracaoResponseDTO.class, ProblemDetail.class,
+                    ProblemDetailJacksonMixin.class, OpenAPI.class, Info.class, License.class);
+
+            // Entidades (Hibernate) e tipos validados (anotações de campo do Bean Validation, callbacks JPA)
+            for (Class<?> tipo : new Class<?>[]{Contato.class, OutboxEvento.class, ContatoRequestDTO.class, ContatoPatchDTO.class}) {
+                hints.reflection().registerType(tipo,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            // Projeções por interface do Spring Data, implementadas com proxies JDK
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(ContatoNomeProjection.class, TargetAware.class));
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(ContatoEmailProjection.class, TargetAware.class));
+
+            // Swagger UI servido pelo Springdoc a partir do webjar
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * que separa as conexões de **leitura** (réplica) e de **escrita** (primário).
+ * <p>
+ * Ativa apenas quando {@code agenda.datasource.replica.url} está definida (veja o perfil {@code replica} em
+ * {@code application-prod.yaml}). Nesse caso, o {@link DataSource} da aplicação passa a ser um
+ * {@link LazyConnectionDataSourceProxy} à frente de um {@link RoteamentoDataSource}, que escolhe entre dois pools Hikari:
+ * </p>
+ * <ul>
+ * <li>{@code primario}: configurado por {@code spring.datasource.*}, recebe as escritas e as leituras logo após uma escrita;</li>
+ * <li>{@code replica}: configurado por {@code agenda.datasource.replica.*}, recebe as transações
+ * {@code @Transactional(readOnly = true)}, inclusive as consultas dos repositórios Spring Data.</li>
+ * </ul>
+ * <p>
+ * O esquema é criado e atualizado apenas no primário; a réplica deve recebê-lo pela replicação do banco.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see RoteamentoDataSource
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "agenda.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * @return As propriedades de conexão do primário ({@code spring.datasource.*}).
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primarioDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * @param properties As propriedades de conexão do primário.
+     * @return O pool de conexões do primário, ajustável em {@code spring.datasource.hikari.*}.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(@Qualifier("primarioDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    /**
+     * @return As propriedades de conexão da réplica ({@code agenda.datasource.replica.*}).
+     */
+    @Bean
+    @ConfigurationProperties("agenda.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * @param properties As propriedades de conexão da réplica.
+     * @return O pool de conexões da réplica, ajustável em {@code agenda.datasource.replica.hikari.*}.
+     */
+    @Bean
+    @ConfigurationProperties("agenda.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Cria o roteador entre primário e réplica. É um bean próprio para receber os {@code ContatoAlteradoEvent} que
+     * abrem a janela de leitura após escrita.
+     *
+     * @param primario                 O pool do primário.
+     * @param replica                  O pool da réplica.
+     * @param janelaLeituraAposEscrita Por quanto tempo, após uma escrita, as leituras do mesmo tenant ficam no primário
+     *                                 ({@code agenda.datasource.replica.leitura-apos-escrita}).
+     * @return O roteador.
+     */
+    @Bean
+    public RoteamentoDataSource roteamentoDataSource(@Qualifier("primarioDataSource") DataSource primario,
+                                                     @Qualifier("replicaDataSource") DataSource replica,
+                                                     @Value("${agenda.datasource.replica.leitura-apos-escrita:2s}") Duration janelaLeituraAposEscrita) {
+        return new RoteamentoDataSource(primario, replica, janelaLeituraAposEscrita);
+    }
+
+    /**
+     * Cria o {@link DataSource} usado pelo JPA, pelo gerenciador de transações e pelos demais componentes da aplicação.
+     *
+     * @param roteamento O roteador entre primário e réplica.
+     * @return O {@link DataSource} roteado, com obtenção de conexão adiada até o primeiro comando.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteamentoDataSource roteamento) {
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link DataSource} que envia as transações somente leitura para a **réplica** e as demais para o **primário**.
+ * <p>
+ * A decisão é tomada quando a conexão é de fato obtida, a partir de
+ * {@link TransactionSynchronizationManager#isCurrentTransactionReadOnly()}. Por isso este roteador deve ficar atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: o gerenciador de transações JPA pede a
+ * conexão antes de marcar a transação como somente leitura, e o proxy adia a obtenção até o primeiro comando SQL.
+ * </p>
+ * <p>
+ * **Leitura após escrita:** quando a alteração de um contato é confirmada ({@link ContatoAlteradoEvent}), as leituras
+ * do mesmo tenant continuam no primário durante {@code janelaLeituraAposEscrita}, o atraso máximo de replicação
+ * esperado. Assim, um cliente que acabou de criar ou alterar um contato não recebe da réplica o estado anterior.
+ * Transações de escrita que não alteram contatos, como as do
+ * {@link br.com.mascenadev.projetoagendaspringboot.outbox.OutboxDispatcher}, vão para o primário sem afetar a janela.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ReplicaDataSourceConfig
+ * @since 1.1.0
+ */
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Destino das conexões.
+     */
+    public enum Destino {
+        PRIMARIO, REPLICA
+    }
+
+    private final long janelaNanos;
+
+    /**
+     * Instante ({@link System#nanoTime()}) da última alteração de contato confirmada de cada tenant.
+     */
+    private final Map<String, Long> ultimaEscrita = new ConcurrentHashMap<>();
+
+    /**
+     * @param primario                 O {@link DataSource} do banco primário.
+     * @param replica                  O {@link DataSource} da réplica de leitura.
+     * @param janelaLeituraAposEscrita Por quanto tempo, após uma escrita, as leituras do mesmo tenant ficam no primário.
+     */
+    public RoteamentoDataSource(DataSource primario, DataSource replica, Duration janelaLeituraAposEscrita) {
+        this.janelaNanos = janelaLeituraAposEscrita.toNanos();
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return destinoAtual();
+    }
+
+    /**
+     * @return O destino da conexão pedida agora, na thread atual.
+     */
+    public Destino destinoAtual() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Destino.PRIMARIO;
+        }
+        Long escrita = ultimaEscrita.get(TenantContext.atual());
+        if (escrita != null && System.nanoTime() - escrita < janelaNanos) {
+            return Destino.PRIMARIO;
+        }
+        return Destino.REPLICA;
+    }
+
+    /**
+     * Marca o tenant do contato como recém-escrito, depois que a transação da alteração é confirmada.
+     *
+     * @param event A alteração do contato.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void registrarEscrita(ContatoAlteradoEvent event) {
+        ultimaEscrita.put(event.tenantId(), System.nanoTime());
+    }
+}
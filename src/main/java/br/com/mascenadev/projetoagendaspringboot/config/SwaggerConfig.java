@@ -5,6 +5,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,6 +18,10 @@ import org.springframework.context.annotation.Configuration;
  * geralmente acessível em {@code /swagger-ui.html} ou {@code /swagger-ui/index.html},
  * permitindo a exploração e teste dos endpoints da API de forma intuitiva.
  * </p>
+ * <p>
+ * Desativada junto com o Springdoc quando {@code springdoc.api-docs.enabled=false}, como no perfil
+ * {@code fast-start}, para que nenhum dos dois custe tempo de inicialização.
+ * </p>
  *
  * @author Gilberto Dev
  * @see io.swagger.v3.oas.models.OpenAPI
@@ -25,6 +30,7 @@ import org.springframework.context.annotation.Configuration;
  * @since 1.0.0
  */
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "true", matchIfMissing = true)
 public class SwaggerConfig {
 
     /**
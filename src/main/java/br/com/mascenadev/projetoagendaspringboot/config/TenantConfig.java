@@ -0,0 +1,27 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * responsável por registrar o {@link TenantInterceptor} nos endpoints de contatos.
+ * <p>
+ * Com isso, toda requisição em {@code /contatos} é atendida no escopo do tenant informado em
+ * {@value br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext#HEADER}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext
+ * @since 1.1.0
+ */
+@Configuration
+public class TenantConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TenantInterceptor()).addPathPatterns("/contatos", "/contatos/**");
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * que declara explicitamente o gerenciador de transações JPA.
+ * <p>
+ * JPA e R2DBC estão no classpath, mas cada modo usa apenas um deles: fora do perfil {@code reactive} a
+ * autoconfiguração do R2DBC é excluída ({@code application.yaml}), e no perfil {@code reactive} não há JPA.
+ * Declarar o {@link JpaTransactionManager} como {@link Primary} garante que {@code @Transactional} e o
+ * {@code TransactionTemplate} usem o JPA mesmo que um gerenciador reativo seja registrado por outra configuração;
+ * a variante reativa usa o gerenciador do R2DBC de forma explícita, por meio de um {@code TransactionalOperator}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.service.ContatoReactiveService
+ * @since 1.1.0
+ */
+@Configuration
+@Profile("!reactive")
+public class TransacaoConfig {
+
+    /**
+     * Cria o gerenciador de transações JPA principal da aplicação.
+     *
+     * @param entityManagerFactory A fábrica de {@code EntityManager} configurada pelo Spring Boot.
+     * @param customizers          Personalizações do Spring Boot (por exemplo, {@code spring.transaction.default-timeout}).
+     * @return O {@link JpaTransactionManager} usado por {@code @Transactional}.
+     */
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                    ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * ativa apenas no **modo de threads virtuais** ({@code spring.threads.virtual.enabled=true}, Java 21+).
+ * <p>
+ * Nesse modo, o Tomcat atende cada requisição em uma thread virtual e deixa de existir o limite natural
+ * imposto pelo pool de threads de trabalho. Para que a concorrência alta não esgote o pool de conexões
+ * usado pelo {@link br.com.mascenadev.projetoagendaspringboot.repository.ContatoRepository}, o
+ * {@link DataSource} é envolvido em um {@link ConexaoLimitadaDataSource} dimensionado com o tamanho do pool Hikari.
+ * </p>
+ * <p>
+ * Para ativar: {@code java -jar app.jar --spring.profiles.active=prod,virtual-threads}
+ * (veja {@code application-prod.yaml}) com o artefato gerado por {@code mvn -Pjava21 package}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ConexaoLimitadaDataSource
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    /**
+     * Registra o {@link BeanPostProcessor} que envolve o {@link DataSource} da aplicação.
+     * <p>
+     * O método é {@code static} para que o pós-processador seja criado antes dos demais beans.
+     * </p>
+     *
+     * @return O pós-processador que aplica o {@link ConexaoLimitadaDataSource}.
+     */
+    @Bean
+    public static BeanPostProcessor conexaoLimitadaDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConexaoLimitadaDataSource(
+                            hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,18 +1,49 @@
 package br.com.mascenadev.projetoagendaspringboot.controller;
 
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoCursor;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoEtag;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoLoteItemResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoLoteResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoMapper;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPaginaResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPatchDTO;
 import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
 import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoSugestaoResponseDTO;
 import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteracoesFeed;
 import br.com.mascenadev.projetoagendaspringboot.exception.ContatoNaoEncontradoException;
+import br.com.mascenadev.projetoagendaspringboot.exception.RequisicaoInvalidaException;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoUpsertRepository;
 import br.com.mascenadev.projetoagendaspringboot.service.ContatoService;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import br.com.mascenadev.projetoagendaspringboot.validation.ContatoValidator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * **Controlador REST** ({@link org.springframework.web.bind.annotation.RestController})
@@ -24,6 +55,12 @@ import java.util.stream.Collectors;
  * </p>
  * <p>
  * Todos os endpoints deste controlador são acessíveis sob o caminho base {@code /contatos}.
+ * No perfil {@code reactive}, o mesmo contrato é atendido pelo {@link ContatoReactiveController}.
+ * </p>
+ * <p>
+ * As listagens são negociadas pelo cabeçalho {@code Accept}: além de JSON, podem ser entregues em
+ * CBOR ({@value MediaType#APPLICATION_CBOR_VALUE}) ou Smile ({@value #APPLICATION_SMILE_VALUE}),
+ * formatos binários menores e mais rápidos de interpretar, destinados a consumidores internos.
  * </p>
  *
  * @author Gilberto Dev
@@ -35,10 +72,46 @@ import java.util.stream.Collectors;
  */
 @RestController
 @RequestMapping("/contatos")
+@Profile("!reactive")
 public class ContatoController {
 
+    /**
+     * Tipo de mídia do formato binário Smile do Jackson.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    /**
+     * Tamanho máximo de página aceito na listagem, para limitar o custo de uma única requisição.
+     */
+    private static final int LIMITE_MAXIMO = 500;
+
+    /**
+     * Quantidade máxima de contatos aceita em uma única requisição de importação em lote.
+     */
+    private static final int LIMITE_LOTE = 10_000;
+
+    /**
+     * Erro dos itens de importação rejeitados por e-mail já cadastrado.
+     */
+    private static final Map<String, String> EMAIL_DUPLICADO = Map.of("email", "Já existe um contato com este e-mail");
+
+    /**
+     * Erro dos itens do {@code PUT /contatos/batch} cujo e-mail repete o de um item anterior.
+     */
+    private static final Map<String, String> EMAIL_REPETIDO_NO_LOTE = Map.of("email", "E-mail repetido em outro item do lote");
+
     private final ContatoService contatoService;
 
+    private final ContatoValidator contatoValidator;
+
+    private final ContatoAlteracoesFeed alteracoesFeed;
+
+    /**
+     * Writer JSON usado na exportação NDJSON. Não fecha nem descarrega a saída a cada linha,
+     * deixando o buffer do servlet agrupar as escritas.
+     */
+    private final ObjectWriter exportWriter;
+
     /**
      * Construtor para injeção de dependência do serviço de contatos no controlador.
      * <p>
@@ -46,10 +119,30 @@ public class ContatoController {
      * quando o controlador é criado.
      * </p>
      *
-     * @param contatoService O serviço de contatos que contém a lógica de negócio para manipulação de contatos.
+     * @param contatoService   O serviço de contatos que contém a lógica de negócio para manipulação de contatos.
+     * @param objectMapper     O {@link ObjectMapper} configurado pela aplicação, usado na exportação em streaming.
+     * @param contatoValidator O {@link ContatoValidator} aplicado aos DTOs marcados com {@code @Valid}.
+     * @param alteracoesFeed   O feed de alterações distribuído em {@code GET /contatos/changes}.
      */
-    public ContatoController(ContatoService contatoService) {
+    public ContatoController(ContatoService contatoService, ObjectMapper objectMapper, ContatoValidator contatoValidator,
+                             ContatoAlteracoesFeed alteracoesFeed) {
         this.contatoService = contatoService;
+        this.contatoValidator = contatoValidator;
+        this.alteracoesFeed = alteracoesFeed;
+        this.exportWriter = objectMapper.writerFor(ContatoResponseDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Valida os corpos {@code @Valid} de criação, atualização e atualização parcial com o {@link ContatoValidator},
+     * no lugar do Bean Validation. Os erros continuam chegando como {@code MethodArgumentNotValidException}.
+     *
+     * @param binder O binder do {@link ContatoRequestDTO} ou do {@link ContatoPatchDTO}.
+     */
+    @InitBinder({"contatoRequestDTO", "contatoPatchDTO"})
+    public void configurarValidador(WebDataBinder binder) {
+        binder.setValidator(contatoValidator);
     }
 
     /**
@@ -76,7 +169,132 @@ public class ContatoController {
         Contato contato = request.toEntity();
         Contato salvo = contatoService.salvar(contato);
         URI location = URI.create("/contatos/" + salvo.getId());
-        return ResponseEntity.created(location).body(new ContatoResponseDTO(salvo));
+        return ResponseEntity.created(location).eTag(ContatoEtag.deContato(salvo)).body(new ContatoResponseDTO(salvo));
+    }
+
+    /**
+     * Cria vários contatos em uma única requisição.
+     * <p>
+     * Este endpoint {@code POST /contatos/batch} valida cada {@link ContatoRequestDTO} individualmente:
+     * os itens inválidos são rejeitados com seus erros por campo, e os válidos são persistidos em blocos
+     * transacionais com inserções em lote JDBC através do {@link ContatoService}. Itens cujo e-mail já está
+     * cadastrado, ou repete o de um item anterior, são rejeitados com status 409.
+     * </p>
+     * <p>
+     * A resposta traz um resultado por item, na mesma ordem da requisição, e o status HTTP 200 (OK).
+     * </p>
+     *
+     * @param requests Lista de contatos a serem criados (no máximo {@value #LIMITE_LOTE} por requisição).
+     * @return {@link ResponseEntity} contendo o {@link ContatoLoteResponseDTO} com o resultado de cada item.
+     * @throws RequisicaoInvalidaException Se o lote exceder o tamanho máximo permitido.
+     * @see ContatoService#salvarEmLote(List)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ContatoLoteResponseDTO> salvarEmLote(@RequestBody List<ContatoRequestDTO> requests) {
+        ContatoLoteItemResponseDTO[] itens = new ContatoLoteItemResponseDTO[requests.size()];
+        List<Integer> indicesValidos = new ArrayList<>(requests.size());
+        List<Contato> validos = validarLote(requests, itens, indicesValidos);
+
+        List<Contato> salvos = contatoService.salvarEmLote(validos);
+        int quantidadeSalvos = 0;
+        for (int i = 0; i < salvos.size(); i++) {
+            int indice = indicesValidos.get(i);
+            Contato salvo = salvos.get(i);
+            if (salvo != null) {
+                itens[indice] = new ContatoLoteItemResponseDTO(indice, HttpStatus.CREATED.value(), salvo.getId(), Map.of());
+                quantidadeSalvos++;
+            } else {
+                itens[indice] = new ContatoLoteItemResponseDTO(indice, HttpStatus.CONFLICT.value(), null, EMAIL_DUPLICADO);
+            }
+        }
+
+        return ResponseEntity.ok(new ContatoLoteResponseDTO(
+                requests.size(), quantidadeSalvos, requests.size() - quantidadeSalvos, List.of(itens)));
+    }
+
+    /**
+     * Cria ou atualiza vários contatos em uma única requisição, identificando cada um pelo e-mail.
+     * <p>
+     * Este endpoint {@code PUT /contatos/batch} é idempotente: reenviar o mesmo lote não altera nada. Cada item
+     * válido recebe o status 201 se criou um contato, 200 se atualizou o contato com o mesmo e-mail, ou 304 se esse
+     * contato já tinha os mesmos dados. Itens inválidos são rejeitados com status 400, como no {@code POST}, assim
+     * como os que repetem o e-mail (normalizado) de um item anterior: no mesmo lote, o resultado de cada item
+     * dependeria da ordem de gravação. O total de salvos conta apenas os itens com status 201 ou 200; os
+     * itens com status 304 não entram nem nos salvos nem nos rejeitados.
+     * </p>
+     *
+     * @param requests Lista de contatos a gravar (no máximo {@value #LIMITE_LOTE} por requisição), com e-mails distintos.
+     * @return {@link ResponseEntity} contendo o {@link ContatoLoteResponseDTO} com o resultado de cada item.
+     * @throws RequisicaoInvalidaException Se o lote exceder o tamanho máximo permitido.
+     * @see ContatoService#salvarOuAtualizarEmLote(List)
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<ContatoLoteResponseDTO> salvarOuAtualizarEmLote(@RequestBody List<ContatoRequestDTO> requests) {
+        ContatoLoteItemResponseDTO[] itens = new ContatoLoteItemResponseDTO[requests.size()];
+        List<Integer> indicesValidos = new ArrayList<>(requests.size());
+        List<Contato> validos = rejeitarEmailsRepetidos(validarLote(requests, itens, indicesValidos), itens, indicesValidos);
+
+        List<ContatoUpsertRepository.Resultado> resultados = contatoService.salvarOuAtualizarEmLote(validos);
+        int quantidadeSalvos = 0;
+        for (int i = 0; i < resultados.size(); i++) {
+            int indice = indicesValidos.get(i);
+            ContatoUpsertRepository.Resultado resultado = resultados.get(i);
+            HttpStatus status = !resultado.alterado() ? HttpStatus.NOT_MODIFIED
+                    : resultado.versao() == 0 ? HttpStatus.CREATED : HttpStatus.OK;
+            itens[indice] = new ContatoLoteItemResponseDTO(indice, status.value(), resultado.id(), Map.of());
+            if (resultado.alterado()) {
+                quantidadeSalvos++;
+            }
+        }
+
+        return ResponseEntity.ok(new ContatoLoteResponseDTO(
+                requests.size(), quantidadeSalvos, requests.size() - resultados.size(), List.of(itens)));
+    }
+
+    /**
+     * Rejeita com status 400 os contatos válidos cujo e-mail normalizado repete o de um item anterior do lote,
+     * removendo-os de {@code validos} e de {@code indicesValidos}.
+     */
+    private static List<Contato> rejeitarEmailsRepetidos(List<Contato> validos, ContatoLoteItemResponseDTO[] itens,
+                                                         List<Integer> indicesValidos) {
+        Set<String> emails = new HashSet<>(validos.size() * 2);
+        List<Contato> distintos = new ArrayList<>(validos.size());
+        List<Integer> indicesDistintos = new ArrayList<>(validos.size());
+        for (int i = 0; i < validos.size(); i++) {
+            Contato contato = validos.get(i);
+            int indice = indicesValidos.get(i);
+            if (emails.add(Contato.normalizarEmail(contato.getEmail()))) {
+                distintos.add(contato);
+                indicesDistintos.add(indice);
+            } else {
+                itens[indice] = new ContatoLoteItemResponseDTO(indice, HttpStatus.BAD_REQUEST.value(), null, EMAIL_REPETIDO_NO_LOTE);
+            }
+        }
+        indicesValidos.clear();
+        indicesValidos.addAll(indicesDistintos);
+        return distintos;
+    }
+
+    /**
+     * Valida os itens de uma importação em lote, registrando em {@code itens} os rejeitados (400) e em
+     * {@code indicesValidos} a posição de cada contato válido devolvido.
+     */
+    private List<Contato> validarLote(List<ContatoRequestDTO> requests, ContatoLoteItemResponseDTO[] itens,
+                                      List<Integer> indicesValidos) {
+        if (requests.size() > LIMITE_LOTE) {
+            throw new RequisicaoInvalidaException("O lote deve conter no máximo " + LIMITE_LOTE + " contatos");
+        }
+        List<Contato> validos = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> erros = validar(requests.get(i));
+            if (erros.isEmpty()) {
+                validos.add(requests.get(i).toEntity());
+                indicesValidos.add(i);
+            } else {
+                itens[i] = new ContatoLoteItemResponseDTO(i, HttpStatus.BAD_REQUEST.value(), null, erros);
+            }
+        }
+        return validos;
     }
 
     /**
@@ -85,40 +303,162 @@ public class ContatoController {
      * Este endpoint {@code GET /contatos/{id}} recebe o ID de um contato como parte da URL.
      * Ele tenta localizar o contato no banco de dados.
      * </p>
+     * <p>
+     * A resposta traz a versão do contato no cabeçalho {@code ETag}. Se o cliente enviar a mesma ETag em
+     * {@code If-None-Match}, a resposta é {@code 304 Not Modified}, sem corpo e sem serialização.
+     * </p>
      *
-     * @param id O identificador único ({@code Long}) do contato a ser buscado.
-     * @return {@link ResponseEntity} contendo o {@link ContatoResponseDTO} do contato encontrado e o status HTTP 200 (OK).
+     * @param id         O identificador único ({@code Long}) do contato a ser buscado.
+     * @param webRequest A requisição atual, usada para avaliar o {@code If-None-Match}.
+     * @return {@link ResponseEntity} contendo o {@link ContatoResponseDTO} do contato encontrado e o status HTTP 200 (OK),
+     * ou {@code null} quando a resposta {@code 304} já foi preparada.
      * @throws ContatoNaoEncontradoException Se o contato com o ID fornecido não for encontrado na base de dados,
      *                                       resultando em um status HTTP 404 (Not Found).
      * @see ContatoService#buscarPorId(Long)
      * @see ContatoResponseDTO
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ContatoResponseDTO> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<ContatoResponseDTO> buscarPorId(@PathVariable Long id, WebRequest webRequest) {
         Contato contato = contatoService.buscarPorId(id)
                 .orElseThrow(() -> new ContatoNaoEncontradoException(id));
-        return ResponseEntity.ok(new ContatoResponseDTO(contato));
+        String etag = ContatoEtag.deContato(contato);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(new ContatoResponseDTO(contato));
     }
 
     /**
-     * Retorna uma lista de todos os contatos cadastrados no sistema.
+     * Retorna uma página de contatos cadastrados no sistema, paginada por cursor.
      * <p>
-     * Este endpoint {@code GET /contatos} recupera todos os registros de contatos do banco de dados,
-     * os converte para uma lista de {@link ContatoResponseDTO} e os retorna ao cliente.
+     * Este endpoint {@code GET /contatos} lê apenas os contatos seguintes ao cursor informado,
+     * em ordem de ID, em vez de carregar a tabela inteira. Uma linha extra é buscada para descobrir
+     * se existe próxima página sem a necessidade de uma consulta de contagem.
+     * </p>
+     * <p>
+     * A ETag da página é derivada dos IDs e versões dos contatos retornados ({@link ContatoEtag}); com um
+     * {@code If-None-Match} igual, a resposta é {@code 304 Not Modified} e a página não é serializada.
      * </p>
      *
-     * @return {@link ResponseEntity} contendo uma {@link java.util.List} de {@link ContatoResponseDTO}
-     * com todos os contatos cadastrados e o status HTTP 200 (OK).
-     * @see ContatoService#buscarTodos()
-     * @see ContatoResponseDTO
+     * @param cursor     Cursor opaco devolvido pela página anterior; ausente para a primeira página.
+     * @param limit      Quantidade máxima de contatos na página (entre 1 e {@value #LIMITE_MAXIMO}).
+     * @param webRequest A requisição atual, usada para avaliar o {@code If-None-Match}.
+     * @return {@link ResponseEntity} contendo um {@link ContatoPaginaResponseDTO} e o status HTTP 200 (OK),
+     * ou {@code null} quando a resposta {@code 304} já foi preparada.
+     * @throws br.com.mascenadev.projetoagendaspringboot.exception.RequisicaoInvalidaException Se o cursor for inválido,
+     *                                                                                         resultando em um status HTTP 400 (Bad Request).
+     * @see ContatoService#buscarTodos(Long, int)
+     * @see ContatoCursor
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ContatoPaginaResponseDTO> buscarTodos(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "50") int limit,
+                                                                WebRequest webRequest) {
+        int tamanho = Math.max(1, Math.min(limit, LIMITE_MAXIMO));
+        List<Contato> contatos = contatoService.buscarTodos(ContatoCursor.decodificar(cursor), tamanho + 1);
+
+        boolean temProxima = contatos.size() > tamanho;
+        String etag = ContatoEtag.dePagina(contatos, tamanho, temProxima);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<ContatoResponseDTO> itens = ContatoMapper.toResponseList(contatos, tamanho);
+        String proximoCursor = temProxima ? ContatoCursor.codificar(itens.get(tamanho - 1).getId()) : null;
+
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(new ContatoPaginaResponseDTO(itens, proximoCursor));
+    }
+
+    /**
+     * Pesquisa contatos por prefixo de nome ou por e-mail/telefone exatos.
+     * <p>
+     * Este endpoint {@code GET /contatos/search} evita que o cliente precise baixar a agenda inteira
+     * para filtrar localmente. Cada critério é atendido por um índice do banco de dados;
+     * quando mais de um é informado, prevalece {@code email}, depois {@code telefone} e por fim {@code nome}.
+     * </p>
+     *
+     * @param nome     Prefixo do nome procurado.
+     * @param email    E-mail exato procurado.
+     * @param telefone Telefone exato procurado.
+     * @param limit    Quantidade máxima de contatos retornados (entre 1 e {@value #LIMITE_MAXIMO}).
+     * @return {@link ResponseEntity} contendo a lista de {@link ContatoResponseDTO} encontrados e o status HTTP 200 (OK).
+     * @throws RequisicaoInvalidaException Se nenhum critério for informado, resultando em um status HTTP 400 (Bad Request).
+     * @see ContatoService#pesquisar(String, String, String, int)
+     */
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<List<ContatoResponseDTO>> pesquisar(@RequestParam(required = false) String nome,
+                                                              @RequestParam(required = false) String email,
+                                                              @RequestParam(required = false) String telefone,
+                                                              @RequestParam(defaultValue = "20") int limit) {
+        int tamanho = Math.max(1, Math.min(limit, LIMITE_MAXIMO));
+        List<Contato> contatos = contatoService.pesquisar(nome, email, telefone, tamanho);
+        return ResponseEntity.ok(ContatoMapper.toResponseList(contatos));
+    }
+
+    /**
+     * Sugere contatos para o autocompletar do campo de nome.
+     * <p>
+     * Este endpoint {@code GET /contatos/autocomplete} é chamado a cada tecla digitada, por isso é atendido
+     * por um índice em memória em vez do banco de dados. A comparação ignora maiúsculas e acentos, e
+     * nomes que começam com o termo aparecem antes dos que apenas o contêm.
+     * </p>
+     *
+     * @param q     Texto digitado pelo usuário.
+     * @param limit Quantidade máxima de sugestões (entre 1 e 50).
+     * @return {@link ResponseEntity} contendo a lista de {@link ContatoSugestaoResponseDTO} e o status HTTP 200 (OK).
+     * @see ContatoService#autocompletar(String, int)
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ContatoSugestaoResponseDTO>> autocompletar(@RequestParam String q,
+                                                                          @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(contatoService.autocompletar(q, Math.max(1, Math.min(limit, 50))));
+    }
+
+    /**
+     * Assina o feed de alterações de contatos via Server-Sent Events.
+     * <p>
+     * Este endpoint {@code GET /contatos/changes} mantém a conexão aberta e envia um evento {@code contato}
+     * para cada criação, alteração ou exclusão confirmada, com um {@link br.com.mascenadev.projetoagendaspringboot.dtos.ContatoAlteracaoResponseDTO}
+     * em JSON. Ao reconectar, o navegador envia o cabeçalho {@code Last-Event-ID} e recebe os eventos perdidos;
+     * um evento {@code reset} indica que eles não estão mais disponíveis e que a listagem deve ser recarregada.
+     * Apenas as alterações do tenant da requisição são enviadas.
+     * </p>
+     *
+     * @param ultimoId O ID do último evento recebido pelo cliente; opcional.
+     * @return O {@link SseEmitter} da assinatura.
+     * @see ContatoAlteracoesFeed
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter alteracoes(@RequestHeader(value = "Last-Event-ID", required = false) Long ultimoId) {
+        return alteracoesFeed.assinar(TenantContext.atual(), ultimoId);
+    }
+
+    /**
+     * Exporta todos os contatos em formato **NDJSON** (um objeto JSON por linha).
+     * <p>
+     * Este endpoint {@code GET /contatos/export} escreve cada contato diretamente na resposta à medida
+     * que ele é lido do banco, por meio de um {@link StreamingResponseBody}. Nenhuma lista é montada
+     * em memória, então o consumo de memória não cresce com o tamanho da agenda.
+     * </p>
+     *
+     * @return {@link ResponseEntity} com o corpo em streaming e o status HTTP 200 (OK).
+     * @see ContatoService#exportar(java.util.function.Consumer)
      */
-    @GetMapping
-    public ResponseEntity<List<ContatoResponseDTO>> buscarTodos() {
-        List<Contato> contatos = contatoService.buscarTodos();
-        List<ContatoResponseDTO> contatoResponses = contatos.stream()
-                .map(ContatoResponseDTO::new)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(contatoResponses);
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        // O corpo é escrito em outra thread: o tenant da requisição é capturado aqui e restaurado nela.
+        String tenant = TenantContext.atual();
+        StreamingResponseBody corpo = saida -> TenantContext.executar(tenant, () -> {
+            contatoService.exportar(contato -> escreverLinha(saida, new ContatoResponseDTO(contato)));
+            try {
+                saida.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
     }
 
     /**
@@ -128,50 +468,122 @@ public class ContatoController {
      * e um {@link ContatoRequestDTO} no corpo da requisição com os novos dados a serem aplicados.
      * Os dados são validados e o serviço é acionado para persistir as alterações.
      * </p>
+     * <p>
+     * Com o cabeçalho {@code If-Match} (a ETag lida anteriormente), a alteração só é aplicada se o contato
+     * ainda estiver naquela versão; caso contrário, a resposta é {@code 412 Precondition Failed}. Um {@code If-Match}
+     * malformado ou com mais de uma ETag resulta em {@code 400 Bad Request}. Com ou sem {@code If-Match}, a resposta
+     * traz a ETag da nova versão, para que o cliente possa encadear outra alteração condicional.
+     * </p>
      *
      * @param id      O identificador único ({@code Long}) do contato a ser atualizado.
      * @param request DTO contendo os dados atualizados do contato. Deve ser validado conforme as regras definidas no {@link ContatoRequestDTO}.
+     * @param ifMatch ETag esperada do contato; opcional.
      * @return {@link ResponseEntity} contendo o {@link ContatoResponseDTO} do contato atualizado e o status HTTP 200 (OK).
      * @throws ContatoNaoEncontradoException Se o contato com o ID fornecido não for encontrado na base de dados,
      *                                       resultando em um status HTTP 404 (Not Found).
-     * @see ContatoService#atualizar(Long, Contato)
+     * @throws br.com.mascenadev.projetoagendaspringboot.exception.VersaoConflitanteException Se o contato não estiver
+     *                                       na versão do {@code If-Match}, resultando em HTTP 412 (Precondition Failed).
+     * @see ContatoService#atualizar(Long, Contato, Long)
      * @see ContatoRequestDTO
      * @see ContatoResponseDTO
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ContatoResponseDTO> atualizar(@PathVariable Long id, @RequestBody @Valid ContatoRequestDTO request) {
+    public ResponseEntity<ContatoResponseDTO> atualizar(@PathVariable Long id, @RequestBody @Valid ContatoRequestDTO request,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         // Converte o DTO para entidade
         Contato contato = request.toEntity();
 
         // Chama o serviço para atualizar o contato
-        Contato atualizado = contatoService.atualizar(id, contato);
+        Contato atualizado = contatoService.atualizar(id, contato, ContatoEtag.versaoEsperada(ifMatch));
+
+        // Retorna a resposta com status 200 (OK), o ContatoResponse e a ETag da nova versão
+        return ResponseEntity.ok().eTag(ContatoEtag.deContato(atualizado)).body(new ContatoResponseDTO(atualizado));
+    }
 
-        // Retorna a resposta com status 200 (OK) e o ContatoResponse
-        return ResponseEntity.ok(new ContatoResponseDTO(atualizado));
+    /**
+     * Atualiza apenas os campos enviados de um contato existente.
+     * <p>
+     * Este endpoint {@code PATCH /contatos/{id}} recebe um {@link ContatoPatchDTO} em que todos os campos
+     * são opcionais; os campos ausentes mantêm o valor atual. O {@code If-Match} é tratado como no {@code PUT}.
+     * </p>
+     *
+     * @param id      O identificador único ({@code Long}) do contato a ser alterado.
+     * @param request DTO com os campos a alterar, validados conforme o {@link ContatoPatchDTO}.
+     * @param ifMatch ETag esperada do contato; opcional.
+     * @return {@link ResponseEntity} contendo o {@link ContatoResponseDTO} do contato atualizado e o status HTTP 200 (OK).
+     * @throws ContatoNaoEncontradoException Se o contato não existir, resultando em HTTP 404 (Not Found).
+     * @see ContatoService#atualizarParcial(Long, Contato, Long)
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<ContatoResponseDTO> atualizarParcial(@PathVariable Long id, @RequestBody @Valid ContatoPatchDTO request,
+                                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Contato atualizado = contatoService.atualizarParcial(id, request.toEntity(), ContatoEtag.versaoEsperada(ifMatch));
+        return ResponseEntity.ok().eTag(ContatoEtag.deContato(atualizado)).body(new ContatoResponseDTO(atualizado));
     }
 
     /**
      * Exclui um contato específico da base de dados pelo seu identificador único.
      * <p>
      * Este endpoint {@code DELETE /contatos/{id}} tenta remover o contato correspondente ao ID fornecido.
+     * Com o cabeçalho {@code If-Match}, o contato só é removido se ainda estiver na versão informada.
      * </p>
      *
-     * @param id O identificador único ({@code Long}) do contato a ser excluído.
+     * @param id      O identificador único ({@code Long}) do contato a ser excluído.
+     * @param ifMatch ETag esperada do contato; opcional.
      * @return {@link ResponseEntity} com o status HTTP 204 (No Content) se a exclusão for bem-sucedida.
-     * @throws ContatoNaoEncontradoException Se o contato com o ID fornecido não for encontrado na base de dados,
-     *                                       resultando em um status HTTP 404 (Not Found).
-     * @see ContatoService#excluir(Long)
+     * @throws ContatoNaoEncontradoException Se o contato não existir, resultando em HTTP 404 (Not Found).
+     * @throws br.com.mascenadev.projetoagendaspringboot.exception.VersaoConflitanteException Se o contato não estiver
+     *                                       na versão do {@code If-Match}, resultando em HTTP 412 (Precondition Failed).
+     * @see ContatoService#excluir(Long, Long)
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> excluir(@PathVariable Long id) {
+    public ResponseEntity<Void> excluir(@PathVariable Long id,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        contatoService.excluir(id, ContatoEtag.versaoEsperada(ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Escreve um contato como uma linha NDJSON na saída informada.
+     *
+     * @param saida   O {@link OutputStream} da resposta HTTP.
+     * @param contato O contato a ser serializado.
+     */
+    private void escreverLinha(OutputStream saida, ContatoResponseDTO contato) {
         try {
-            // Chama o serviço para remover o contato
-            contatoService.excluir(id);
-            // Retorna resposta com status 204 (No Content), pois não há conteúdo para retornar
-            return ResponseEntity.noContent().build();
-        } catch (ContatoNaoEncontradoException e) {
-            // Caso o contato não seja encontrado, retorna status 404 (Not Found)
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            exportWriter.writeValue(saida, contato);
+            saida.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Valida um item da importação em lote com as mesmas regras aplicadas por {@code @Valid}.
+     *
+     * @param request O contato recebido; pode ser {@code null} se o cliente enviou um item vazio.
+     * @return Mapa de erros por campo, vazio (e sem alocação) quando o contato é válido.
+     */
+    private static Map<String, String> validar(ContatoRequestDTO request) {
+        if (request == null) {
+            return Map.of("contato", "Contato é obrigatório");
+        }
+        String nome = ContatoValidator.erroNome(request.getNome());
+        String email = ContatoValidator.erroEmail(request.getEmail());
+        String telefone = ContatoValidator.erroTelefone(request.getTelefone());
+        if (nome == null && email == null && telefone == null) {
+            return Map.of();
+        }
+        Map<String, String> erros = new HashMap<>();
+        if (nome != null) {
+            erros.put("nome", nome);
+        }
+        if (email != null) {
+            erros.put("email", email);
+        }
+        if (telefone != null) {
+            erros.put("telefone", telefone);
         }
+        return erros;
     }
 }
@@ -0,0 +1,232 @@
+package br.com.mascenadev.projetoagendaspringboot.controller;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoCursor;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoEtag;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoMapper;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPaginaResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPatchDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.exception.ContatoNaoEncontradoException;
+import br.com.mascenadev.projetoagendaspringboot.exception.VersaoConflitanteException;
+import br.com.mascenadev.projetoagendaspringboot.service.ContatoReactiveService;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import br.com.mascenadev.projetoagendaspringboot.validation.ContatoValidator;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * **Controlador REST reativo** (WebFlux) que expõe o mesmo contrato de {@code /contatos} do {@link ContatoController}.
+ * <p>
+ * Ativo apenas no perfil {@code reactive} (veja {@code application-reactive.yaml}), no qual a aplicação sobe
+ * com o servidor reativo em vez do Tomcat/Spring MVC. As respostas são publicadas como {@link Mono} e
+ * {@link Flux}; a listagem também pode ser consumida em streaming NDJSON ({@code Accept: application/x-ndjson}),
+ * e a exportação é sempre em streaming, com contrapressão até o banco de dados.
+ * </p>
+ * <p>
+ * O contrato de um contato é o mesmo da variante MVC: {@code POST}, {@code GET}, {@code PUT} e {@code PATCH} devolvem
+ * a ETag da versão ({@link ContatoEtag}), o {@code GET} responde {@code 304 Not Modified} a um {@code If-None-Match}
+ * com a ETag atual (pelo próprio WebFlux, ao tratar o {@link ResponseEntity}), e {@code PUT}, {@code PATCH} e
+ * {@code DELETE} aceitam {@code If-Match}, respondendo {@code 412 Precondition Failed} se a versão mudou.
+ * </p>
+ * <p>
+ * Escopo reduzido: esta variante existe para comparar as pilhas no CRUD, na listagem e na exportação. A importação
+ * em lote, a pesquisa, o autocompletar, o feed de alterações (SSE), o outbox, o limite de requisições por cliente e
+ * as métricas de consultas por requisição existem apenas na variante Spring MVC.
+ * </p>
+ * <p>
+ * O tenant é lido do cabeçalho {@value TenantContext#HEADER} em cada endpoint e repassado ao serviço.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoReactiveService
+ * @see ContatoController
+ * @since 1.1.0
+ */
+@RestController
+@RequestMapping("/contatos")
+@Profile("reactive")
+public class ContatoReactiveController {
+
+    private static final int LIMITE_MAXIMO = 500;
+
+    private final ContatoReactiveService contatoService;
+
+    private final ContatoValidator contatoValidator;
+
+    /**
+     * Construtor para injeção do serviço reativo de contatos.
+     *
+     * @param contatoService   O serviço reativo de contatos.
+     * @param contatoValidator O {@link ContatoValidator} aplicado aos DTOs marcados com {@code @Valid}.
+     */
+    public ContatoReactiveController(ContatoReactiveService contatoService, ContatoValidator contatoValidator) {
+        this.contatoService = contatoService;
+        this.contatoValidator = contatoValidator;
+    }
+
+    /**
+     * Valida os corpos {@code @Valid} com o {@link ContatoValidator}, no lugar do Bean Validation.
+     * Os erros continuam chegando como {@code WebExchangeBindException}.
+     *
+     * @param binder O binder do {@link ContatoRequestDTO} ou do {@link ContatoPatchDTO}.
+     */
+    @InitBinder({"contatoRequestDTO", "contatoPatchDTO"})
+    public void configurarValidador(WebDataBinder binder) {
+        binder.setValidator(contatoValidator);
+    }
+
+    /**
+     * Cria um novo contato ({@code POST /contatos}).
+     *
+     * @param tenant  O valor do cabeçalho {@value TenantContext#HEADER}; opcional.
+     * @param request DTO validado com os dados do contato.
+     * @return O contato criado, com status HTTP 201 (Created) e os cabeçalhos {@code Location} e {@code ETag}.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ContatoResponseDTO>> salvar(@RequestHeader(value = TenantContext.HEADER, required = false) String tenant,
+                                                           @RequestBody @Valid ContatoRequestDTO request) {
+        return contatoService.salvar(TenantContext.validar(tenant), request.toEntity())
+                .map(salvo -> ResponseEntity.created(URI.create("/contatos/" + salvo.getId()))
+                        .eTag(ContatoEtag.deContato(salvo))
+                        .body(new ContatoResponseDTO(salvo)));
+    }
+
+    /**
+     * Busca um contato pelo ID ({@code GET /contatos/{id}}).
+     *
+     * @param tenant O valor do cabeçalho {@value TenantContext#HEADER}; opcional.
+     * @param id     O ID do contato.
+     * @return O contato encontrado, com status HTTP 200 (OK) e a sua ETag, ou HTTP 304 (Not Modified) se o
+     * {@code If-None-Match} trouxer a ETag atual.
+     * @throws ContatoNaoEncontradoException Se o contato não existir, resultando em HTTP 404 (Not Found).
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ContatoResponseDTO>> buscarPorId(@RequestHeader(value = TenantContext.HEADER, required = false) String tenant,
+                                                                @PathVariable Long id) {
+        return contatoService.buscarPorId(TenantContext.validar(tenant), id).map(ContatoReactiveController::comEtag);
+    }
+
+    /**
+     * Retorna uma página de contatos paginada por cursor ({@code GET /contatos}), no mesmo formato da variante MVC.
+     *
+     * @param tenant O valor do cabeçalho {@value TenantContext#HEADER}; opcional.
+     * @param cursor Cursor opaco devolvido pela página anterior.
+     * @param limit  Quantidade máxima de contatos na página.
+     * @return A página de contatos.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ContatoPaginaResponseDTO> buscarTodos(@RequestHeader(value = TenantContext.HEADER, required = false) String tenant,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "50") int limit) {
+        int tamanho = Math.max(1, Math.min(limit, LIMITE_MAXIMO));
+        return contatoService.buscarTodos(TenantContext.validar(tenant), ContatoCursor.decodificar(cursor), tamanho + 1)
+                .collectList()
+                .map(contatos -> {
+                    List<ContatoResponseDTO> itens = ContatoMapper.toResponseList(contatos, tamanho);
+                    String proximoCursor = contatos.size() > tamanho
+                            ? ContatoCursor.codificar(itens.get(tamanho - 1).getId())
+                            : null;
+                    return new ContatoPaginaResponseDTO(itens, proximoCursor);
+                });
+    }
+
+    /**
+     * Retorna os contatos de uma página em streaming NDJSON, à medida que são lidos do banco.
+     *
+     * @param tenant O valor do cabeçalho {@value TenantContext#HEADER}; opcional.
+     * @param cursor Cursor opaco devolvido pela página anterior.
+     * @param limit  Quantidade máxima de contatos.
+     * @return Um {@link Flux} de contatos, um por linha.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ContatoResponseDTO> buscarTodosStream(@RequestHeader(value = TenantContext.HEADER, required = false) String tenant,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "50") int limit) {
+        int tamanho = Math.max(1, Math.min(limit, LIMITE_MAXIMO));
+        return contatoService.buscarTodos(TenantContext.validar(tenant), ContatoCursor.decodificar(cursor), tamanho)
+                .map(ContatoResponseDTO::new);
+    }
+
+    /**
+     * Exporta todos os contatos em NDJSON ({@code GET /contatos/export}), com contrapressão.
+     *
+     * @param tenant O valor do cabeçalho {@value TenantContext#HEADER}; opcional.
+     * @return Um {@link Flux} com todos os contatos do tenant, um por linha.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ContatoResponseDTO> exportar(@RequestHeader(value = TenantContext.HEADER, required = false) String tenant) {
+        return contatoService.exportar(TenantContext.validar(tenant)).map(ContatoResponseDTO::new);
+    }
+
+    /**
+     * Atualiza um contato existente ({@code PUT /contatos/{id}}).
+     *
+     * @param tenant  O valor do cabeçalho {@value TenantContext#HEADER}; opcional.
+     * @param id      O ID do contato.
+     * @param request DTO validado com os novos dados.
+     * @param ifMatch ETag esperada do contato; opcional.
+     * @return O contato atualizado, com status HTTP 200 (OK) e a ETag da nova versão.
+     * @throws ContatoNaoEncontradoException Se o contato não existir, resultando em HTTP 404 (Not Found).
+     * @throws VersaoConflitanteException    Se o contato tiver mudado desde o {@code If-Match}, resultando em HTTP 412.
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ContatoResponseDTO>> atualizar(@RequestHeader(value = TenantContext.HEADER, required = false) String tenant,
+                                                              @PathVariable Long id, @RequestBody @Valid ContatoRequestDTO request,
+                                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Contato contato = request.toEntity();
+        return contatoService.atualizar(TenantContext.validar(tenant), id, contato, ContatoEtag.versaoEsperada(ifMatch))
+                .map(ContatoReactiveController::comEtag);
+    }
+
+    /**
+     * Atualiza apenas os campos enviados de um contato ({@code PATCH /contatos/{id}}).
+     *
+     * @param tenant  O valor do cabeçalho {@value TenantContext#HEADER}; opcional.
+     * @param id      O ID do contato.
+     * @param request DTO validado com os campos a alterar.
+     * @param ifMatch ETag esperada do contato; opcional.
+     * @return O contato atualizado, com status HTTP 200 (OK) e a ETag da nova versão.
+     * @throws ContatoNaoEncontradoException Se o contato não existir, resultando em HTTP 404 (Not Found).
+     * @throws VersaoConflitanteException    Se o contato tiver mudado desde o {@code If-Match}, resultando em HTTP 412.
+     */
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<ContatoResponseDTO>> atualizarParcial(@RequestHeader(value = TenantContext.HEADER, required = false) String tenant,
+                                                                     @PathVariable Long id, @RequestBody @Valid ContatoPatchDTO request,
+                                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return contatoService.atualizarParcial(TenantContext.validar(tenant), id, request.toEntity(), ContatoEtag.versaoEsperada(ifMatch))
+                .map(ContatoReactiveController::comEtag);
+    }
+
+    /**
+     * Exclui um contato ({@code DELETE /contatos/{id}}).
+     *
+     * @param tenant  O valor do cabeçalho {@value TenantContext#HEADER}; opcional.
+     * @param id      O ID do contato.
+     * @param ifMatch ETag esperada do contato; opcional.
+     * @return Status HTTP 204 (No Content) em caso de sucesso.
+     * @throws ContatoNaoEncontradoException Se o contato não existir, resultando em HTTP 404 (Not Found).
+     * @throws VersaoConflitanteException    Se o contato tiver mudado desde o {@code If-Match}, resultando em HTTP 412.
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> excluir(@RequestHeader(value = TenantContext.HEADER, required = false) String tenant, @PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return contatoService.excluir(TenantContext.validar(tenant), id, ContatoEtag.versaoEsperada(ifMatch))
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+    private static ResponseEntity<ContatoResponseDTO> comEtag(Contato contato) {
+        return ResponseEntity.ok().eTag(ContatoEtag.deContato(contato)).body(new ContatoResponseDTO(contato));
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+/**
+ * Alteração de contato entregue pelo feed de alterações ({@code GET /contatos/changes}).
+ *
+ * @param tipo    {@code CRIADO}, {@code ATUALIZADO} ou {@code EXCLUIDO}.
+ * @param id      Identificador único do contato alterado.
+ * @param contato Estado do contato após a alteração; ausente em exclusões.
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteracoesFeed
+ * @since 1.1.0
+ */
+public record ContatoAlteracaoResponseDTO(
+        String tipo,
+        Long id,
+        ContatoResponseDTO contato
+) {
+}
@@ -0,0 +1,53 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+import br.com.mascenadev.projetoagendaspringboot.exception.RequisicaoInvalidaException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica e decodifica o **cursor opaco** usado na paginação por chave (keyset) de contatos.
+ * <p>
+ * O cursor carrega apenas o ID do último contato entregue na página anterior. Ele é exposto ao
+ * cliente em Base64 (URL-safe, sem padding) para que o formato interno possa mudar sem quebrar o contrato.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoPaginaResponseDTO
+ * @since 1.1.0
+ */
+public final class ContatoCursor {
+
+    private ContatoCursor() {
+    }
+
+    /**
+     * Gera o cursor que aponta para a posição logo após o contato informado.
+     *
+     * @param ultimoId ID do último contato da página atual.
+     * @return Cursor opaco a ser enviado pelo cliente na próxima requisição.
+     */
+    public static String codificar(Long ultimoId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(ultimoId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Recupera o ID contido em um cursor recebido do cliente.
+     *
+     * @param cursor Cursor opaco; {@code null} ou vazio indica a primeira página.
+     * @return O ID a partir do qual a próxima página deve começar, ou {@code null} para a primeira página.
+     * @throws RequisicaoInvalidaException Se o cursor não tiver sido gerado por {@link #codificar(Long)}.
+     */
+    public static Long decodificar(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            return Long.parseLong(valor);
+        } catch (IllegalArgumentException e) {
+            throw new RequisicaoInvalidaException("Cursor de paginação inválido");
+        }
+    }
+}
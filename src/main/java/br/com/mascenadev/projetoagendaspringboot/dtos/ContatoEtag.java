@@ -0,0 +1,123 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.exception.RequisicaoInvalidaException;
+
+import java.util.List;
+
+/**
+ * Gera e interpreta as **ETags** da API de contatos, derivadas da coluna de versão de {@link Contato}.
+ * <p>
+ * A ETag de um contato é a sua versão entre aspas (ex.: {@code "3"}). A de uma página é um hash dos
+ * pares ID/versão dos contatos da página e da existência de uma próxima página, de modo que qualquer
+ * inclusão, alteração ou exclusão na faixa retornada produz uma ETag diferente.
+ * </p>
+ * <p>
+ * A ETag de uma página é fraca ({@code W/"..."}): a mesma página é servida em JSON, CBOR ou Smile e pode ser
+ * comprimida, de modo que as representações não são idênticas byte a byte. Além disso, o Tomcat não comprime
+ * respostas com ETag forte. O {@code If-None-Match} usa comparação fraca e continua respondendo {@code 304}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see Contato#getVersao()
+ * @since 1.1.0
+ */
+public final class ContatoEtag {
+
+    private static final long FNV_BASE = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIMO = 0x100000001b3L;
+
+    /**
+     * Versão que nenhum contato tem, usada para uma ETag válida que não identifica uma versão de contato.
+     * Uma alteração condicional com ela nunca é aplicada e resulta em {@code 412 Precondition Failed}.
+     */
+    public static final long VERSAO_INEXISTENTE = -1L;
+
+    private static final String IF_MATCH_INVALIDO = "O cabeçalho If-Match deve conter uma única ETag, como a devolvida pela API";
+
+    private ContatoEtag() {
+    }
+
+    /**
+     * @param contato O contato.
+     * @return A ETag forte do contato.
+     */
+    public static String deContato(Contato contato) {
+        return "\"" + versao(contato) + "\"";
+    }
+
+    /**
+     * @param contatos   Os contatos lidos para a página (podem incluir a linha extra usada para detectar a próxima página).
+     * @param quantidade Quantidade de contatos efetivamente entregues na página.
+     * @param temProxima Se existe uma próxima página.
+     * @return A ETag fraca da página.
+     */
+    public static String dePagina(List<Contato> contatos, int quantidade, boolean temProxima) {
+        long hash = FNV_BASE;
+        int limite = Math.min(quantidade, contatos.size());
+        for (int i = 0; i < limite; i++) {
+            Contato contato = contatos.get(i);
+            hash = misturar(hash, contato.getId());
+            hash = misturar(hash, versao(contato));
+        }
+        hash = misturar(hash, temProxima ? 1 : 0);
+        return "W/\"p" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Extrai a versão esperada de um cabeçalho {@code If-Match}.
+     * <p>
+     * Ausente ou {@code *} significa que qualquer versão é aceita. ETags fracas ({@code W/"..."}) e ETags que
+     * não foram geradas por {@link #deContato(Contato)} (como a de uma página) são válidas, mas nunca correspondem
+     * à versão atual, pois {@code If-Match} usa comparação forte: resultam em {@link #VERSAO_INEXISTENTE}.
+     * </p>
+     *
+     * @param ifMatch O valor do cabeçalho, ou {@code null}.
+     * @return A versão esperada, {@code null} se qualquer versão for aceita, ou {@link #VERSAO_INEXISTENTE}.
+     * @throws RequisicaoInvalidaException Se o cabeçalho não contiver exatamente uma ETag bem formada.
+     */
+    public static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.equals("*")) {
+            return null;
+        }
+        boolean fraca = valor.startsWith("W/");
+        int inicio = fraca ? 2 : 0;
+        if (valor.length() - inicio < 2 || valor.charAt(inicio) != '"' || valor.indexOf('"', inicio + 1) != valor.length() - 1) {
+            throw new RequisicaoInvalidaException(IF_MATCH_INVALIDO);
+        }
+        String conteudo = valor.substring(inicio + 1, valor.length() - 1);
+        return !fraca && numerico(conteudo) ? Long.valueOf(conteudo) : VERSAO_INEXISTENTE;
+    }
+
+    /**
+     * @return Se o texto é um número decimal não negativo que cabe em um {@code long}.
+     */
+    private static boolean numerico(String texto) {
+        if (texto.isEmpty() || texto.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) < '0' || texto.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long versao(Contato contato) {
+        return contato.getVersao() != null ? contato.getVersao() : 0L;
+    }
+
+    private static long misturar(long hash, long valor) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (valor >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIMO;
+        }
+        return hash;
+    }
+}
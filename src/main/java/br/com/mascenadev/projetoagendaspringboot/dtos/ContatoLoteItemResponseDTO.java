@@ -0,0 +1,23 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+import java.util.Map;
+
+/**
+ * Resultado individual de um contato enviado na importação em lote.
+ *
+ * @param indice Posição do contato na lista enviada pelo cliente (a partir de 0).
+ * @param status Código HTTP que representa o resultado do item: 201 se criado, 200 se atualizado e 304 se já tinha
+ *               os mesmos dados ({@code PUT}), 400 se inválido e 409 se o e-mail já existe ({@code POST}).
+ * @param id     ID do contato criado, atualizado ou inalterado, ou {@code null} se o item foi rejeitado.
+ * @param erros  Mensagens de erro por campo, vazias quando o item foi aceito.
+ * @author Gilberto Dev
+ * @see ContatoLoteResponseDTO
+ * @since 1.1.0
+ */
+public record ContatoLoteItemResponseDTO(
+        int indice,
+        int status,
+        Long id,
+        Map<String, String> erros
+) {
+}
@@ -0,0 +1,29 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+import java.util.List;
+
+/**
+ * Resposta da importação em lote de contatos ({@code POST /contatos/batch} e {@code PUT /contatos/batch}).
+ * <p>
+ * Cada contato enviado recebe um {@link ContatoLoteItemResponseDTO} na mesma ordem da requisição,
+ * permitindo ao cliente identificar quais itens foram salvos e quais foram rejeitados.
+ * </p>
+ *
+ * @param total      Quantidade de contatos recebidos.
+ * @param salvos     Quantidade de contatos criados ou alterados (status 201 ou 200); no {@code PUT}, os itens já
+ *                   presentes com os mesmos dados (status 304) não são contados.
+ * @param rejeitados Quantidade de contatos rejeitados na validação, por e-mail já cadastrado ou, no {@code PUT},
+ *                   por e-mail repetido no lote.
+ * @param itens      Resultado de cada contato, na ordem em que foram enviados.
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.controller.ContatoController#salvarEmLote(List)
+ * @see br.com.mascenadev.projetoagendaspringboot.controller.ContatoController#salvarOuAtualizarEmLote(List)
+ * @since 1.1.0
+ */
+public record ContatoLoteResponseDTO(
+        int total,
+        int salvos,
+        int rejeitados,
+        List<ContatoLoteItemResponseDTO> itens
+) {
+}
@@ -0,0 +1,71 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversões entre os DTOs de contato e a entidade {@link Contato}.
+ * <p>
+ * Todas as conversões são feitas por chamadas diretas de construtores e getters, resolvidas em tempo
+ * de compilação: não há introspecção por reflexão e nenhum objeto é alocado além dos objetos de destino
+ * (e, no mapeamento de listas, da própria lista, já criada com a capacidade final).
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoRequestDTO
+ * @see ContatoResponseDTO
+ * @since 1.1.0
+ */
+public final class ContatoMapper {
+
+    private ContatoMapper() {
+    }
+
+    /**
+     * Cria uma nova entidade {@link Contato}, sem ID, a partir dos dados da requisição.
+     *
+     * @param request O DTO recebido na requisição.
+     * @return Uma nova instância de {@link Contato}.
+     */
+    public static Contato toEntity(ContatoRequestDTO request) {
+        return new Contato(request.getNome(), request.getEmail(), request.getTelefone());
+    }
+
+    /**
+     * Converte uma entidade {@link Contato} para o DTO de resposta.
+     *
+     * @param contato A entidade a ser convertida.
+     * @return O {@link ContatoResponseDTO} correspondente.
+     */
+    public static ContatoResponseDTO toResponse(Contato contato) {
+        return new ContatoResponseDTO(contato);
+    }
+
+    /**
+     * Converte os primeiros {@code quantidade} contatos de uma lista para DTOs de resposta.
+     *
+     * @param contatos   As entidades a serem convertidas.
+     * @param quantidade Quantidade máxima de elementos a converter.
+     * @return Uma lista com no máximo {@code quantidade} {@link ContatoResponseDTO}, na mesma ordem.
+     */
+    public static List<ContatoResponseDTO> toResponseList(List<Contato> contatos, int quantidade) {
+        int tamanho = Math.min(quantidade, contatos.size());
+        List<ContatoResponseDTO> respostas = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            respostas.add(new ContatoResponseDTO(contatos.get(i)));
+        }
+        return respostas;
+    }
+
+    /**
+     * Converte uma lista de entidades {@link Contato} para DTOs de resposta.
+     *
+     * @param contatos As entidades a serem convertidas.
+     * @return Uma lista de {@link ContatoResponseDTO}, na mesma ordem.
+     */
+    public static List<ContatoResponseDTO> toResponseList(List<Contato> contatos) {
+        return toResponseList(contatos, contatos.size());
+    }
+}
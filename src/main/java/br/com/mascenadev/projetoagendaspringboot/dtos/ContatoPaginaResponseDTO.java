@@ -0,0 +1,23 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+import java.util.List;
+
+/**
+ * Representa uma **página** da listagem de contatos paginada por cursor.
+ * <p>
+ * Quando {@code proximoCursor} é {@code null}, não há mais contatos a serem buscados.
+ * Caso contrário, o cliente deve repetir a requisição enviando esse valor no parâmetro {@code cursor}.
+ * </p>
+ *
+ * @param itens         Contatos da página atual, ordenados por ID.
+ * @param proximoCursor Cursor opaco para a próxima página, ou {@code null} se esta for a última.
+ * @author Gilberto Dev
+ * @see ContatoCursor
+ * @see br.com.mascenadev.projetoagendaspringboot.controller.ContatoController#buscarTodos(String, int)
+ * @since 1.1.0
+ */
+public record ContatoPaginaResponseDTO(
+        List<ContatoResponseDTO> itens,
+        String proximoCursor
+) {
+}
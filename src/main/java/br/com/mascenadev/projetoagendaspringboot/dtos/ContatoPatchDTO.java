@@ -0,0 +1,94 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO (Data Transfer Object) utilizado para a **atualização parcial** de um {@link Contato}
+ * ({@code PATCH /contatos/{id}}).
+ * <p>
+ * Todos os campos são opcionais: apenas os campos enviados são alterados, e os ausentes (ou {@code null})
+ * mantêm o valor atual. Os campos enviados seguem as mesmas regras de validação do {@link ContatoRequestDTO},
+ * aplicadas pelo {@link br.com.mascenadev.projetoagendaspringboot.validation.ContatoValidator}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoRequestDTO
+ * @see br.com.mascenadev.projetoagendaspringboot.controller.ContatoController#atualizarParcial(Long, ContatoPatchDTO)
+ * @since 1.1.0
+ */
+public class ContatoPatchDTO {
+
+    /**
+     * Novo nome do contato, ou {@code null} para manter o atual; se enviado, não pode estar em branco.
+     */
+    @Pattern(regexp = "(?s).*\\S.*", message = "Nome é obrigatório")
+    @Size(min = 3, max = 100, message = "Nome deve ter entre 3 e 100 caracteres")
+    private String nome;
+
+    /**
+     * Novo e-mail do contato, ou {@code null} para manter o atual.
+     */
+    @Email(regexp = ".+@.+", message = "Email inválido")
+    private String email;
+
+    /**
+     * Novo telefone do contato, ou {@code null} para manter o atual.
+     */
+    @Pattern(
+            regexp = "\\(\\d{2}\\) \\d{4,5}-\\d{4}",
+            message = "Telefone deve estar no formato (XX) XXXXX-XXXX ou (XX) XXXX-XXXX")
+    private String telefone;
+
+    /**
+     * Construtor padrão.
+     */
+    public ContatoPatchDTO() {
+    }
+
+    /**
+     * @param nome     O novo nome, ou {@code null}.
+     * @param email    O novo e-mail, ou {@code null}.
+     * @param telefone O novo telefone, ou {@code null}.
+     */
+    public ContatoPatchDTO(String nome, String email, String telefone) {
+        this.nome = nome;
+        this.email = email;
+        this.telefone = telefone;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getTelefone() {
+        return telefone;
+    }
+
+    public void setTelefone(String telefone) {
+        this.telefone = telefone;
+    }
+
+    /**
+     * Converte este DTO em um {@link Contato} com apenas os campos enviados preenchidos.
+     *
+     * @return Um {@link Contato} sem ID, com {@code null} nos campos que devem ser mantidos.
+     */
+    public Contato toEntity() {
+        return new Contato(nome, email, telefone);
+    }
+}
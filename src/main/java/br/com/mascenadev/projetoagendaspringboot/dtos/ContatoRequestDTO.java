@@ -5,7 +5,6 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
-import org.springframework.beans.BeanUtils;
 
 /**
  * DTO (Data Transfer Object) utilizado para encapsular os **dados de entrada**
@@ -15,6 +14,11 @@ import org.springframework.beans.BeanUtils;
  * e aplica validações rigorosas (definidas pelas anotações Jakarta Bean Validation)
  * para garantir a integridade dos dados antes que sejam processados pelo serviço.
  * </p>
+ * <p>
+ * As anotações descrevem o contrato (inclusive no OpenAPI); nos controladores, as mesmas regras são aplicadas
+ * pelo {@link br.com.mascenadev.projetoagendaspringboot.validation.ContatoValidator}, que deve ser mantido em
+ * sincronia com elas.
+ * </p>
  *
  * @author Gilberto Dev
  * @see Contato
@@ -128,15 +132,13 @@ public class ContatoRequestDTO {
      * <p>
      * Este método é útil para mapear os dados recebidos da requisição HTTP (no formato DTO)
      * para o formato da entidade que será persistida no banco de dados.
-     * Ele utiliza {@link org.springframework.beans.BeanUtils#copyProperties(Object, Object)}
-     * para realizar a cópia das propriedades correspondentes entre os objetos.
+     * A cópia é feita diretamente pelo construtor da entidade, sem reflexão (veja {@link ContatoMapper}).
      * </p>
      *
      * @return Uma nova instância de {@link Contato} preenchida com os dados deste {@code ContatoRequestDTO}.
+     * @see ContatoMapper#toEntity(ContatoRequestDTO)
      */
     public Contato toEntity() {
-        Contato contato = new Contato();
-        BeanUtils.copyProperties(this, contato);
-        return contato;
+        return ContatoMapper.toEntity(this);
     }
 }
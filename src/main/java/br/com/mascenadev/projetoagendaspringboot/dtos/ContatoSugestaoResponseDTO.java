@@ -0,0 +1,20 @@
+package br.com.mascenadev.projetoagendaspringboot.dtos;
+
+/**
+ * Sugestão de contato retornada pelo autocompletar de nomes ({@code GET /contatos/autocomplete}).
+ * <p>
+ * Contém apenas o necessário para exibir a sugestão; os dados completos podem ser obtidos
+ * em {@code GET /contatos/{id}}.
+ * </p>
+ *
+ * @param id   Identificador único do contato.
+ * @param nome Nome do contato, como foi cadastrado.
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.service.ContatoNomeIndex
+ * @since 1.1.0
+ */
+public record ContatoSugestaoResponseDTO(
+        Long id,
+        String nome
+) {
+}
@@ -1,15 +1,24 @@
 package br.com.mascenadev.projetoagendaspringboot.entities;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 import java.io.Serializable;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -20,6 +29,16 @@ import java.util.Objects;
  * Contém informações básicas como nome, e-mail e telefone, e é a representação
  * persistente dos dados de um contato na base de dados.
  * </p>
+ * <p>
+ * Os índices declarados em {@link Table#indexes()} começam pelo {@code tenant_id} e atendem à listagem
+ * paginada por ID e à pesquisa de contatos de um tenant: busca por prefixo de {@code nome} e busca exata
+ * por {@code telefone}.
+ * </p>
+ * <p>
+ * O e-mail é único por tenant: a restrição {@value #RESTRICAO_EMAIL} é aplicada sobre {@code email_normalizado}
+ * (sem espaços nas pontas e em minúsculas), de modo que "Ana@Email.com" e "ana@email.com" são o mesmo contato.
+ * O índice da restrição também atende à busca por e-mail.
+ * </p>
  *
  * @author Gilberto Dev
  * @see br.com.mascenadev.projetoagendaspringboot.repository.ContatoRepository
@@ -27,16 +46,42 @@ import java.util.Objects;
  * @since 1.0.0
  */
 @Entity
+@Table(name = "contato", indexes = {
+        @Index(name = "idx_contato_tenant_id", columnList = "tenant_id, id"),
+        @Index(name = "idx_contato_tenant_nome", columnList = "tenant_id, nome"),
+        @Index(name = "idx_contato_tenant_telefone", columnList = "tenant_id, telefone")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Contato.RESTRICAO_EMAIL, columnNames = {"tenant_id", "email_normalizado"})
+})
 public class Contato implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Nome da restrição de unicidade do e-mail por tenant, reconhecida pelo
+     * {@link br.com.mascenadev.projetoagendaspringboot.exception.GlobalExceptionHandler}.
+     */
+    public static final String RESTRICAO_EMAIL = "uk_contato_tenant_email";
+
     /**
      * Identificador único do contato (gerado automaticamente).
+     * <p>
+     * Gerado por sequência com otimizador {@code pooled}: cada consulta à sequência reserva
+     * {@code allocationSize} IDs, o que permite ao Hibernate agrupar inserções em lotes JDBC
+     * (algo impossível com {@link GenerationType#IDENTITY}).
+     * </p>
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contato_seq")
+    @SequenceGenerator(name = "contato_seq", sequenceName = "contato_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Tenant (conta de cliente) dono do contato. Todas as consultas são filtradas por ele, e os índices
+     * começam por esta coluna para que o custo de cada consulta dependa apenas do tamanho da agenda do tenant.
+     */
+    @Column(name = "tenant_id", nullable = false, length = 64, updatable = false)
+    private String tenantId;
+
     /**
      * Nome do contato.
      * Deve conter entre 3 e 100 caracteres.
@@ -54,6 +99,12 @@ public class Contato implements Serializable {
     @Email(message = "Email inválido")
     private String email;
 
+    /**
+     * E-mail normalizado por {@link #normalizarEmail(String)}, mantido a cada gravação. Único por tenant.
+     */
+    @Column(name = "email_normalizado", nullable = false)
+    private String emailNormalizado;
+
     /**
      * Número de telefone do contato.
      * Deve seguir o formato brasileiro com DDD: (XX) XXXXX-XXXX ou (XX) XXXX-XXXX.
@@ -64,6 +115,13 @@ public class Contato implements Serializable {
             message = "Telefone deve estar no formato (XX) XXXXX-XXXX ou (XX) XXXX-XXXX")
     private String telefone;
 
+    /**
+     * Versão do contato, incrementada a cada alteração.
+     * Usada no controle de concorrência otimista e como ETag da API.
+     */
+    @Version
+    private Long versao;
+
     /**
      * Construtor padrão necessário para o JPA.
      */
@@ -156,6 +214,71 @@ public class Contato implements Serializable {
         this.telefone = telefone;
     }
 
+    /**
+     * Obtém o e-mail normalizado, atualizado a cada gravação.
+     *
+     * @return E-mail normalizado
+     */
+    public String getEmailNormalizado() {
+        return emailNormalizado;
+    }
+
+    /**
+     * Atualiza o e-mail normalizado a partir do e-mail antes de cada inserção ou alteração pelo JPA.
+     */
+    @PrePersist
+    @PreUpdate
+    void normalizar() {
+        this.emailNormalizado = normalizarEmail(email);
+    }
+
+    /**
+     * Normaliza um e-mail para comparação: sem espaços nas pontas e em minúsculas.
+     * Equivale a {@code lower(trim(email))} nas consultas.
+     *
+     * @param email O e-mail informado.
+     * @return O e-mail normalizado, ou {@code null} se {@code email} for {@code null}.
+     */
+    public static String normalizarEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Obtém o tenant dono do contato.
+     *
+     * @return Identificador do tenant
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Define o tenant dono do contato.
+     *
+     * @param tenantId Identificador do tenant
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Obtém a versão do contato.
+     *
+     * @return Versão ({@code null} em contatos ainda não persistidos)
+     */
+    public Long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Define a versão do contato.
+     *
+     * @param versao Nova versão
+     */
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
     /**
      * Compara se dois contatos são iguais com base no ID.
      *
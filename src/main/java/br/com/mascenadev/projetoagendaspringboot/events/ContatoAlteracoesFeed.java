@@ -0,0 +1,322 @@
+package br.com.mascenadev.projetoagendaspringboot.events;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoAlteracaoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * **Feed de alterações** de contatos, distribuído por Server-Sent Events em {@code GET /contatos/changes}.
+ * <p>
+ * Cada {@link ContatoAlteradoEvent} confirmado recebe um número de sequência, é serializado uma única vez
+ * e guardado em um buffer circular de tamanho fixo ({@code agenda.changes.capacidade}). O mesmo evento já
+ * serializado é enviado a todos os assinantes, de modo que o custo por alteração não depende do banco
+ * nem cresce com serializações repetidas.
+ * </p>
+ * <p>
+ * O número de sequência é o {@code id} do evento SSE. Um cliente que reconecta com {@code Last-Event-ID}
+ * recebe os eventos perdidos a partir do buffer; se eles já tiverem sido descartados (ou a aplicação tiver
+ * sido reiniciada), recebe um evento {@code reset} e deve recarregar a listagem completa.
+ * </p>
+ * <p>
+ * A sequência é única para a aplicação, mas cada assinante recebe apenas as alterações do tenant
+ * em que se inscreveu; por isso, os {@code id}s vistos por um tenant podem ter lacunas.
+ * </p>
+ * <p>
+ * Cada assinante tem a sua própria fila de envio, limitada a {@code agenda.changes.pendentes-por-assinante}
+ * eventos e esvaziada por uma tarefa própria, na ordem das alterações. Assim, um assinante lento não atrasa a
+ * thread que confirmou a escrita nem os demais assinantes. Quando a fila de um assinante enche, ele é desconectado
+ * e, ao reconectar com {@code Last-Event-ID}, recebe os eventos perdidos a partir do buffer (ou um {@code reset}).
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoAlteradoEvent
+ * @since 1.1.0
+ */
+@Component
+@Profile("!reactive")
+public class ContatoAlteracoesFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(ContatoAlteracoesFeed.class);
+
+    private static final String EVENTO_ALTERACAO = "contato";
+
+    private static final String EVENTO_RESET = "reset";
+
+    private final ObjectWriter writer;
+
+    private final Evento[] buffer;
+
+    private final List<Assinante> assinantes = new CopyOnWriteArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final int pendentesPorAssinante;
+
+    private final Counter desconectados;
+
+    /**
+     * Executa a tarefa de envio de cada assinante com eventos na fila; no máximo uma thread por assinante.
+     */
+    private final ExecutorService envio = Executors.newCachedThreadPool(tarefa -> {
+        Thread thread = new Thread(tarefa, "contato-changes");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Último número de sequência atribuído (protegido por {@link #lock}).
+     */
+    private long sequencia;
+
+    /**
+     * @param objectMapper          O {@link ObjectMapper} da aplicação, usado para serializar cada evento uma vez.
+     * @param registry              O {@link MeterRegistry} onde as métricas dos assinantes são publicadas.
+     * @param capacidade            Quantidade de eventos mantidos para reconexões.
+     * @param pendentesPorAssinante Eventos aguardando envio acima dos quais um assinante é desconectado.
+     */
+    public ContatoAlteracoesFeed(ObjectMapper objectMapper, MeterRegistry registry,
+                                 @Value("${agenda.changes.capacidade:10000}") int capacidade,
+                                 @Value("${agenda.changes.pendentes-por-assinante:1000}") int pendentesPorAssinante) {
+        this.writer = objectMapper.writerFor(ContatoAlteracaoResponseDTO.class);
+        this.buffer = new Evento[capacidade];
+        this.pendentesPorAssinante = pendentesPorAssinante;
+        Gauge.builder("agenda.contato.changes.assinantes", assinantes, List::size).register(registry);
+        this.desconectados = Counter.builder("agenda.contato.changes.desconectados")
+                .description("Assinantes desconectados por não acompanharem o ritmo das alterações")
+                .register(registry);
+    }
+
+    /**
+     * Recebe uma alteração confirmada, guarda-a no buffer e a envia aos assinantes.
+     *
+     * @param event A alteração do contato.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publicar(ContatoAlteradoEvent event) {
+        String json = serializar(event);
+        lock.lock();
+        try {
+            long seq = ++sequencia;
+            Evento evento = new Evento(seq, event.tenantId(), SseEmitter.event()
+                    .id(Long.toString(seq))
+                    .name(EVENTO_ALTERACAO)
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build());
+            buffer[(int) (evento.sequencia % buffer.length)] = evento;
+            for (Assinante assinante : assinantes) {
+                if (assinante.tenantId.equals(evento.tenantId)) {
+                    enfileirar(assinante, evento.dados);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registra um novo assinante de um tenant, reenviando os eventos do tenant posteriores a {@code ultimoId}.
+     *
+     * @param tenantId O tenant cujas alterações o assinante recebe.
+     * @param ultimoId O valor do cabeçalho {@code Last-Event-ID}, ou {@code null} para receber apenas novos eventos.
+     * @return O {@link SseEmitter} do assinante.
+     */
+    public SseEmitter assinar(String tenantId, Long ultimoId) {
+        SseEmitter emitter = new SseEmitter();
+        lock.lock();
+        try {
+            // O reenvio, já limitado pela capacidade do buffer, não reduz o limite da fila para os eventos novos.
+            List<Set<ResponseBodyEmitter.DataWithMediaType>> pendentes = pendentes(tenantId, ultimoId);
+            Assinante assinante = new Assinante(tenantId, emitter, pendentesPorAssinante + pendentes.size());
+            emitter.onCompletion(() -> remover(assinante));
+            emitter.onTimeout(() -> remover(assinante));
+            emitter.onError(erro -> remover(assinante));
+            pendentes.forEach(dados -> {
+                assinante.fila.add(dados);
+                assinante.tamanho.incrementAndGet();
+            });
+            assinantes.add(assinante);
+            agendarEnvio(assinante);
+        } finally {
+            lock.unlock();
+        }
+        return emitter;
+    }
+
+    /**
+     * Eventos a reenviar para um assinante que reconecta. Deve ser chamado com {@link #lock} adquirido.
+     */
+    private List<Set<ResponseBodyEmitter.DataWithMediaType>> pendentes(String tenantId, Long ultimoId) {
+        if (ultimoId == null || ultimoId == sequencia) {
+            return List.of();
+        }
+        long primeiroDisponivel = Math.max(1, sequencia - buffer.length + 1);
+        if (ultimoId > sequencia || ultimoId + 1 < primeiroDisponivel) {
+            return List.of(reset());
+        }
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> pendentes = new ArrayList<>();
+        for (long seq = ultimoId + 1; seq <= sequencia; seq++) {
+            Evento evento = buffer[(int) (seq % buffer.length)];
+            if (evento.tenantId.equals(tenantId)) {
+                pendentes.add(evento.dados);
+            }
+        }
+        return pendentes;
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> reset() {
+        return SseEmitter.event()
+                .id(Long.toString(sequencia))
+                .name(EVENTO_RESET)
+                .data("{}", MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    /**
+     * Coloca um evento na fila do assinante. Se a fila estiver cheia, retira o assinante e deixa a desconexão para
+     * a sua tarefa de envio: {@link SseEmitter#complete()} espera o envio em andamento, que pode estar bloqueado no
+     * socket, e não deve prender a thread da escrita. Deve ser chamado com {@link #lock} adquirido, para que a ordem
+     * das filas siga a sequência.
+     */
+    private void enfileirar(Assinante assinante, Set<ResponseBodyEmitter.DataWithMediaType> dados) {
+        if (assinante.tamanho.incrementAndGet() > assinante.limite) {
+            assinante.atrasado.set(true);
+            remover(assinante);
+            desconectados.increment();
+            log.debug("Assinante do tenant {} desconectado com {} eventos pendentes", assinante.tenantId,
+                    assinante.limite);
+        } else {
+            assinante.fila.add(dados);
+        }
+        agendarEnvio(assinante);
+    }
+
+    /**
+     * Inicia a tarefa de envio do assinante, se houver o que fazer e ela ainda não estiver em execução.
+     */
+    private void agendarEnvio(Assinante assinante) {
+        if ((!assinante.fila.isEmpty() || assinante.atrasado.get()) && assinante.enviando.compareAndSet(false, true)) {
+            envio.execute(() -> enviarPendentes(assinante));
+        }
+    }
+
+    /**
+     * Envia os eventos da fila até esvaziá-la. Um evento enfileirado depois do último {@code poll} e antes de
+     * {@code enviando} voltar a {@code false} é detectado pela nova chamada a {@link #agendarEnvio(Assinante)}.
+     * Um assinante encerrado mantém {@code enviando} em {@code true}, para que nenhuma tarefa seja iniciada de novo.
+     */
+    private void enviarPendentes(Assinante assinante) {
+        Set<ResponseBodyEmitter.DataWithMediaType> dados;
+        while (!assinante.encerrado.get() && (dados = assinante.fila.poll()) != null) {
+            assinante.tamanho.decrementAndGet();
+            try {
+                assinante.emitter.send(dados);
+            } catch (IOException | IllegalStateException e) {
+                remover(assinante);
+                assinante.emitter.completeWithError(e);
+                return;
+            }
+        }
+        if (assinante.encerrado.get()) {
+            assinante.fila.clear();
+            if (assinante.atrasado.get()) {
+                assinante.emitter.complete();
+            }
+            return;
+        }
+        assinante.enviando.set(false);
+        agendarEnvio(assinante);
+    }
+
+    /**
+     * Retira o assinante da lista e interrompe a sua tarefa de envio.
+     */
+    private void remover(Assinante assinante) {
+        assinante.encerrado.set(true);
+        assinantes.remove(assinante);
+    }
+
+    private String serializar(ContatoAlteradoEvent event) {
+        ContatoResponseDTO contato = event.contato() != null ? new ContatoResponseDTO(event.contato()) : null;
+        try {
+            return writer.writeValueAsString(new ContatoAlteracaoResponseDTO(event.tipo().name(), event.id(), contato));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        assinantes.forEach(assinante -> assinante.emitter.complete());
+        envio.shutdownNow();
+        log.info("Feed de alterações encerrado na sequência {}", sequencia);
+    }
+
+    private record Evento(long sequencia, String tenantId, Set<ResponseBodyEmitter.DataWithMediaType> dados) {
+    }
+
+    /**
+     * Assinante do feed, com a sua fila de envio. A identidade (e não o conteúdo) é usada na lista de assinantes.
+     */
+    private static final class Assinante {
+
+        private final String tenantId;
+
+        private final SseEmitter emitter;
+
+        /**
+         * Eventos na fila acima dos quais o assinante é desconectado.
+         */
+        private final int limite;
+
+        private final ConcurrentLinkedQueue<Set<ResponseBodyEmitter.DataWithMediaType>> fila = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Eventos na fila; mantido à parte porque {@link ConcurrentLinkedQueue#size()} percorre a fila.
+         */
+        private final AtomicInteger tamanho = new AtomicInteger();
+
+        private final AtomicBoolean enviando = new AtomicBoolean();
+
+        private final AtomicBoolean encerrado = new AtomicBoolean();
+
+        /**
+         * Indica que o assinante foi retirado por não acompanhar as alterações e ainda deve ser desconectado.
+         */
+        private final AtomicBoolean atrasado = new AtomicBoolean();
+
+        Assinante(String tenantId, SseEmitter emitter, int limite) {
+            this.tenantId = tenantId;
+            this.emitter = emitter;
+            this.limite = limite;
+        }
+    }
+}
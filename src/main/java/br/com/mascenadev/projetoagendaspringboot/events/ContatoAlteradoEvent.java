@@ -0,0 +1,54 @@
+package br.com.mascenadev.projetoagendaspringboot.events;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+
+/**
+ * Evento de aplicação publicado pelo {@link br.com.mascenadev.projetoagendaspringboot.service.ContatoService}
+ * a cada criação, alteração ou exclusão de um {@link Contato}.
+ * <p>
+ * Os ouvintes usam {@code @TransactionalEventListener}, de modo que só recebem o evento depois que a
+ * transação da escrita é confirmada (ou imediatamente, quando a escrita não ocorreu dentro de uma transação).
+ * </p>
+ *
+ * @param tipo     O tipo da alteração.
+ * @param tenantId O tenant dono do contato.
+ * @param id       O ID do contato alterado.
+ * @param contato  O estado do contato após a alteração; {@code null} em exclusões.
+ * @author Gilberto Dev
+ * @see ContatoAlteracoesFeed
+ * @since 1.1.0
+ */
+public record ContatoAlteradoEvent(Tipo tipo, String tenantId, Long id, Contato contato) {
+
+    /**
+     * Tipos de alteração de um contato.
+     */
+    public enum Tipo {
+        CRIADO, ATUALIZADO, EXCLUIDO
+    }
+
+    /**
+     * @param contato O contato criado, já com ID.
+     * @return O evento de criação.
+     */
+    public static ContatoAlteradoEvent criado(Contato contato) {
+        return new ContatoAlteradoEvent(Tipo.CRIADO, contato.getTenantId(), contato.getId(), contato);
+    }
+
+    /**
+     * @param contato O contato atualizado.
+     * @return O evento de alteração.
+     */
+    public static ContatoAlteradoEvent atualizado(Contato contato) {
+        return new ContatoAlteradoEvent(Tipo.ATUALIZADO, contato.getTenantId(), contato.getId(), contato);
+    }
+
+    /**
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato excluído.
+     * @return O evento de exclusão.
+     */
+    public static ContatoAlteradoEvent excluido(String tenantId, Long id) {
+        return new ContatoAlteradoEvent(Tipo.EXCLUIDO, tenantId, id, null);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.mascenadev.projetoagendaspringboot.exception;
+
+/**
+ * Base das **exceções de domínio** da agenda, traduzidas em respostas HTTP pelo {@link GlobalExceptionHandler}.
+ * <p>
+ * Estas exceções descrevem resultados esperados (contato inexistente, requisição inválida, versão desatualizada)
+ * e nunca chegam aos logs, por isso são criadas **sem stack trace** e sem exceções suprimidas: lançá-las custa
+ * o mesmo que criar um objeto comum, o que importa quando muitas requisições terminam em 4xx.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see GlobalExceptionHandler
+ * @since 1.1.0
+ */
+public abstract class AgendaException extends RuntimeException {
+
+    /**
+     * @param mensagem Descrição do problema.
+     */
+    protected AgendaException(String mensagem) {
+        super(mensagem, null, false, false);
+    }
+}
@@ -4,8 +4,9 @@ package br.com.mascenadev.projetoagendaspringboot.exception;
  * Exceção personalizada lançada para indicar que um recurso {@link br.com.mascenadev.projetoagendaspringboot.entities.Contato}
  * específico não pôde ser encontrado no sistema.
  * <p>
- * Esta exceção é do tipo **unchecked** (estende {@link RuntimeException}), o que significa que
- * não exige tratamento obrigatório em tempo de compilação.
+ * Esta exceção é do tipo **unchecked** (estende {@link AgendaException}), o que significa que
+ * não exige tratamento obrigatório em tempo de compilação. É criada sem stack trace, e a mensagem
+ * só é montada se for lida.
  * É tipicamente lançada pela camada de serviço ({@link br.com.mascenadev.projetoagendaspringboot.service.ContatoService})
  * e capturada por um controlador ({@link br.com.mascenadev.projetoagendaspringboot.controller.ContatoController})
  * ou por um manipulador de exceções global ({@code @ControllerAdvice}),
@@ -19,19 +20,21 @@ package br.com.mascenadev.projetoagendaspringboot.exception;
  * </ul>
  *
  * @author Gilberto Dev
- * @see RuntimeException
+ * @see AgendaException
  * @see br.com.mascenadev.projetoagendaspringboot.service.ContatoService
  * @see br.com.mascenadev.projetoagendaspringboot.controller.ContatoController
  * @since 1.0.0
  */
-public class ContatoNaoEncontradoException extends RuntimeException {
+public class ContatoNaoEncontradoException extends AgendaException {
+
+    private final Long id;
 
     /**
      * Construtor padrão que cria uma exceção com uma mensagem de erro genérica.
      * Útil quando o contexto específico do ID do contato não está disponível ou não é relevante.
      */
     public ContatoNaoEncontradoException() {
-        super("Contato não encontrado");
+        this(null);
     }
 
     /**
@@ -41,6 +44,19 @@ public class ContatoNaoEncontradoException extends RuntimeException {
      * @param id O {@link Long} identificador único do contato que não foi localizado.
      */
     public ContatoNaoEncontradoException(Long id) {
-        super("Contato com o ID:" + id + " não foi encontrado");
+        super(null);
+        this.id = id;
+    }
+
+    /**
+     * @return O ID do contato não encontrado, ou {@code null} se não informado.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getMessage() {
+        return id == null ? "Contato não encontrado" : "Contato com o ID:" + id + " não foi encontrado";
     }
 }
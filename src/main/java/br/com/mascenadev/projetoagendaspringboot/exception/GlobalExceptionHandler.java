@@ -1,15 +1,33 @@
 package br.com.mascenadev.projetoagendaspringboot.exception;
 
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.validation.ContatoValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * **Manipulador de Exceções Global** para a aplicação da agenda.
@@ -17,8 +35,9 @@ import java.util.Map;
  * Anotada com {@link org.springframework.web.bind.annotation.ControllerAdvice},
  * esta classe centraliza o tratamento de exceções lançadas por todos os
  * controladores REST ({@link org.springframework.web.bind.annotation.RestController}) da aplicação.
- * Ela intercepta exceções específicas e as traduz em respostas HTTP padronizadas e amigáveis para o cliente,
- * utilizando o DTO {@link ErroResponse} para formatar os detalhes do erro.
+ * Ela intercepta exceções específicas e as traduz em respostas HTTP padronizadas no formato
+ * **RFC 7807** ({@link ProblemDetail}, {@code application/problem+json}): {@code title} descreve o tipo de erro,
+ * {@code detail} traz a mensagem e, nos erros por campo, {@code erros} mapeia cada campo à sua mensagem.
  * </p>
  * <p>
  * Atualmente, fornece métodos especializados para tratar:
@@ -28,12 +47,26 @@ import java.util.Map;
  * que ocorrem quando os dados de entrada de uma requisição {@code @Valid} são inválidos.</li>
  * <li>**Recursos Não Encontrados:** Exceções personalizadas como {@link ContatoNaoEncontradoException},
  * indicando que um recurso solicitado não existe.</li>
+ * <li>**Conflitos de Versão:** {@link VersaoConflitanteException}, quando o {@code If-Match} de uma alteração
+ * não corresponde à versão atual do contato.</li>
+ * <li>**Conflitos de Dados:** {@link DataIntegrityViolationException}, quando uma escrita viola uma restrição
+ * do banco, como o e-mail único por tenant.</li>
+ * <li>**Requisições Malformadas:** corpo JSON ilegível ou parâmetro de tipo errado (como um ID não numérico).</li>
+ * <li>**Limites de Carga:** {@link LimiteExcedidoException} (429) e {@link ServicoSobrecarregadoException} (503),
+ * lançadas pelo {@link br.com.mascenadev.projetoagendaspringboot.limite.LimiteInterceptor}.</li>
  * <li>**Erros Internos Genéricos:** Qualquer outra {@link Exception} não capturada pelos tratadores específicos,
  * servindo como um fallback para garantir que nenhuma exceção interna vaze para o cliente sem um tratamento adequado.</li>
  * </ul>
+ * <p>
+ * As respostas mais frequentes em tráfego abusivo (404, 429, 503, corpo ou parâmetro inválido, e-mail duplicado
+ * e as combinações de erros do {@link ContatoValidator}) são serializadas uma única vez, na criação do bean, e
+ * devolvidas como bytes prontos: nenhum mapa, {@link ProblemDetail} ou passagem pelo Jackson por requisição.
+ * As exceções de domínio ({@link AgendaException}) também não preenchem stack trace.
+ * </p>
  *
  * @author Gilberto Dev
- * @see ErroResponse
+ * @see ProblemDetail
+ * @see AgendaException
  * @see ContatoNaoEncontradoException
  * @see org.springframework.web.bind.MethodArgumentNotValidException
  * @see org.springframework.web.bind.annotation.ExceptionHandler
@@ -43,62 +76,265 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    /**
+     * Propriedade do {@link ProblemDetail} com as mensagens de erro por campo.
+     */
+    public static final String PROPRIEDADE_ERROS = "erros";
+
+    private static final String ERRO_VALIDACAO = "Erro de validação nos campos enviados";
+
+    private static final String REQUISICAO_INVALIDA = "Requisição inválida";
+
+    /**
+     * Quantidade máxima de mensagens distintas de {@link RequisicaoInvalidaException} guardadas já serializadas.
+     * As mensagens da aplicação são fixas; o limite só protege a memória se alguma passar a variar.
+     */
+    private static final int LIMITE_MENSAGENS = 64;
+
+    /**
+     * Maior valor de {@code Retry-After}, em segundos, com resposta 429 pronta; valores acima são arredondados para ele.
+     */
+    private static final int RETRY_AFTER_MAXIMO = 60;
+
+    /**
+     * Campos validados pelo {@link ContatoValidator} e, para cada um, as mensagens possíveis.
+     */
+    private static final String[] CAMPOS = {"nome", "email", "telefone"};
+
+    private static final String[][] MENSAGENS = {
+            {ContatoValidator.NOME_OBRIGATORIO, ContatoValidator.NOME_TAMANHO},
+            {ContatoValidator.EMAIL_OBRIGATORIO, ContatoValidator.EMAIL_INVALIDO},
+            {ContatoValidator.TELEFONE_OBRIGATORIO, ContatoValidator.TELEFONE_FORMATO}
+    };
+
+    private final ObjectMapper objectMapper;
+
+    private final ResponseEntity<byte[]> naoEncontrado;
+
+    private final ResponseEntity<byte[]> corpoInvalido;
+
+    private final ResponseEntity<byte[]> parametroInvalido;
+
+    private final ResponseEntity<byte[]> emailDuplicado;
+
+    private final ResponseEntity<byte[]> conflito;
+
+    private final ResponseEntity<byte[]> erroInterno;
+
+    private final ResponseEntity<byte[]> sobrecarga;
+
+    /**
+     * Respostas 429 indexadas pelo valor de {@code Retry-After}, de 1 a {@link #RETRY_AFTER_MAXIMO} segundos.
+     */
+    private final ResponseEntity<byte[]>[] limiteExcedido;
+
+    /**
+     * Respostas de validação indexadas pela combinação de erros de {@link #CAMPOS}: cada campo contribui com
+     * 0 (sem erro), 1 ou 2 (a mensagem correspondente) multiplicado por 3 elevado à sua posição.
+     */
+    private final ResponseEntity<byte[]>[] validacao;
+
+    private final Map<String, ResponseEntity<byte[]>> requisicoesInvalidas = new ConcurrentHashMap<>();
+
+    /**
+     * Serializa as respostas constantes com o {@link ObjectMapper} da aplicação, o mesmo usado pelo Spring MVC.
+     *
+     * @param objectMapper O {@link ObjectMapper} configurado pela aplicação.
+     */
+    @SuppressWarnings("unchecked")
+    public GlobalExceptionHandler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.naoEncontrado = resposta(problema(HttpStatus.NOT_FOUND, "Contato não encontrado",
+                "O contato solicitado não existe"));
+        this.corpoInvalido = resposta(problema(HttpStatus.BAD_REQUEST, REQUISICAO_INVALIDA,
+                "O corpo da requisição não é um JSON válido para este recurso"));
+        this.parametroInvalido = resposta(problema(HttpStatus.BAD_REQUEST, REQUISICAO_INVALIDA,
+                "Parâmetro da requisição com tipo inválido"));
+        this.emailDuplicado = resposta(problemaComErros(HttpStatus.CONFLICT, "Conflito com dados existentes",
+                Map.of("email", "Já existe um contato com este e-mail")));
+        this.conflito = resposta(problema(HttpStatus.CONFLICT, "Conflito com dados existentes",
+                "A alteração viola uma restrição de integridade dos dados"));
+        this.erroInterno = resposta(problema(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno no servidor",
+                "Ocorreu um erro inesperado ao processar a requisição"));
+
+        this.sobrecarga = resposta(problema(HttpStatus.SERVICE_UNAVAILABLE, "Serviço sobrecarregado",
+                "O serviço está temporariamente sobrecarregado; tente novamente em instantes"), 1);
+
+        byte[] corpoLimite = serializar(problema(HttpStatus.TOO_MANY_REQUESTS, "Limite de requisições excedido",
+                "Muitas requisições deste cliente; tente novamente após o tempo indicado em Retry-After"));
+        this.limiteExcedido = new ResponseEntity[RETRY_AFTER_MAXIMO + 1];
+        for (int segundos = 1; segundos <= RETRY_AFTER_MAXIMO; segundos++) {
+            limiteExcedido[segundos] = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Integer.toString(segundos))
+                    .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                    .body(corpoLimite);
+        }
+
+        this.validacao = new ResponseEntity[27];
+        for (int indice = 1; indice < validacao.length; indice++) {
+            Map<String, String> erros = new HashMap<>();
+            for (int campo = 0, resto = indice; campo < CAMPOS.length; campo++, resto /= 3) {
+                if (resto % 3 != 0) {
+                    erros.put(CAMPOS[campo], MENSAGENS[campo][resto % 3 - 1]);
+                }
+            }
+            validacao[indice] = resposta(problemaComErros(HttpStatus.BAD_REQUEST, ERRO_VALIDACAO, erros));
+        }
+    }
+
     /**
      * Trata exceções do tipo {@link MethodArgumentNotValidException}, que ocorrem
      * quando a validação de argumentos anotados com {@code @Valid} falha.
      * <p>
-     * Este método extrai todos os erros de validação dos campos, formata-os em um mapa
-     * e retorna um {@link ResponseEntity} com status HTTP {@link HttpStatus#BAD_REQUEST} (400)
-     * e um {@link ErroResponse} contendo os detalhes dos erros.
+     * Retorna status HTTP {@link HttpStatus#BAD_REQUEST} (400) e um {@link ProblemDetail} com as mensagens
+     * de cada campo em {@value #PROPRIEDADE_ERROS}. As combinações produzidas pelo {@link ContatoValidator}
+     * já estão serializadas; qualquer outra é montada na hora.
      * </p>
      *
      * @param ex A exceção {@link MethodArgumentNotValidException} capturada, contendo os resultados da validação.
-     * @return Um {@link ResponseEntity} com {@link ErroResponse} detalhando os erros de validação e status HTTP 400.
+     * @return Um {@link ResponseEntity} com o {@link ProblemDetail} serializado e status HTTP 400.
      * @see MethodArgumentNotValidException
-     * @see ErroResponse
      * @see HttpStatus#BAD_REQUEST
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErroResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
-        Map<String, String> fieldErrors = new HashMap<>();
-        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
-            fieldErrors.put(error.getField(), error.getDefaultMessage());
-        }
-
-        ErroResponse erroResponse = new ErroResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                "Erro de validação nos campos enviados",
-                fieldErrors
-        );
+    public ResponseEntity<byte[]> handleValidationErrors(MethodArgumentNotValidException ex) {
+        return validacao(ex.getBindingResult());
+    }
 
-        return ResponseEntity.badRequest().body(erroResponse);
+    /**
+     * Trata exceções do tipo {@link WebExchangeBindException}, equivalente reativo (WebFlux) de
+     * {@link MethodArgumentNotValidException}, com o mesmo formato de resposta.
+     *
+     * @param ex A exceção {@link WebExchangeBindException} capturada, contendo os resultados da validação.
+     * @return Um {@link ResponseEntity} com o {@link ProblemDetail} serializado e status HTTP 400.
+     * @see #handleValidationErrors(MethodArgumentNotValidException)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<byte[]> handleReactiveValidationErrors(WebExchangeBindException ex) {
+        return validacao(ex.getBindingResult());
     }
 
     /**
      * Trata exceções personalizadas {@link ContatoNaoEncontradoException}.
      * <p>
      * Este método é acionado quando uma tentativa de buscar, atualizar ou excluir um contato
-     * com um ID inexistente falha. Ele retorna um {@link ResponseEntity} com status HTTP
-     * {@link HttpStatus#NOT_FOUND} (404) e um {@link ErroResponse} com a mensagem de erro.
+     * com um ID inexistente falha. A resposta, com status HTTP {@link HttpStatus#NOT_FOUND} (404),
+     * é sempre a mesma e não repete o ID, que já está na URL da requisição.
      * </p>
      *
      * @param ex A exceção {@link ContatoNaoEncontradoException} que foi lançada.
-     * @return Um {@link ResponseEntity} com {@link ErroResponse} e status HTTP 404 (Not Found).
+     * @return Um {@link ResponseEntity} constante com status HTTP 404 (Not Found).
      * @see ContatoNaoEncontradoException
-     * @see ErroResponse
      * @see HttpStatus#NOT_FOUND
      */
     @ExceptionHandler(ContatoNaoEncontradoException.class)
-    public ResponseEntity<ErroResponse> handleContatoNaoEncontrado(ContatoNaoEncontradoException ex) {
-        ErroResponse erroResponse = new ErroResponse(
-                LocalDateTime.now(),
-                HttpStatus.NOT_FOUND.value(),
-                "Contato não encontrado",
-                ex.getMessage()
-        );
+    public ResponseEntity<byte[]> handleContatoNaoEncontrado(ContatoNaoEncontradoException ex) {
+        return naoEncontrado;
+    }
+
+    /**
+     * Trata a exceção {@link VersaoConflitanteException}, lançada quando o {@code If-Match} de uma
+     * alteração não corresponde mais à versão atual do contato.
+     *
+     * @param ex A exceção {@link VersaoConflitanteException} que foi lançada.
+     * @return Um {@link ResponseEntity} com o {@link ProblemDetail} serializado e status HTTP 412 (Precondition Failed).
+     * @see VersaoConflitanteException
+     * @see HttpStatus#PRECONDITION_FAILED
+     */
+    @ExceptionHandler(VersaoConflitanteException.class)
+    public ResponseEntity<byte[]> handleVersaoConflitante(VersaoConflitanteException ex) {
+        return resposta(problema(HttpStatus.PRECONDITION_FAILED, "Contato alterado por outra requisição", ex.getMessage()));
+    }
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(erroResponse);
+    /**
+     * Trata a exceção {@link DataIntegrityViolationException}, lançada quando uma escrita viola uma restrição do banco.
+     * <p>
+     * A unicidade do e-mail não é verificada com uma consulta antes de cada escrita: o próprio banco a garante com
+     * a restrição {@value Contato#RESTRICAO_EMAIL}, e a violação é traduzida aqui em {@link HttpStatus#CONFLICT} (409).
+     * A mensagem do banco não é devolvida ao cliente, apenas usada para reconhecer a restrição.
+     * </p>
+     *
+     * @param ex A exceção {@link DataIntegrityViolationException} que foi lançada.
+     * @return Um {@link ResponseEntity} constante com status HTTP 409 (Conflict).
+     * @see HttpStatus#CONFLICT
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<byte[]> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        String causa = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        return causa.contains(Contato.RESTRICAO_EMAIL) ? emailDuplicado : conflito;
+    }
+
+    /**
+     * Trata a exceção {@link RequisicaoInvalidaException}, lançada quando parâmetros da requisição
+     * (como o cursor de paginação) não podem ser interpretados.
+     * <p>
+     * As mensagens desta exceção são fixas, então cada resposta é serializada uma vez e reaproveitada.
+     * </p>
+     *
+     * @param ex A exceção {@link RequisicaoInvalidaException} que foi lançada.
+     * @return Um {@link ResponseEntity} com o {@link ProblemDetail} serializado e status HTTP 400 (Bad Request).
+     * @see RequisicaoInvalidaException
+     * @see HttpStatus#BAD_REQUEST
+     */
+    @ExceptionHandler(RequisicaoInvalidaException.class)
+    public ResponseEntity<byte[]> handleRequisicaoInvalida(RequisicaoInvalidaException ex) {
+        ResponseEntity<byte[]> resposta = requisicoesInvalidas.get(ex.getMessage());
+        if (resposta == null) {
+            resposta = resposta(problema(HttpStatus.BAD_REQUEST, REQUISICAO_INVALIDA, ex.getMessage()));
+            if (requisicoesInvalidas.size() < LIMITE_MENSAGENS) {
+                requisicoesInvalidas.putIfAbsent(ex.getMessage(), resposta);
+            }
+        }
+        return resposta;
+    }
+
+    /**
+     * Trata a exceção {@link LimiteExcedidoException}, lançada quando um cliente ultrapassa a taxa de um endpoint.
+     *
+     * @param ex A exceção {@link LimiteExcedidoException} que foi lançada.
+     * @return Um {@link ResponseEntity} constante com status HTTP 429 (Too Many Requests) e {@code Retry-After}.
+     * @see HttpStatus#TOO_MANY_REQUESTS
+     */
+    @ExceptionHandler(LimiteExcedidoException.class)
+    public ResponseEntity<byte[]> handleLimiteExcedido(LimiteExcedidoException ex) {
+        return limiteExcedido[(int) Math.max(1, Math.min(RETRY_AFTER_MAXIMO, ex.getSegundosParaNovaTentativa()))];
+    }
+
+    /**
+     * Trata a exceção {@link ServicoSobrecarregadoException}, lançada quando a requisição é descartada pelo
+     * limite de requisições simultâneas.
+     *
+     * @param ex A exceção {@link ServicoSobrecarregadoException} que foi lançada.
+     * @return Um {@link ResponseEntity} constante com status HTTP 503 (Service Unavailable) e {@code Retry-After}.
+     * @see HttpStatus#SERVICE_UNAVAILABLE
+     */
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<byte[]> handleServicoSobrecarregado(ServicoSobrecarregadoException ex) {
+        return sobrecarga;
+    }
+
+    /**
+     * Trata corpos que não podem ser lidos (JSON malformado ou com tipos incompatíveis com o DTO).
+     *
+     * @param ex A exceção {@link HttpMessageNotReadableException} que foi lançada.
+     * @return Um {@link ResponseEntity} constante com status HTTP 400 (Bad Request).
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<byte[]> handleCorpoInvalido(HttpMessageNotReadableException ex) {
+        return corpoInvalido;
+    }
+
+    /**
+     * Trata parâmetros de caminho ou de consulta que não podem ser convertidos, como {@code GET /contatos/abc}.
+     *
+     * @param ex A exceção {@link TypeMismatchException} que foi lançada.
+     * @return Um {@link ResponseEntity} constante com status HTTP 400 (Bad Request).
+     */
+    @ExceptionHandler(TypeMismatchException.class)
+    public ResponseEntity<byte[]> handleParametroInvalido(TypeMismatchException ex) {
+        return parametroInvalido;
     }
 
     /**
@@ -106,28 +342,100 @@ public class GlobalExceptionHandler {
      * que não tenha sido especificamente tratada por outros métodos neste ou em outros
      * manipuladores de exceção.
      * <p>
-     * Este método garante que nenhuma exceção não tratada vaze para o cliente,
-     * retornando um {@link ResponseEntity} com status HTTP
-     * {@link HttpStatus#INTERNAL_SERVER_ERROR} (500). A mensagem da exceção
-     * é incluída, mas em um ambiente de produção, esta mensagem pode ser
-     * mais genérica para evitar expor detalhes internos do sistema.
+     * Exceções do próprio Spring que já descrevem a resposta ({@link ErrorResponse}, como método não suportado
+     * ou tipo de mídia inválido) mantêm o status e o {@link ProblemDetail} delas. As demais são registradas no log
+     * e respondidas com {@link HttpStatus#INTERNAL_SERVER_ERROR} (500) e um corpo constante, sem a mensagem da
+     * exceção, para não expor detalhes internos do sistema.
      * </p>
      *
      * @param ex A exceção {@link Exception} genérica que foi capturada.
-     * @return Um {@link ResponseEntity} com {@link ErroResponse} e status HTTP 500 (Internal Server Error).
+     * @return Um {@link ResponseEntity} com o {@link ProblemDetail} serializado.
      * @see Exception
-     * @see ErroResponse
      * @see HttpStatus#INTERNAL_SERVER_ERROR
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErroResponse> handleGenericException(Exception ex) {
-        ErroResponse erroResponse = new ErroResponse(
-                LocalDateTime.now(),
-                HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                "Erro interno no servidor",
-                ex.getMessage()
-        );
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(erroResponse);
+    public ResponseEntity<byte[]> handleGenericException(Exception ex) {
+        if (ex instanceof ErrorResponse erro) {
+            return ResponseEntity.status(erro.getStatusCode())
+                    .headers(erro.getHeaders())
+                    .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                    .body(serializar(erro.getBody()));
+        }
+        log.error("Erro não tratado ao processar a requisição", ex);
+        return erroInterno;
+    }
+
+    private ResponseEntity<byte[]> validacao(BindingResult resultado) {
+        List<FieldError> errosCampos = resultado.getFieldErrors();
+        int indice = indiceValidacao(errosCampos);
+        if (indice > 0) {
+            return validacao[indice];
+        }
+        Map<String, String> erros = new HashMap<>();
+        for (FieldError error : errosCampos) {
+            erros.put(error.getField(), error.getDefaultMessage());
+        }
+        return resposta(problemaComErros(HttpStatus.BAD_REQUEST, ERRO_VALIDACAO, erros));
+    }
+
+    /**
+     * @return A posição da combinação de erros em {@link #validacao}, ou {@code -1} se algum erro não for
+     * uma das mensagens conhecidas (ou repetir um campo).
+     */
+    private static int indiceValidacao(List<FieldError> erros) {
+        int indice = 0;
+        for (FieldError erro : erros) {
+            int peso = 1;
+            int campo = 0;
+            while (campo < CAMPOS.length && !CAMPOS[campo].equals(erro.getField())) {
+                campo++;
+                peso *= 3;
+            }
+            if (campo == CAMPOS.length || (indice / peso) % 3 != 0) {
+                return -1;
+            }
+            if (MENSAGENS[campo][0].equals(erro.getDefaultMessage())) {
+                indice += peso;
+            } else if (MENSAGENS[campo][1].equals(erro.getDefaultMessage())) {
+                indice += 2 * peso;
+            } else {
+                return -1;
+            }
+        }
+        return indice;
+    }
+
+    private static ProblemDetail problema(HttpStatusCode status, String titulo, String detalhe) {
+        ProblemDetail problema = ProblemDetail.forStatusAndDetail(status, detalhe);
+        problema.setTitle(titulo);
+        return problema;
+    }
+
+    private static ProblemDetail problemaComErros(HttpStatusCode status, String titulo, Map<String, String> erros) {
+        ProblemDetail problema = ProblemDetail.forStatus(status);
+        problema.setTitle(titulo);
+        problema.setProperty(PROPRIEDADE_ERROS, erros);
+        return problema;
+    }
+
+    private ResponseEntity<byte[]> resposta(ProblemDetail problema) {
+        return ResponseEntity.status(problema.getStatus())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(serializar(problema));
+    }
+
+    private ResponseEntity<byte[]> resposta(ProblemDetail problema, int retryAfter) {
+        return ResponseEntity.status(problema.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Integer.toString(retryAfter))
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(serializar(problema));
+    }
+
+    private byte[] serializar(ProblemDetail problema) {
+        try {
+            return objectMapper.writeValueAsBytes(problema);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar a resposta de erro", e);
+        }
     }
 }
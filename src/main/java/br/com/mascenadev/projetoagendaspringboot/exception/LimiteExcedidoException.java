@@ -0,0 +1,32 @@
+package br.com.mascenadev.projetoagendaspringboot.exception;
+
+/**
+ * Exceção lançada quando um cliente ultrapassa o limite de requisições de um endpoint.
+ * <p>
+ * É uma exceção **unchecked** (estende {@link AgendaException}, sem stack trace) e é traduzida pelo
+ * {@link GlobalExceptionHandler} em uma resposta HTTP **429 Too Many Requests** com o cabeçalho {@code Retry-After}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.limite.LimiteInterceptor
+ * @since 1.1.0
+ */
+public class LimiteExcedidoException extends AgendaException {
+
+    private final long segundosParaNovaTentativa;
+
+    /**
+     * @param segundosParaNovaTentativa Segundos até o cliente voltar a ter requisições disponíveis.
+     */
+    public LimiteExcedidoException(long segundosParaNovaTentativa) {
+        super("Limite de requisições excedido");
+        this.segundosParaNovaTentativa = segundosParaNovaTentativa;
+    }
+
+    /**
+     * @return Segundos até o cliente voltar a ter requisições disponíveis, enviados no cabeçalho {@code Retry-After}.
+     */
+    public long getSegundosParaNovaTentativa() {
+        return segundosParaNovaTentativa;
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.mascenadev.projetoagendaspringboot.exception;
+
+/**
+ * Exceção lançada quando os parâmetros de uma requisição não podem ser interpretados,
+ * como um cursor de paginação malformado.
+ * <p>
+ * É uma exceção **unchecked** (estende {@link AgendaException}, sem stack trace) e é traduzida pelo
+ * {@link GlobalExceptionHandler} em uma resposta HTTP **400 Bad Request**.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see GlobalExceptionHandler
+ * @since 1.1.0
+ */
+public class RequisicaoInvalidaException extends AgendaException {
+
+    /**
+     * Cria a exceção com a mensagem que será devolvida ao cliente.
+     *
+     * @param mensagem Descrição do problema encontrado na requisição.
+     */
+    public RequisicaoInvalidaException(String mensagem) {
+        super(mensagem);
+    }
+}
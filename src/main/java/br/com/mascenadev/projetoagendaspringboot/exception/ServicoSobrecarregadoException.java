@@ -0,0 +1,23 @@
+package br.com.mascenadev.projetoagendaspringboot.exception;
+
+/**
+ * Exceção lançada quando a requisição é descartada porque o limite de requisições simultâneas foi atingido,
+ * normalmente por aumento da latência do banco.
+ * <p>
+ * É uma exceção **unchecked** (estende {@link AgendaException}, sem stack trace) e é traduzida pelo
+ * {@link GlobalExceptionHandler} em uma resposta HTTP **503 Service Unavailable** com o cabeçalho {@code Retry-After}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.limite.LimitadorConcorrencia
+ * @since 1.1.0
+ */
+public class ServicoSobrecarregadoException extends AgendaException {
+
+    /**
+     * Cria a exceção com a mensagem padrão.
+     */
+    public ServicoSobrecarregadoException() {
+        super("Serviço sobrecarregado");
+    }
+}
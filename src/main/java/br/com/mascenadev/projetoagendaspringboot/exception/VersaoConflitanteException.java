@@ -0,0 +1,26 @@
+package br.com.mascenadev.projetoagendaspringboot.exception;
+
+/**
+ * Exceção lançada quando uma alteração condicional ({@code If-Match}) é feita sobre uma versão de
+ * {@link br.com.mascenadev.projetoagendaspringboot.entities.Contato} que não é mais a atual.
+ * <p>
+ * É uma exceção **unchecked** (estende {@link AgendaException}, sem stack trace) e é traduzida pelo
+ * {@link GlobalExceptionHandler} em uma resposta HTTP **412 Precondition Failed**, evitando que
+ * a alteração de um cliente sobrescreva a de outro.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see GlobalExceptionHandler
+ * @since 1.1.0
+ */
+public class VersaoConflitanteException extends AgendaException {
+
+    /**
+     * A mensagem não repete a versão do {@code If-Match}: o cliente deve reler o contato para obter a ETag atual.
+     *
+     * @param id O ID do contato.
+     */
+    public VersaoConflitanteException(Long id) {
+        super("Contato com o ID:" + id + " foi alterado por outra requisição; leia-o novamente para obter a ETag atual");
+    }
+}
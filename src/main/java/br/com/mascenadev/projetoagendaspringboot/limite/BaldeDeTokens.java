@@ -0,0 +1,71 @@
+package br.com.mascenadev.projetoagendaspringboot.limite;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * **Balde de tokens** sem bloqueio, usado para limitar a taxa de requisições de um cliente.
+ * <p>
+ * O balde comporta até {@code rajada} tokens e recebe {@code requisicoesPorSegundo} tokens por segundo. Em vez de
+ * guardar a quantidade de tokens e o instante da última reposição, guarda apenas o **instante teórico de chegada**
+ * da próxima requisição (formulação GCRA, equivalente ao balde de tokens): cada requisição aceita avança esse
+ * instante em um intervalo, e uma requisição é recusada quando ele está mais de {@code rajada - 1} intervalos à frente
+ * do relógio. Assim, todo o estado cabe em um único {@link AtomicLong}, atualizado por compare-and-set, sem locks
+ * e sem alocação por requisição.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see LimiteInterceptor
+ * @since 1.1.0
+ */
+public final class BaldeDeTokens {
+
+    private final long intervaloNanos;
+
+    private final long toleranciaNanos;
+
+    /**
+     * Instante teórico ({@link System#nanoTime()}) de chegada da próxima requisição; quando está no passado,
+     * o balde está cheio.
+     */
+    private final AtomicLong chegadaTeorica = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param requisicoesPorSegundo Tokens repostos por segundo.
+     * @param rajada                Capacidade do balde: requisições aceitas de uma vez, com o balde cheio.
+     */
+    public BaldeDeTokens(double requisicoesPorSegundo, int rajada) {
+        if (requisicoesPorSegundo <= 0 || rajada < 1) {
+            throw new IllegalArgumentException("A taxa deve ser positiva e a rajada de pelo menos 1 requisição");
+        }
+        this.intervaloNanos = Math.max(1, Math.round(1_000_000_000 / requisicoesPorSegundo));
+        this.toleranciaNanos = intervaloNanos * (rajada - 1);
+    }
+
+    /**
+     * Tenta consumir um token.
+     *
+     * @param agora O instante atual, em {@link System#nanoTime()}.
+     * @return {@code 0} se o token foi consumido, ou quantos nanossegundos faltam para haver um token disponível.
+     */
+    public long consumir(long agora) {
+        long atual;
+        long proxima;
+        do {
+            atual = chegadaTeorica.get();
+            long base = Math.max(atual, agora);
+            if (base - agora > toleranciaNanos) {
+                return base - agora - toleranciaNanos;
+            }
+            proxima = base + intervaloNanos;
+        } while (!chegadaTeorica.compareAndSet(atual, proxima));
+        return 0;
+    }
+
+    /**
+     * @param agora O instante atual, em {@link System#nanoTime()}.
+     * @return {@code true} se o balde está cheio, ou seja, se descartá-lo equivale a criar outro.
+     */
+    public boolean cheio(long agora) {
+        return chegadaTeorica.get() <= agora;
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.mascenadev.projetoagendaspringboot.limite;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * **Limitador adaptativo de concorrência** (AIMD) para as requisições que chegam ao banco.
+ * <p>
+ * Limita quantas requisições são processadas ao mesmo tempo. O limite cresce uma unidade a cada {@code limite}
+ * requisições concluídas dentro da latência alvo e é reduzido em 10% quando uma requisição passa do alvo, no máximo
+ * uma vez por intervalo de latência alvo, para que uma única rajada lenta não derrube o limite até o mínimo. Quando o
+ * banco fica lento, as requisições excedentes são recusadas na entrada em vez de se acumularem na fila do pool de
+ * conexões.
+ * </p>
+ * <p>
+ * Toda a sincronização usa variáveis atômicas; nenhuma thread aguarda por uma permissão.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see LimiteInterceptor
+ * @since 1.1.0
+ */
+public class LimitadorConcorrencia {
+
+    private static final double FATOR_REDUCAO = 0.9;
+
+    private final int minimo;
+
+    private final int maximo;
+
+    private final long latenciaAlvoNanos;
+
+    private final AtomicInteger limite;
+
+    private final AtomicInteger emUso = new AtomicInteger();
+
+    private final AtomicInteger sucessos = new AtomicInteger();
+
+    private final AtomicLong ultimaReducao;
+
+    /**
+     * @param inicial           Limite inicial de requisições simultâneas.
+     * @param minimo            Limite mínimo, mantido mesmo com o banco lento.
+     * @param maximo            Limite máximo.
+     * @param latenciaAlvoNanos Latência, em nanossegundos, acima da qual o limite é reduzido.
+     */
+    public LimitadorConcorrencia(int inicial, int minimo, int maximo, long latenciaAlvoNanos) {
+        if (minimo < 1 || minimo > maximo || inicial < minimo || inicial > maximo) {
+            throw new IllegalArgumentException("Os limites de concorrência devem satisfazer 1 <= minimo <= inicial <= maximo");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.latenciaAlvoNanos = latenciaAlvoNanos;
+        this.limite = new AtomicInteger(inicial);
+        this.ultimaReducao = new AtomicLong(System.nanoTime() - latenciaAlvoNanos);
+    }
+
+    /**
+     * @return {@code true} se a requisição pode prosseguir; nesse caso, {@link #liberar} deve ser chamado ao final.
+     */
+    public boolean adquirir() {
+        int atual;
+        do {
+            atual = emUso.get();
+            if (atual >= limite.get()) {
+                return false;
+            }
+        } while (!emUso.compareAndSet(atual, atual + 1));
+        return true;
+    }
+
+    /**
+     * Devolve a permissão e ajusta o limite pela latência observada.
+     *
+     * @param latenciaNanos Duração da requisição, em nanossegundos.
+     * @param agora         O instante atual, em {@link System#nanoTime()}.
+     */
+    public void liberar(long latenciaNanos, long agora) {
+        emUso.decrementAndGet();
+        if (latenciaNanos > latenciaAlvoNanos) {
+            reduzir(agora);
+        } else {
+            aumentar();
+        }
+    }
+
+    /**
+     * Devolve a permissão sem ajustar o limite, para requisições cuja duração não reflete a latência do banco
+     * (como as assíncronas, que seguem em outra thread).
+     */
+    public void liberarSemAmostra() {
+        emUso.decrementAndGet();
+    }
+
+    public int getLimite() {
+        return limite.get();
+    }
+
+    public int getEmUso() {
+        return emUso.get();
+    }
+
+    private void reduzir(long agora) {
+        long ultima = ultimaReducao.get();
+        if (agora - ultima < latenciaAlvoNanos || !ultimaReducao.compareAndSet(ultima, agora)) {
+            return;
+        }
+        int atual;
+        do {
+            atual = limite.get();
+        } while (!limite.compareAndSet(atual, Math.max(minimo, (int) (atual * FATOR_REDUCAO))));
+        sucessos.set(0);
+    }
+
+    private void aumentar() {
+        int atual = limite.get();
+        if (atual < maximo && sucessos.incrementAndGet() >= atual) {
+            sucessos.set(0);
+            limite.compareAndSet(atual, atual + 1);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.mascenadev.projetoagendaspringboot.limite;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Baldes de tokens por cliente de um endpoint ({@code método + padrão}) e suas métricas.
+ */
+final class LimitadorEndpoint {
+
+    private static final long INTERVALO_LIMPEZA_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LimiteProperties.Taxa taxa;
+
+    private final int maximoClientes;
+
+    private final ConcurrentHashMap<String, BaldeDeTokens> baldes = new ConcurrentHashMap<>();
+
+    /**
+     * Balde dividido pelos clientes que chegam quando {@link #baldes} já tem {@code maximoClientes} entradas.
+     */
+    private final BaldeDeTokens excedente;
+
+    private final AtomicLong ultimaLimpeza = new AtomicLong(System.nanoTime());
+
+    private final Counter rejeicoesPorTaxa;
+
+    private final Counter rejeicoesPorConcorrencia;
+
+    LimitadorEndpoint(LimiteProperties.Taxa taxa, int maximoClientes, MeterRegistry registry, String metodo, String uri) {
+        this.taxa = taxa;
+        this.maximoClientes = maximoClientes;
+        this.excedente = new BaldeDeTokens(taxa.requisicoesPorSegundo(), taxa.rajada());
+
+        Tags tags = Tags.of("uri", uri, "method", metodo);
+        this.rejeicoesPorTaxa = Counter.builder("agenda.limite.rejeicoes")
+                .description("Requisições recusadas pelo limite de taxa (429) ou de concorrência (503)")
+                .tags(tags).tag("motivo", "taxa")
+                .register(registry);
+        this.rejeicoesPorConcorrencia = Counter.builder("agenda.limite.rejeicoes")
+                .description("Requisições recusadas pelo limite de taxa (429) ou de concorrência (503)")
+                .tags(tags).tag("motivo", "concorrencia")
+                .register(registry);
+        Gauge.builder("agenda.limite.taxa", taxa, LimiteProperties.Taxa::requisicoesPorSegundo)
+                .description("Requisições por segundo permitidas por cliente")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("agenda.limite.rajada", taxa, LimiteProperties.Taxa::rajada)
+                .description("Requisições aceitas de uma vez por cliente ocioso")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("agenda.limite.clientes", baldes, ConcurrentHashMap::size)
+                .description("Clientes com balde de tokens próprio")
+                .tags(tags)
+                .register(registry);
+    }
+
+    /**
+     * @param cliente A chave do cliente.
+     * @param agora   O instante atual, em {@link System#nanoTime()}.
+     * @return {@code 0} se a requisição foi aceita, ou os nanossegundos até haver um token disponível.
+     */
+    long consumir(String cliente, long agora) {
+        BaldeDeTokens balde = baldes.get(cliente);
+        if (balde == null) {
+            balde = novoBalde(cliente, agora);
+        }
+        long espera = balde.consumir(agora);
+        if (espera > 0) {
+            rejeicoesPorTaxa.increment();
+        }
+        return espera;
+    }
+
+    void rejeitadaPorConcorrencia() {
+        rejeicoesPorConcorrencia.increment();
+    }
+
+    /**
+     * Cria o balde de um cliente novo. Com o limite de clientes atingido, descarta os baldes cheios (clientes
+     * ociosos, no máximo uma vez por segundo) e, se ainda não houver espaço, usa o balde {@link #excedente}.
+     */
+    private BaldeDeTokens novoBalde(String cliente, long agora) {
+        if (baldes.size() >= maximoClientes) {
+            long ultima = ultimaLimpeza.get();
+            if (agora - ultima >= INTERVALO_LIMPEZA_NANOS && ultimaLimpeza.compareAndSet(ultima, agora)) {
+                baldes.values().removeIf(balde -> balde.cheio(agora));
+            }
+            if (baldes.size() >= maximoClientes) {
+                return excedente;
+            }
+        }
+        return baldes.computeIfAbsent(cliente, chave -> new BaldeDeTokens(taxa.requisicoesPorSegundo(), taxa.rajada()));
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.mascenadev.projetoagendaspringboot.limite;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * responsável por registrar o {@link LimiteInterceptor} nos endpoints de contatos.
+ * <p>
+ * O interceptador é registrado antes dos demais (inclusive do
+ * {@link br.com.mascenadev.projetoagendaspringboot.tenant.TenantInterceptor}), nos mesmos caminhos
+ * {@code /contatos/**} do {@link br.com.mascenadev.projetoagendaspringboot.config.CorsConfig}, para que uma
+ * requisição recusada não chegue a fazer nenhum outro trabalho. Pode ser desligado com
+ * {@code agenda.limite.habilitado=false}. Não se aplica à variante reativa.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see LimiteProperties
+ * @since 1.1.0
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "agenda.limite.habilitado", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(LimiteProperties.class)
+public class LimiteConfig implements WebMvcConfigurer {
+
+    private final LimiteInterceptor interceptor;
+
+    /**
+     * @param propriedades A configuração {@code agenda.limite.*}.
+     * @param registry     O {@link MeterRegistry} da aplicação.
+     */
+    public LimiteConfig(LimiteProperties propriedades, MeterRegistry registry) {
+        this.interceptor = new LimiteInterceptor(propriedades, registry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor)
+                .addPathPatterns("/contatos", "/contatos/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
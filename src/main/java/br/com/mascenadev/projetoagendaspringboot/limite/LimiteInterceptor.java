@@ -0,0 +1,155 @@
+package br.com.mascenadev.projetoagendaspringboot.limite;
+
+import br.com.mascenadev.projetoagendaspringboot.exception.LimiteExcedidoException;
+import br.com.mascenadev.projetoagendaspringboot.exception.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.security.Principal;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptador que aplica o **limite de requisições por cliente** e o **descarte de carga** aos endpoints de contatos.
+ * <p>
+ * Cada requisição passa por duas verificações, nesta ordem:
+ * </p>
+ * <ol>
+ * <li>o {@link BaldeDeTokens} do cliente no endpoint ({@code método + padrão}, como {@code GET /contatos/{id}}),
+ * com a taxa de {@link LimiteProperties}; sem token, a resposta é HTTP 429 com {@code Retry-After};</li>
+ * <li>o {@link LimitadorConcorrencia}, compartilhado por todos os endpoints porque o banco é um só; sem permissão,
+ * a resposta é HTTP 503.</li>
+ * </ol>
+ * <p>
+ * As recusas são lançadas como exceções sem stack trace e respondidas pelo
+ * {@link br.com.mascenadev.projetoagendaspringboot.exception.GlobalExceptionHandler} com corpos já serializados,
+ * para que o tráfego recusado custe o mínimo possível. A duração de cada requisição aceita alimenta o limitador de
+ * concorrência; requisições assíncronas (exportação e feed de alterações) devolvem a permissão quando o
+ * processamento assíncrono começa, sem amostra de latência.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see LimiteConfig
+ * @since 1.1.0
+ */
+public class LimiteInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String INICIO = LimiteInterceptor.class.getName() + ".inicio";
+
+    private static final Set<String> METODOS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+
+    private static final ServicoSobrecarregadoException SOBRECARGA = new ServicoSobrecarregadoException();
+
+    private final LimiteProperties propriedades;
+
+    private final MeterRegistry registry;
+
+    private final LimitadorConcorrencia concorrencia;
+
+    /**
+     * Limitadores por padrão de URI e, dentro de cada um, por método HTTP; criados no primeiro acesso.
+     */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LimitadorEndpoint>> limitadores = new ConcurrentHashMap<>();
+
+    /**
+     * @param propriedades A configuração {@code agenda.limite.*}.
+     * @param registry     O {@link MeterRegistry} onde as métricas são registradas.
+     */
+    public LimiteInterceptor(LimiteProperties propriedades, MeterRegistry registry) {
+        LimiteProperties.Concorrencia config = propriedades.concorrencia();
+        this.propriedades = propriedades;
+        this.registry = registry;
+        this.concorrencia = new LimitadorConcorrencia(config.inicial(), config.minimo(), config.maximo(),
+                config.latenciaAlvo().toNanos());
+        Gauge.builder("agenda.limite.concorrencia", concorrencia, LimitadorConcorrencia::getLimite)
+                .description("Limite atual de requisições simultâneas")
+                .register(registry);
+        Gauge.builder("agenda.limite.concorrencia.em.uso", concorrencia, LimitadorConcorrencia::getEmUso)
+                .description("Requisições em processamento")
+                .register(registry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+        long agora = System.nanoTime();
+        LimitadorEndpoint endpoint = limitador(request);
+        long espera = endpoint.consumir(cliente(request), agora);
+        if (espera > 0) {
+            throw new LimiteExcedidoException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(espera + 999_999_999)));
+        }
+        if (!concorrencia.adquirir()) {
+            endpoint.rejeitadaPorConcorrencia();
+            throw SOBRECARGA;
+        }
+        request.setAttribute(INICIO, agora);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(INICIO) != null) {
+            request.removeAttribute(INICIO);
+            concorrencia.liberarSemAmostra();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object inicio = request.getAttribute(INICIO);
+        if (inicio != null) {
+            request.removeAttribute(INICIO);
+            long agora = System.nanoTime();
+            concorrencia.liberar(agora - (Long) inicio, agora);
+        }
+    }
+
+    /**
+     * Identifica o cliente pelo cabeçalho confiável, quando configurado, ou pelo usuário autenticado; na falta de
+     * ambos, pelo endereço remoto. Um cabeçalho escolhido pelo próprio cliente nunca é usado por padrão, pois
+     * bastaria trocá-lo a cada requisição para obter um balde novo.
+     *
+     * @return A chave do balde do cliente.
+     */
+    private String cliente(HttpServletRequest request) {
+        String cabecalho = propriedades.cabecalhoCliente();
+        if (cabecalho != null) {
+            String cliente = request.getHeader(cabecalho);
+            if (cliente != null && !cliente.isEmpty()) {
+                return cliente;
+            }
+        }
+        Principal usuario = request.getUserPrincipal();
+        return usuario != null ? "usuario:" + usuario.getName() : request.getRemoteAddr();
+    }
+
+    /**
+     * Usa o padrão do mapeamento (ex.: {@code /contatos/{id}}) para não criar um limitador por ID, e agrupa
+     * métodos fora do padrão HTTP em {@code OUTRO}, para que o número de limitadores continue limitado.
+     */
+    private LimitadorEndpoint limitador(HttpServletRequest request) {
+        Object atributo = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = atributo != null ? atributo.toString() : "UNKNOWN";
+        String metodo = METODOS.contains(request.getMethod()) ? request.getMethod() : "OUTRO";
+
+        ConcurrentHashMap<String, LimitadorEndpoint> porMetodo = limitadores.get(uri);
+        if (porMetodo == null) {
+            porMetodo = limitadores.computeIfAbsent(uri, chave -> new ConcurrentHashMap<>());
+        }
+        LimitadorEndpoint limitador = porMetodo.get(metodo);
+        if (limitador == null) {
+            limitador = porMetodo.computeIfAbsent(metodo, chave -> new LimitadorEndpoint(
+                    propriedades.taxa(chave, uri), propriedades.maximoClientes(), registry, chave, uri));
+        }
+        return limitador;
+    }
+}
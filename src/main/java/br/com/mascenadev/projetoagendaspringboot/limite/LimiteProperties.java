@@ -0,0 +1,77 @@
+package br.com.mascenadev.projetoagendaspringboot.limite;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuração do **limite de requisições** e do **descarte de carga** em {@code /contatos}
+ * (propriedades {@code agenda.limite.*}).
+ *
+ * @param habilitado       Liga ou desliga o {@link LimiteInterceptor}.
+ * @param cabecalhoCliente Cabeçalho confiável que identifica o cliente, preenchido por um gateway que autentica o
+ *                         cliente e descarta o valor recebido dele. Sem configuração (padrão), o cliente é o usuário
+ *                         autenticado ou, na falta dele, o endereço remoto da requisição.
+ * @param maximoClientes   Quantidade máxima de clientes com balde próprio em cada endpoint. Acima dela, os clientes
+ *                         novos dividem um único balde, o que limita a memória mesmo com chaves aleatórias.
+ * @param padrao           Taxa aplicada aos endpoints sem configuração própria.
+ * @param endpoints        Taxas por endpoint, com a chave no formato {@code "[METODO /padrao]"},
+ *                         por exemplo {@code "[GET /contatos/{id}]"}.
+ * @param concorrencia     Parâmetros do {@link LimitadorConcorrencia}.
+ * @author Gilberto Dev
+ * @see LimiteConfig
+ * @since 1.1.0
+ */
+@ConfigurationProperties("agenda.limite")
+public record LimiteProperties(
+        @DefaultValue("true") boolean habilitado,
+        String cabecalhoCliente,
+        @DefaultValue("100000") int maximoClientes,
+        @DefaultValue Taxa padrao,
+        Map<String, Taxa> endpoints,
+        @DefaultValue Concorrencia concorrencia
+) {
+
+    public LimiteProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    /**
+     * @param metodo O método HTTP.
+     * @param padrao O padrão do mapeamento, como {@code /contatos/{id}}.
+     * @return A taxa configurada para o endpoint, ou a {@link #padrao()}.
+     */
+    public Taxa taxa(String metodo, String padrao) {
+        return endpoints.getOrDefault(metodo + " " + padrao, this.padrao);
+    }
+
+    /**
+     * Taxa de um balde de tokens.
+     *
+     * @param requisicoesPorSegundo Requisições por segundo sustentadas por cliente.
+     * @param rajada                Requisições aceitas de uma vez, acima da taxa, por um cliente que estava ocioso.
+     */
+    public record Taxa(
+            @DefaultValue("50") double requisicoesPorSegundo,
+            @DefaultValue("100") int rajada
+    ) {
+    }
+
+    /**
+     * Parâmetros do limitador adaptativo de concorrência, compartilhado por todos os endpoints.
+     *
+     * @param inicial      Requisições simultâneas permitidas na inicialização.
+     * @param minimo       Limite mínimo.
+     * @param maximo       Limite máximo.
+     * @param latenciaAlvo Latência acima da qual o limite é reduzido.
+     */
+    public record Concorrencia(
+            @DefaultValue("20") int inicial,
+            @DefaultValue("4") int minimo,
+            @DefaultValue("200") int maximo,
+            @DefaultValue("200ms") Duration latenciaAlvo
+    ) {
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.mascenadev.projetoagendaspringboot.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link StatementInspector} do Hibernate que conta quantos comandos SQL a requisição atual preparou.
+ * <p>
+ * O contador de cada requisição é criado pelo {@link MetricasHttpFilter}, guardado no atributo {@value #ATRIBUTO}
+ * da requisição e vinculado à thread que a processa. Quando o processamento continua em outra thread (como a
+ * exportação em streaming), o {@link MetricasConfig} vincula o mesmo contador à thread assíncrona, de modo que
+ * o total publicado ao final inclui as consultas das duas. O SQL não é alterado nem copiado; o custo por comando
+ * é um incremento atômico no contador da requisição.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see MetricasConfig
+ * @since 1.1.0
+ */
+public class ContadorDeConsultasInspector implements StatementInspector {
+
+    /**
+     * Atributo da requisição que guarda o seu {@link AtomicInteger} de comandos SQL.
+     */
+    public static final String ATRIBUTO = ContadorDeConsultasInspector.class.getName() + ".contador";
+
+    private static final ThreadLocal<AtomicInteger> CONTADOR = new ThreadLocal<>();
+
+    /**
+     * Passa a contar os comandos da thread atual no contador informado.
+     *
+     * @param contador O contador da requisição, ou {@code null} para não contar.
+     */
+    public static void vincular(AtomicInteger contador) {
+        if (contador != null) {
+            CONTADOR.set(contador);
+        } else {
+            CONTADOR.remove();
+        }
+    }
+
+    /**
+     * Deixa de contar os comandos da thread atual.
+     */
+    public static void desvincular() {
+        CONTADOR.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger contador = CONTADOR.get();
+        if (contador != null) {
+            contador.incrementAndGet();
+        }
+        return sql;
+    }
+}
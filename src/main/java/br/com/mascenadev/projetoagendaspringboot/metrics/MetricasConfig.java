@@ -0,0 +1,81 @@
+package br.com.mascenadev.projetoagendaspringboot.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * responsável pela **instrumentação** da API de contatos com Micrometer.
+ * <p>
+ * Complementa as métricas publicadas automaticamente pelo Actuator em {@code /actuator/prometheus}
+ * ({@code http.server.requests}, pool Hikari, estatísticas do Hibernate e cache) com:
+ * </p>
+ * <ul>
+ * <li>os tempos de cada operação do {@link br.com.mascenadev.projetoagendaspringboot.service.ContatoService}
+ * ({@code agenda.contato.servico}, via {@code @Timed});</li>
+ * <li>o tamanho das respostas e a quantidade de consultas SQL por requisição ({@link MetricasHttpFilter}).</li>
+ * </ul>
+ * <p>
+ * Para que as consultas feitas pela thread de uma requisição assíncrona (como a exportação em streaming) também
+ * sejam contadas, um {@link CallableProcessingInterceptor} vincula a essa thread o contador da requisição.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see MetricasHttpFilter
+ * @see ContadorDeConsultasInspector
+ * @since 1.1.0
+ */
+@Configuration
+public class MetricasConfig implements WebMvcConfigurer {
+
+    /**
+     * Registra o {@link ContadorDeConsultasInspector} na fábrica de sessões do Hibernate.
+     *
+     * @return O customizador das propriedades do Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer contadorDeConsultasCustomizer() {
+        return propriedades -> propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorDeConsultasInspector());
+    }
+
+    /**
+     * Registra o {@link MetricasHttpFilter} para os endpoints de contatos.
+     *
+     * @param registry O {@link MeterRegistry} da aplicação.
+     * @return O registro do filtro no contêiner de servlets.
+     */
+    @Bean
+    public FilterRegistrationBean<MetricasHttpFilter> metricasHttpFilter(MeterRegistry registry) {
+        FilterRegistrationBean<MetricasHttpFilter> registro = new FilterRegistrationBean<>(new MetricasHttpFilter(registry));
+        registro.addUrlPatterns("/contatos/*");
+        return registro;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+                ContadorDeConsultasInspector.vincular((AtomicInteger) request.getAttribute(
+                        ContadorDeConsultasInspector.ATRIBUTO, RequestAttributes.SCOPE_REQUEST));
+            }
+
+            @Override
+            public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object resultado) {
+                ContadorDeConsultasInspector.desvincular();
+            }
+        });
+    }
+}
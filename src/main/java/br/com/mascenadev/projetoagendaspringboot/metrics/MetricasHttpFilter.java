@@ -0,0 +1,212 @@
+package br.com.mascenadev.projetoagendaspringboot.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Filtro que publica, para cada endpoint de {@code /contatos}, o tamanho das respostas e a quantidade
+ * de comandos SQL executados por requisição.
+ * <p>
+ * Métricas publicadas (com as tags {@code uri}, {@code method} e {@code status}):
+ * </p>
+ * <ul>
+ * <li>{@code agenda.http.resposta.bytes}: bytes escritos no corpo da resposta (antes da compressão).</li>
+ * <li>{@code agenda.http.consultas}: comandos SQL preparados pelo Hibernate durante a requisição,
+ * contados pelo {@link ContadorDeConsultasInspector}.</li>
+ * </ul>
+ * <p>
+ * Em requisições assíncronas (como a exportação em streaming), as duas métricas são registradas quando a
+ * resposta termina ({@link AsyncListener#onComplete(AsyncEvent)}). O contador de consultas fica no atributo
+ * {@value ContadorDeConsultasInspector#ATRIBUTO} da requisição, e não na thread, para incluir também as consultas
+ * feitas pela thread assíncrona.
+ * </p>
+ * <p>
+ * Os medidores de cada combinação de tags são criados uma única vez e guardados em {@link #medidores}, de modo que
+ * cada requisição faz apenas uma consulta ao mapa, sem montar e registrar os medidores de novo.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see MetricasConfig
+ * @since 1.1.0
+ */
+public class MetricasHttpFilter extends OncePerRequestFilter {
+
+    private static final Set<String> METODOS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+
+    private final MeterRegistry registry;
+
+    /**
+     * Medidores por padrão de URI, método e status; criados no primeiro acesso.
+     */
+    private final ConcurrentHashMap<Chave, Medidores> medidores = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry O {@link MeterRegistry} onde as métricas são registradas.
+     */
+    public MetricasHttpFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AtomicInteger consultas = new AtomicInteger();
+        request.setAttribute(ContadorDeConsultasInspector.ATRIBUTO, consultas);
+        ContadorDeConsultasInspector.vincular(consultas);
+        RespostaContada resposta = new RespostaContada(response);
+        try {
+            chain.doFilter(request, resposta);
+        } finally {
+            ContadorDeConsultasInspector.desvincular();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        registrar(request, resposta, consultas.get());
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                registrar(request, resposta, consultas.get());
+            }
+        }
+    }
+
+    private void registrar(HttpServletRequest request, RespostaContada resposta, int consultas) {
+        Medidores atuais = medidores(request, resposta.getStatus());
+        atuais.bytes().record(resposta.bytes());
+        atuais.consultas().record(consultas);
+    }
+
+    /**
+     * Agrupa métodos fora do padrão HTTP em {@code OUTRO}, para que o número de séries continue limitado.
+     */
+    private Medidores medidores(HttpServletRequest request, int status) {
+        String metodo = METODOS.contains(request.getMethod()) ? request.getMethod() : "OUTRO";
+        Chave chave = new Chave(uri(request), metodo, status);
+        Medidores existentes = medidores.get(chave);
+        return existentes != null ? existentes : medidores.computeIfAbsent(chave, this::criar);
+    }
+
+    private Medidores criar(Chave chave) {
+        return new Medidores(
+                resumo(DistributionSummary.builder("agenda.http.resposta.bytes").baseUnit("bytes"), chave),
+                resumo(DistributionSummary.builder("agenda.http.consultas"), chave));
+    }
+
+    private DistributionSummary resumo(DistributionSummary.Builder builder, Chave chave) {
+        return builder
+                .tag("uri", chave.uri())
+                .tag("method", chave.metodo())
+                .tag("status", Integer.toString(chave.status()))
+                .register(registry);
+    }
+
+    /**
+     * Usa o padrão do mapeamento (ex.: {@code /contatos/{id}}) para não criar uma série por ID.
+     */
+    private static String uri(HttpServletRequest request) {
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return padrao != null ? padrao.toString() : "UNKNOWN";
+    }
+
+    private record Chave(String uri, String metodo, int status) {
+    }
+
+    private record Medidores(DistributionSummary bytes, DistributionSummary consultas) {
+    }
+
+    /**
+     * Resposta que conta os bytes escritos no {@link ServletOutputStream}.
+     */
+    private static final class RespostaContada extends HttpServletResponseWrapper {
+
+        private SaidaContada saida;
+
+        RespostaContada(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (saida == null) {
+                saida = new SaidaContada(super.getOutputStream());
+            }
+            return saida;
+        }
+
+        long bytes() {
+            return saida == null ? 0 : saida.bytes;
+        }
+    }
+
+    private static final class SaidaContada extends ServletOutputStream {
+
+        private final ServletOutputStream alvo;
+
+        private long bytes;
+
+        SaidaContada(ServletOutputStream alvo) {
+            this.alvo = alvo;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            alvo.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            alvo.write(b, off, len);
+            bytes += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            alvo.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            alvo.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return alvo.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            alvo.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.mascenadev.projetoagendaspringboot.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link OutboxSink} que acrescenta cada evento, como uma linha JSON com o ID da outbox, o tenant e a alteração,
+ * a um arquivo local.
+ * <p>
+ * Cada lote é gravado e sincronizado com o disco ({@code fsync}) antes de ser removido da tabela, de modo que
+ * uma queda entre as duas etapas causa no máximo a repetição do lote.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+public class ArquivoOutboxSink implements OutboxSink {
+
+    private final Path arquivo;
+
+    /**
+     * @param arquivo O arquivo de destino; criado se não existir.
+     */
+    public ArquivoOutboxSink(Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    @Override
+    public synchronized void enviar(List<OutboxEvento> eventos) throws IOException {
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             BufferedWriter escritor = new BufferedWriter(Channels.newWriter(canal, StandardCharsets.UTF_8), 64 * 1024)) {
+            for (OutboxEvento evento : eventos) {
+                escritor.write("{\"outboxId\":" + evento.getId() + ",\"tenant\":\"" + evento.getTenantId()
+                        + "\",\"alteracao\":" + evento.getPayload() + "}");
+                escritor.newLine();
+            }
+            escritor.flush();
+            canal.force(false);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.mascenadev.projetoagendaspringboot.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * {@link OutboxSink} que guarda os últimos eventos entregues em memória, para testes e desenvolvimento.
+ *
+ * @author Gilberto Dev
+ * @since 1.1.0
+ */
+public class MemoriaOutboxSink implements OutboxSink {
+
+    private final int capacidade;
+
+    private final Deque<OutboxEvento> eventos = new ArrayDeque<>();
+
+    /**
+     * @param capacidade Quantidade máxima de eventos mantidos; os mais antigos são descartados.
+     */
+    public MemoriaOutboxSink(int capacidade) {
+        this.capacidade = capacidade;
+    }
+
+    @Override
+    public synchronized void enviar(List<OutboxEvento> lote) {
+        for (OutboxEvento evento : lote) {
+            if (eventos.size() == capacidade) {
+                eventos.removeFirst();
+            }
+            eventos.addLast(evento);
+        }
+    }
+
+    /**
+     * @return Cópia dos eventos entregues, do mais antigo ao mais recente.
+     */
+    public synchronized List<OutboxEvento> eventos() {
+        return List.copyOf(eventos);
+    }
+}
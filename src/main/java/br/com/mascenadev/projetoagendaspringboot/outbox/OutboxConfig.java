@@ -0,0 +1,90 @@
+package br.com.mascenadev.projetoagendaspringboot.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * Classe de configuração Spring ({@link org.springframework.context.annotation.Configuration})
+ * responsável pela **outbox transacional** de alterações de contatos.
+ * <p>
+ * Registra o {@link OutboxGravador}, que grava cada alteração na tabela {@code contato_outbox} na mesma transação,
+ * e o {@link OutboxDispatcher}, que a drena periodicamente para o {@link OutboxSink} configurado em
+ * {@code agenda.outbox.sink}:
+ * </p>
+ * <ul>
+ * <li>{@code memoria} (padrão): {@link MemoriaOutboxSink}, para testes e desenvolvimento.</li>
+ * <li>{@code arquivo}: {@link ArquivoOutboxSink}, que grava NDJSON em {@code agenda.outbox.arquivo}.</li>
+ * <li>qualquer outro valor: nenhum sink é criado aqui, e a aplicação deve registrar o seu próprio bean {@link OutboxSink}.</li>
+ * </ul>
+ * <p>
+ * A outbox inteira pode ser desligada com {@code agenda.outbox.enabled=false}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see OutboxGravador
+ * @see OutboxDispatcher
+ * @since 1.1.0
+ */
+@Configuration
+@Profile("!reactive")
+@EnableScheduling
+@ConditionalOnProperty(name = "agenda.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    /**
+     * @param outboxRepository O repositório da tabela de outbox.
+     * @param objectMapper     O {@link ObjectMapper} da aplicação.
+     * @return O ouvinte que grava as alterações na outbox.
+     */
+    @Bean
+    public OutboxGravador outboxGravador(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        return new OutboxGravador(outboxRepository, objectMapper);
+    }
+
+    /**
+     * @param outboxRepository    O repositório da tabela de outbox.
+     * @param sink                O destino dos eventos.
+     * @param transactionTemplate O {@link TransactionTemplate} da aplicação.
+     * @param registry            O {@link MeterRegistry} da aplicação.
+     * @param tamanhoLote         Quantidade máxima de eventos por lote ({@code agenda.outbox.lote}).
+     * @return O despachante periódico da outbox; criado na inicialização mesmo com {@code lazy-initialization},
+     * pois o seu {@code @Scheduled} só é registrado quando o bean existe.
+     */
+    @Bean
+    @Lazy(false)
+    public OutboxDispatcher outboxDispatcher(OutboxRepository outboxRepository, OutboxSink sink,
+                                             TransactionTemplate transactionTemplate, MeterRegistry registry,
+                                             @Value("${agenda.outbox.lote:100}") int tamanhoLote) {
+        return new OutboxDispatcher(outboxRepository, sink, transactionTemplate, registry, tamanhoLote);
+    }
+
+    /**
+     * @param capacidade Quantidade de eventos mantidos em memória.
+     * @return O sink em memória.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "agenda.outbox.sink", havingValue = "memoria", matchIfMissing = true)
+    public MemoriaOutboxSink memoriaOutboxSink(@Value("${agenda.outbox.memoria.capacidade:10000}") int capacidade) {
+        return new MemoriaOutboxSink(capacidade);
+    }
+
+    /**
+     * @param arquivo Caminho do arquivo NDJSON de destino.
+     * @return O sink em arquivo.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "agenda.outbox.sink", havingValue = "arquivo")
+    public ArquivoOutboxSink arquivoOutboxSink(@Value("${agenda.outbox.arquivo:outbox/contatos.ndjson}") String arquivo) {
+        return new ArquivoOutboxSink(Path.of(arquivo));
+    }
+}
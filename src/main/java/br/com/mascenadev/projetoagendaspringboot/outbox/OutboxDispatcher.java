@@ -0,0 +1,112 @@
+package br.com.mascenadev.projetoagendaspringboot.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Despachante em segundo plano que drena a tabela de outbox para o {@link OutboxSink}.
+ * <p>
+ * A cada execução, reserva lotes de até {@code agenda.outbox.lote} eventos ({@code SKIP LOCKED}), entrega-os
+ * ao sink e os remove da tabela, tudo na mesma transação, até a tabela esvaziar. Se o sink falhar, a transação
+ * é desfeita e o lote é reenviado na execução seguinte.
+ * </p>
+ * <p>
+ * Métricas publicadas:
+ * </p>
+ * <ul>
+ * <li>{@code agenda.outbox.atraso}: tempo entre a alteração e a sua entrega ao sink.</li>
+ * <li>{@code agenda.outbox.enviados}: eventos entregues (vazão).</li>
+ * <li>{@code agenda.outbox.falhas}: lotes que falharam e serão reenviados.</li>
+ * </ul>
+ *
+ * @author Gilberto Dev
+ * @see OutboxGravador
+ * @since 1.1.0
+ */
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxRepository outboxRepository;
+
+    private final OutboxSink sink;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int tamanhoLote;
+
+    private final Timer atraso;
+
+    private final Counter enviados;
+
+    private final Counter falhas;
+
+    /**
+     * @param outboxRepository    O repositório da tabela de outbox.
+     * @param sink                O destino dos eventos.
+     * @param transactionTemplate O {@link TransactionTemplate} que delimita a reserva, a entrega e a remoção de cada lote.
+     * @param registry            O {@link MeterRegistry} onde as métricas são registradas.
+     * @param tamanhoLote         Quantidade máxima de eventos por lote.
+     */
+    public OutboxDispatcher(OutboxRepository outboxRepository, OutboxSink sink, TransactionTemplate transactionTemplate,
+                            MeterRegistry registry, int tamanhoLote) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.atraso = Timer.builder("agenda.outbox.atraso")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+        this.enviados = Counter.builder("agenda.outbox.enviados").register(registry);
+        this.falhas = Counter.builder("agenda.outbox.falhas").register(registry);
+    }
+
+    /**
+     * Drena a tabela de outbox em lotes até que ela esteja vazia ou um lote falhe.
+     */
+    @Scheduled(fixedDelayString = "${agenda.outbox.intervalo-ms:500}")
+    public void despachar() {
+        try {
+            int quantidade;
+            do {
+                quantidade = despacharLote();
+            } while (quantidade == tamanhoLote);
+        } catch (RuntimeException e) {
+            falhas.increment();
+            log.warn("Falha ao despachar a outbox de contatos; o lote será reenviado", e);
+        }
+    }
+
+    private int despacharLote() {
+        Integer quantidade = transactionTemplate.execute(status -> {
+            List<OutboxEvento> lote = outboxRepository.reservarLote(Limit.of(tamanhoLote));
+            if (lote.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.enviar(lote);
+            } catch (Exception e) {
+                throw new IllegalStateException("Sink recusou o lote a partir do evento " + lote.get(0).getId(), e);
+            }
+            outboxRepository.deleteAllByIdInBatch(lote.stream().map(OutboxEvento::getId).toList());
+
+            Instant agora = Instant.now();
+            for (OutboxEvento evento : lote) {
+                atraso.record(Duration.between(evento.getCriadoEm(), agora));
+            }
+            enviados.increment(lote.size());
+            return lote.size();
+        });
+        return quantidade != null ? quantidade : 0;
+    }
+}
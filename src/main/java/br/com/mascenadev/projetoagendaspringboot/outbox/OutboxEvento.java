@@ -0,0 +1,140 @@
+package br.com.mascenadev.projetoagendaspringboot.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Entidade JPA de uma alteração de contato pendente de entrega, na tabela {@code contato_outbox}.
+ * <p>
+ * A linha é gravada na mesma transação da alteração do contato, de modo que a notificação só existe
+ * se a alteração for confirmada, e removida pelo {@link OutboxDispatcher} depois de entregue ao {@link OutboxSink}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see OutboxDispatcher
+ * @since 1.1.0
+ */
+@Entity
+@Table(name = "contato_outbox")
+public class OutboxEvento {
+
+    /**
+     * Identificador sequencial; também define a ordem de entrega.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contato_outbox_seq")
+    @SequenceGenerator(name = "contato_outbox_seq", sequenceName = "contato_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Tipo da alteração ({@code CRIADO}, {@code ATUALIZADO} ou {@code EXCLUIDO}).
+     */
+    @Column(nullable = false, length = 20)
+    private String tipo;
+
+    /**
+     * Tenant dono do contato alterado.
+     */
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+
+    /**
+     * ID do contato alterado.
+     */
+    @Column(name = "contato_id", nullable = false)
+    private Long contatoId;
+
+    /**
+     * Alteração serializada em JSON, no mesmo formato do feed de alterações.
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    /**
+     * Momento em que a alteração foi registrada; base da métrica de atraso de entrega.
+     */
+    @Column(name = "criado_em", nullable = false)
+    private Instant criadoEm;
+
+    /**
+     * Construtor padrão necessário para o JPA.
+     */
+    protected OutboxEvento() {
+    }
+
+    /**
+     * @param tipo      Tipo da alteração.
+     * @param tenantId  Tenant dono do contato.
+     * @param contatoId ID do contato alterado.
+     * @param payload   Alteração serializada em JSON.
+     * @param criadoEm  Momento da alteração.
+     */
+    public OutboxEvento(String tipo, String tenantId, Long contatoId, String payload, Instant criadoEm) {
+        this.tipo = tipo;
+        this.tenantId = tenantId;
+        this.contatoId = contatoId;
+        this.payload = payload;
+        this.criadoEm = criadoEm;
+    }
+
+    /**
+     * Obtém o ID do evento.
+     *
+     * @return ID do evento ({@code null} antes da gravação)
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Obtém o tipo da alteração.
+     *
+     * @return {@code CRIADO}, {@code ATUALIZADO} ou {@code EXCLUIDO}
+     */
+    public String getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Obtém o tenant dono do contato alterado.
+     *
+     * @return Identificador do tenant
+     */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Obtém o ID do contato alterado.
+     *
+     * @return ID do contato
+     */
+    public Long getContatoId() {
+        return contatoId;
+    }
+
+    /**
+     * Obtém a alteração serializada.
+     *
+     * @return JSON da alteração
+     */
+    public String getPayload() {
+        return payload;
+    }
+
+    /**
+     * Obtém o momento em que a alteração foi registrada.
+     *
+     * @return Momento da alteração
+     */
+    public Instant getCriadoEm() {
+        return criadoEm;
+    }
+}
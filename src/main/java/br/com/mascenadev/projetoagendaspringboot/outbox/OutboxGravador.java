@@ -0,0 +1,58 @@
+package br.com.mascenadev.projetoagendaspringboot.outbox;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoAlteracaoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Grava cada {@link ContatoAlteradoEvent} na tabela de outbox, **na mesma transação** da alteração.
+ * <p>
+ * O ouvinte roda na fase {@code BEFORE_COMMIT}: as linhas são inseridas junto com o {@code flush} da confirmação
+ * (agrupadas em lotes JDBC em importações grandes) e, se a inserção falhar, a alteração do contato também é
+ * desfeita. Nenhuma chamada externa é feita no caminho de escrita.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see OutboxDispatcher
+ * @since 1.1.0
+ */
+public class OutboxGravador {
+
+    private final OutboxRepository outboxRepository;
+
+    private final ObjectWriter writer;
+
+    /**
+     * @param outboxRepository O repositório da tabela de outbox.
+     * @param objectMapper     O {@link ObjectMapper} da aplicação, usado para serializar o evento.
+     */
+    public OutboxGravador(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.writer = objectMapper.writerFor(ContatoAlteracaoResponseDTO.class);
+    }
+
+    /**
+     * Registra a alteração na outbox.
+     *
+     * @param event A alteração do contato.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void gravar(ContatoAlteradoEvent event) {
+        ContatoResponseDTO contato = event.contato() != null ? new ContatoResponseDTO(event.contato()) : null;
+        String payload;
+        try {
+            payload = writer.writeValueAsString(new ContatoAlteracaoResponseDTO(event.tipo().name(), event.id(), contato));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        outboxRepository.save(new OutboxEvento(event.tipo().name(), event.tenantId(), event.id(), payload, Instant.now()));
+    }
+}
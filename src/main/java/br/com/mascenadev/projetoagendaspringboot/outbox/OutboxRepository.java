@@ -0,0 +1,38 @@
+package br.com.mascenadev.projetoagendaspringboot.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+/**
+ * Repositório da tabela de outbox ({@link OutboxEvento}).
+ *
+ * @author Gilberto Dev
+ * @see OutboxDispatcher
+ * @since 1.1.0
+ */
+public interface OutboxRepository extends JpaRepository<OutboxEvento, Long> {
+
+    /**
+     * Reserva os eventos mais antigos para entrega, bloqueando as linhas até o fim da transação.
+     * <p>
+     * O tempo de espera {@code -2} faz o Hibernate gerar {@code FOR UPDATE SKIP LOCKED} nos bancos que o suportam
+     * (como o PostgreSQL): linhas já reservadas por outra instância são puladas em vez de aguardadas, permitindo
+     * vários despachantes em paralelo sem entregas duplicadas.
+     * </p>
+     *
+     * @param limit Quantidade máxima de eventos do lote.
+     * @return Os eventos reservados, em ordem de ID.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("select o from OutboxEvento o order by o.id")
+    List<OutboxEvento> reservarLote(Limit limit);
+}
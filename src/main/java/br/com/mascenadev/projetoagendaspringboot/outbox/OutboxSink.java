@@ -0,0 +1,26 @@
+package br.com.mascenadev.projetoagendaspringboot.outbox;
+
+import java.util.List;
+
+/**
+ * Destino das alterações de contato drenadas da tabela de outbox pelo {@link OutboxDispatcher}.
+ * <p>
+ * A entrega é **ao menos uma vez**: se {@link #enviar(List)} lançar uma exceção, o lote permanece na tabela e é
+ * reenviado na próxima execução. Implementações devem ser idempotentes pelo {@link OutboxEvento#getId()}.
+ * Para publicar em um broker, basta registrar um bean desta interface.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see OutboxConfig
+ * @since 1.1.0
+ */
+public interface OutboxSink {
+
+    /**
+     * Entrega um lote de eventos, em ordem de ID.
+     *
+     * @param eventos Os eventos a entregar.
+     * @throws Exception Se o lote não puder ser entregue.
+     */
+    void enviar(List<OutboxEvento> eventos) throws Exception;
+}
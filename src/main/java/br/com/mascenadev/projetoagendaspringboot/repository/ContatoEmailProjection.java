@@ -0,0 +1,24 @@
+package br.com.mascenadev.projetoagendaspringboot.repository;
+
+/**
+ * Projeção com apenas o tenant e o e-mail normalizado de um {@link br.com.mascenadev.projetoagendaspringboot.entities.Contato}.
+ * <p>
+ * Usada para carregar o filtro de e-mails da importação em lote sem instanciar entidades gerenciadas.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoRepository#streamEmails()
+ * @since 1.1.0
+ */
+public interface ContatoEmailProjection {
+
+    /**
+     * @return Tenant do contato
+     */
+    String getTenantId();
+
+    /**
+     * @return E-mail normalizado do contato
+     */
+    String getEmailNormalizado();
+}
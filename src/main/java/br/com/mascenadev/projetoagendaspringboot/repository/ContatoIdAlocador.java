@@ -0,0 +1,53 @@
+package br.com.mascenadev.projetoagendaspringboot.repository;
+
+/**
+ * Distribui IDs de {@link br.com.mascenadev.projetoagendaspringboot.entities.Contato} para os caminhos de escrita
+ * com SQL próprio, com a mesma regra do otimizador {@code pooled} que o Hibernate usa na entidade.
+ * <p>
+ * A sequência {@code contato_seq} avança de {@value #TAMANHO_BLOCO} em {@value #TAMANHO_BLOCO}, e cada valor
+ * {@code v} lido dela reserva os IDs {@code v - 49} a {@code v} para quem o leu. Este alocador entrega os IDs do
+ * bloco um a um e só pede um novo valor à sequência quando o bloco acaba, assim como o Hibernate; os dois nunca
+ * recebem o mesmo valor da sequência e, portanto, nunca geram o mesmo ID.
+ * </p>
+ * <p>
+ * O acesso ao banco fica com o chamador (JDBC ou R2DBC): quando {@link #proximo()} devolve {@code 0}, o chamador lê
+ * a sequência e entrega o valor a {@link #novoBloco(long)}. Se duas threads fizerem isso ao mesmo tempo, o bloco da
+ * primeira é abandonado — perdem-se IDs, mas nenhum é repetido.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoUpsertRepository
+ * @see ContatoReactiveRepository
+ * @since 1.1.0
+ */
+public final class ContatoIdAlocador {
+
+    /**
+     * Incremento da sequência {@code contato_seq}, igual ao {@code allocationSize} da entidade.
+     */
+    public static final int TAMANHO_BLOCO = 50;
+
+    private long proximo = 1;
+
+    private long ultimo = 0;
+
+    /**
+     * @return O próximo ID do bloco atual, ou {@code 0} se o bloco tiver acabado.
+     */
+    public synchronized long proximo() {
+        return proximo <= ultimo ? proximo++ : 0;
+    }
+
+    /**
+     * Passa a usar o bloco reservado por um valor lido da sequência e devolve o primeiro ID dele.
+     *
+     * @param valorSequencia O valor lido de {@code contato_seq}.
+     * @return O primeiro ID do novo bloco.
+     */
+    public synchronized long novoBloco(long valorSequencia) {
+        // O primeiro valor da sequência (1) reserva só o próprio 1, como no otimizador do Hibernate
+        proximo = Math.max(1, valorSequencia - TAMANHO_BLOCO + 1);
+        ultimo = valorSequencia;
+        return proximo++;
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.mascenadev.projetoagendaspringboot.repository;
+
+/**
+ * Projeção com apenas o tenant, o ID e o nome de um {@link br.com.mascenadev.projetoagendaspringboot.entities.Contato}.
+ * <p>
+ * Usada para carregar o índice de autocompletar sem instanciar entidades gerenciadas,
+ * o que mantém o contexto de persistência vazio durante a leitura da tabela.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoRepository#streamNomes()
+ * @since 1.1.0
+ */
+public interface ContatoNomeProjection {
+
+    /**
+     * @return Tenant do contato
+     */
+    String getTenantId();
+
+    /**
+     * @return ID do contato
+     */
+    Long getId();
+
+    /**
+     * @return Nome do contato
+     */
+    String getNome();
+}
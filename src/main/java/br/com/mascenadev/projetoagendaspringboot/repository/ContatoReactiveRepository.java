@@ -0,0 +1,249 @@
+package br.com.mascenadev.projetoagendaspringboot.repository;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositório **reativo** (R2DBC) para a tabela de {@link Contato}, usado pela variante WebFlux da API.
+ * <p>
+ * Espelha as operações do {@link ContatoRepository} sobre a mesma tabela, mas com consultas SQL explícitas
+ * executadas pelo {@link DatabaseClient}, sem bloquear threads. A entidade {@link Contato} é mapeada para JPA,
+ * por isso o mapeamento das linhas é feito manualmente.
+ * </p>
+ * <p>
+ * Novos IDs são obtidos da mesma sequência {@code contato_seq} usada pelo Hibernate, pelo {@link ContatoIdAlocador}:
+ * cada valor lido da sequência reserva um bloco exclusivo de {@value ContatoIdAlocador#TAMANHO_BLOCO} IDs, usado
+ * por inteiro antes de uma nova leitura, e nunca é entregue ao otimizador do Hibernate — portanto não há colisão
+ * entre os caminhos de escrita.
+ * </p>
+ * <p>
+ * Todas as consultas recebem o tenant como primeiro parâmetro e filtram por {@code tenant_id}, na mesma ordem
+ * dos índices compostos da tabela.
+ * </p>
+ * <p>
+ * Atualização e exclusão recebem a versão esperada do contato (a do {@code If-Match}), como no
+ * {@link ContatoRepository}: com ela, o comando só afeta a linha se a versão ainda for a mesma.
+ * </p>
+ * <p>
+ * Como aqui não há os callbacks JPA da entidade, os comandos de escrita preenchem {@code email_normalizado} no
+ * próprio SQL, com a mesma regra de {@link Contato#normalizarEmail(String)}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoRepository
+ * @see br.com.mascenadev.projetoagendaspringboot.service.ContatoReactiveService
+ * @since 1.1.0
+ */
+@Repository
+@Profile("reactive")
+public class ContatoReactiveRepository {
+
+    private static final String COLUNAS = "id, tenant_id, nome, email, telefone, versao";
+
+    /**
+     * Condição de versão das escritas condicionais, igual à do {@link ContatoRepository}.
+     */
+    private static final String NA_VERSAO = " AND (:versao IS NULL OR COALESCE(versao, 0) = :versao)";
+
+    private final DatabaseClient databaseClient;
+
+    private final String sqlProximoBloco;
+
+    private final ContatoIdAlocador alocador = new ContatoIdAlocador();
+
+    /**
+     * Construtor para injeção do cliente R2DBC.
+     *
+     * @param databaseClient    O {@link DatabaseClient} configurado pelo Spring Boot.
+     * @param connectionFactory A {@link ConnectionFactory} R2DBC, usada para identificar o banco e a sintaxe da sequência.
+     */
+    public ContatoReactiveRepository(DatabaseClient databaseClient, ConnectionFactory connectionFactory) {
+        this.databaseClient = databaseClient;
+        this.sqlProximoBloco = connectionFactory.getMetadata().getName().contains("PostgreSQL")
+                ? "SELECT nextval('contato_seq')"
+                : "SELECT NEXT VALUE FOR contato_seq";
+    }
+
+    /**
+     * Busca um contato pelo ID, desde que pertença ao tenant informado.
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID procurado.
+     * @return Um {@link Mono} com o contato, ou vazio se não existir.
+     */
+    public Mono<Contato> findById(String tenantId, Long id) {
+        return databaseClient.sql("SELECT " + COLUNAS + " FROM contato WHERE tenant_id = :tenantId AND id = :id")
+                .bind("tenantId", tenantId)
+                .bind("id", id)
+                .map((row, metadata) -> mapear(row))
+                .one();
+    }
+
+    /**
+     * Busca uma página de contatos de um tenant por chave (keyset), em ordem de ID.
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @param aposId   ID do último contato já entregue ({@code 0} para a primeira página).
+     * @param limite   Quantidade máxima de contatos.
+     * @return Um {@link Flux} com os contatos da página.
+     */
+    public Flux<Contato> findPagina(String tenantId, long aposId, int limite) {
+        return databaseClient.sql("SELECT " + COLUNAS + " FROM contato WHERE tenant_id = :tenantId AND id > :aposId "
+                                  + "ORDER BY id LIMIT :limite")
+                .bind("tenantId", tenantId)
+                .bind("aposId", aposId)
+                .bind("limite", limite)
+                .map((row, metadata) -> mapear(row))
+                .all();
+    }
+
+    /**
+     * Percorre todos os contatos de um tenant em ordem de ID, sob demanda (com contrapressão).
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @return Um {@link Flux} com todos os contatos do tenant.
+     */
+    public Flux<Contato> findTodos(String tenantId) {
+        return databaseClient.sql("SELECT " + COLUNAS + " FROM contato WHERE tenant_id = :tenantId ORDER BY id")
+                .bind("tenantId", tenantId)
+                .map((row, metadata) -> mapear(row))
+                .all();
+    }
+
+    /**
+     * Busca a versão atual de um contato.
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @return Um {@link Mono} com a versão ({@code 0} se nunca alterado), ou vazio se o contato não existir.
+     */
+    public Mono<Long> findVersao(String tenantId, Long id) {
+        return databaseClient.sql("SELECT COALESCE(versao, 0) FROM contato WHERE tenant_id = :tenantId AND id = :id")
+                .bind("tenantId", tenantId)
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Insere um novo contato, com ID obtido do bloco reservado da sequência {@code contato_seq}.
+     *
+     * @param contato O contato a ser inserido (sem ID), com o tenant já definido.
+     * @return Um {@link Mono} com o contato já com o ID atribuído.
+     */
+    public Mono<Contato> insert(Contato contato) {
+        return proximoId()
+                .flatMap(id -> databaseClient.sql(
+                                "INSERT INTO contato (" + COLUNAS + ", email_normalizado) "
+                                + "VALUES (:id, :tenantId, :nome, :email, :telefone, 0, LOWER(TRIM(:email)))")
+                        .bind("id", id)
+                        .bind("tenantId", contato.getTenantId())
+                        .bind("nome", contato.getNome())
+                        .bind("email", contato.getEmail())
+                        .bind("telefone", contato.getTelefone())
+                        .fetch()
+                        .rowsUpdated()
+                        .map(linhas -> {
+                            contato.setId(id);
+                            contato.setVersao(0L);
+                            return contato;
+                        }));
+    }
+
+    /**
+     * Atualiza nome, e-mail e telefone de um contato em um único comando e incrementa a sua versão.
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @param versao   A versão esperada, ou {@code null} para alterar qualquer versão.
+     * @param contato  Os novos dados.
+     * @return Um {@link Mono} com a quantidade de linhas afetadas (0 se o contato não existir ou estiver em outra versão).
+     */
+    public Mono<Long> update(String tenantId, Long id, Long versao, Contato contato) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("UPDATE contato SET nome = :nome, email = :email, "
+                + "email_normalizado = LOWER(TRIM(:email)), telefone = :telefone, "
+                + "versao = COALESCE(versao, 0) + 1 WHERE tenant_id = :tenantId AND id = :id" + NA_VERSAO);
+        return bindVersao(spec, versao)
+                .bind("tenantId", tenantId)
+                .bind("nome", contato.getNome())
+                .bind("email", contato.getEmail())
+                .bind("telefone", contato.getTelefone())
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Altera apenas os campos não nulos de um contato em um único comando ({@code coalesce}) e incrementa a sua versão.
+     *
+     * @param tenantId   O tenant dono do contato.
+     * @param id         O ID do contato.
+     * @param versao     A versão esperada, ou {@code null} para alterar qualquer versão.
+     * @param alteracoes Os campos a alterar; os demais devem ser {@code null}.
+     * @return Um {@link Mono} com a quantidade de linhas afetadas (0 se o contato não existir ou estiver em outra versão).
+     */
+    public Mono<Long> updateParcial(String tenantId, Long id, Long versao, Contato alteracoes) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("UPDATE contato SET nome = COALESCE(:nome, nome), "
+                + "email = COALESCE(:email, email), email_normalizado = LOWER(TRIM(COALESCE(:email, email))), "
+                + "telefone = COALESCE(:telefone, telefone), "
+                + "versao = COALESCE(versao, 0) + 1 WHERE tenant_id = :tenantId AND id = :id" + NA_VERSAO);
+        spec = bindVersao(spec, versao);
+        spec = bindOuNulo(spec, "nome", alteracoes.getNome());
+        spec = bindOuNulo(spec, "email", alteracoes.getEmail());
+        spec = bindOuNulo(spec, "telefone", alteracoes.getTelefone());
+        return spec.bind("tenantId", tenantId).bind("id", id).fetch().rowsUpdated();
+    }
+
+    /**
+     * Exclui um contato pelo ID.
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @param versao   A versão esperada, ou {@code null} para excluir qualquer versão.
+     * @return Um {@link Mono} com a quantidade de linhas afetadas (0 se o contato não existir ou estiver em outra versão).
+     */
+    public Mono<Long> deleteById(String tenantId, Long id, Long versao) {
+        return bindVersao(databaseClient.sql("DELETE FROM contato WHERE tenant_id = :tenantId AND id = :id" + NA_VERSAO), versao)
+                .bind("tenantId", tenantId)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * O próximo ID do bloco reservado; lê a sequência apenas quando o bloco acaba.
+     */
+    private Mono<Long> proximoId() {
+        return Mono.defer(() -> {
+            long id = alocador.proximo();
+            return id != 0
+                    ? Mono.just(id)
+                    : databaseClient.sql(sqlProximoBloco).map(row -> row.get(0, Long.class)).one().map(alocador::novoBloco);
+        });
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindVersao(DatabaseClient.GenericExecuteSpec spec, Long versao) {
+        return versao != null ? spec.bind("versao", versao) : spec.bindNull("versao", Long.class);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindOuNulo(DatabaseClient.GenericExecuteSpec spec, String nome, String valor) {
+        return valor != null ? spec.bind(nome, valor) : spec.bindNull(nome, String.class);
+    }
+
+    private static Contato mapear(Row row) {
+        Contato contato = new Contato(
+                row.get("nome", String.class),
+                row.get("email", String.class),
+                row.get("telefone", String.class));
+        contato.setId(row.get("id", Long.class));
+        contato.setTenantId(row.get("tenant_id", String.class));
+        contato.setVersao(row.get("versao", Long.class));
+        return contato;
+    }
+}
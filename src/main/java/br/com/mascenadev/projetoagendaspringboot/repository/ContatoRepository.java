@@ -1,7 +1,20 @@
 package br.com.mascenadev.projetoagendaspringboot.repository;
 
 import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface de repositório de dados para a entidade {@link Contato}.
@@ -37,4 +50,190 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @since 1.0.0
  */
 public interface ContatoRepository extends JpaRepository<Contato, Long> {
+
+    /**
+     * Busca uma página de contatos de um tenant usando paginação por chave (keyset).
+     * <p>
+     * A consulta gerada ({@code WHERE tenant_id = ? AND id > ? ORDER BY id LIMIT ?}) percorre o índice
+     * {@code idx_contato_tenant_id} a partir do último ID entregue, de modo que o custo de cada página é o mesmo,
+     * independentemente da profundidade e da quantidade de contatos dos demais tenants.
+     * </p>
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @param id       ID do último contato já entregue ao cliente ({@code 0} para a primeira página).
+     * @param limit    Quantidade máxima de contatos a retornar.
+     * @return Os contatos do tenant com ID maior que o informado, em ordem crescente de ID.
+     */
+    List<Contato> findByTenantIdAndIdGreaterThanOrderByIdAsc(String tenantId, Long id, Limit limit);
+
+    /**
+     * Busca um contato pelo ID, desde que pertença ao tenant informado.
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @return O contato, ou vazio se não existir ou pertencer a outro tenant.
+     */
+    Optional<Contato> findByTenantIdAndId(String tenantId, Long id);
+
+    /**
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @return Se o contato existe no tenant informado.
+     */
+    boolean existsByTenantIdAndId(String tenantId, Long id);
+
+    /**
+     * Lê apenas a versão de um contato, para devolver a ETag de uma alteração feita sem {@code If-Match}.
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @return A versão atual do contato, ou {@code null} se ele não existir.
+     */
+    @Query("select coalesce(c.versao, 0) from Contato c where c.tenantId = :tenantId and c.id = :id")
+    Long versaoAtual(@Param("tenantId") String tenantId, @Param("id") Long id);
+
+    /**
+     * Percorre todos os contatos de um tenant em ordem de ID como um {@link Stream}, sem materializar a tabela em memória.
+     * <p>
+     * O driver JDBC busca as linhas em lotes de {@code fetchSize} e as entidades são carregadas como
+     * somente leitura, sem snapshot para dirty checking. O {@link Stream} deve ser consumido dentro de uma
+     * transação e fechado ao final (por exemplo, com {@code try-with-resources}).
+     * </p>
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @return Um {@link Stream} com todos os contatos do tenant.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Contato c where c.tenantId = :tenantId order by c.id")
+    Stream<Contato> streamTodos(@Param("tenantId") String tenantId);
+
+    /**
+     * Percorre o tenant, o ID e o nome de todos os contatos, de todos os tenants, em ordem de ID,
+     * sem carregar as entidades completas.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Um {@link Stream} de {@link ContatoNomeProjection}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select c.tenantId as tenantId, c.id as id, c.nome as nome from Contato c order by c.id")
+    Stream<ContatoNomeProjection> streamNomes();
+
+    /**
+     * Busca contatos de um tenant cujo nome começa com o prefixo informado, em ordem alfabética.
+     * <p>
+     * A consulta ({@code tenant_id = ? AND nome LIKE 'prefixo%'}) é atendida pelo índice {@code idx_contato_tenant_nome}.
+     * No PostgreSQL com collation diferente de {@code C}, o índice de prefixo deve ser criado com
+     * {@code varchar_pattern_ops} (veja {@code db/postgresql/indices-contato.sql}).
+     * </p>
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @param prefixo  Início do nome procurado (sensível a maiúsculas e minúsculas).
+     * @param limit    Quantidade máxima de contatos a retornar.
+     * @return Os contatos encontrados, ordenados por nome.
+     */
+    List<Contato> findByTenantIdAndNomeStartingWithOrderByNomeAsc(String tenantId, String prefixo, Limit limit);
+
+    /**
+     * Busca contatos de um tenant pelo e-mail normalizado, usando o índice único {@value Contato#RESTRICAO_EMAIL}.
+     *
+     * @param tenantId         O tenant dono dos contatos.
+     * @param emailNormalizado O e-mail procurado, já normalizado por {@link Contato#normalizarEmail(String)}.
+     * @param limit            Quantidade máxima de contatos a retornar.
+     * @return Os contatos com o e-mail informado (no máximo um).
+     */
+    List<Contato> findByTenantIdAndEmailNormalizado(String tenantId, String emailNormalizado, Limit limit);
+
+    /**
+     * Verifica, em uma única consulta, quais e-mails de uma lista já estão cadastrados no tenant.
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @param emails   E-mails normalizados a verificar.
+     * @return Os e-mails da lista que já existem.
+     */
+    @Query("select c.emailNormalizado from Contato c where c.tenantId = :tenantId and c.emailNormalizado in :emails")
+    List<String> emailsExistentes(@Param("tenantId") String tenantId, @Param("emails") Collection<String> emails);
+
+    /**
+     * Percorre o tenant e o e-mail normalizado de todos os contatos, sem carregar as entidades completas.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Um {@link Stream} de {@link ContatoEmailProjection}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select c.tenantId as tenantId, c.emailNormalizado as emailNormalizado from Contato c")
+    Stream<ContatoEmailProjection> streamEmails();
+
+    /**
+     * Busca contatos de um tenant pelo telefone exato, usando o índice {@code idx_contato_tenant_telefone}.
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @param telefone O telefone procurado, no mesmo formato em que foi cadastrado.
+     * @param limit    Quantidade máxima de contatos a retornar.
+     * @return Os contatos com o telefone informado.
+     */
+    List<Contato> findByTenantIdAndTelefone(String tenantId, String telefone, Limit limit);
+
+    /**
+     * Substitui nome, e-mail e telefone de um contato com um único {@code UPDATE}, sem carregá-lo antes,
+     * e incrementa a sua versão. Um e-mail já usado por outro contato do tenant viola {@value Contato#RESTRICAO_EMAIL}.
+     * <p>
+     * Se {@code versao} for informada, a linha só é alterada se ainda estiver nessa versão (concorrência otimista).
+     * O contexto de persistência é limpo após o comando, para que leituras seguintes na mesma sessão
+     * não devolvam uma versão antiga da entidade.
+     * </p>
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @param versao   A versão esperada, ou {@code null} para alterar qualquer versão.
+     * @param nome     O novo nome.
+     * @param email    O novo e-mail.
+     * @param telefone O novo telefone.
+     * @return A quantidade de linhas alteradas ({@code 0} se o contato não existir ou estiver em outra versão).
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Contato c set c.nome = :nome, c.email = :email, c.emailNormalizado = lower(trim(:email)), "
+           + "c.telefone = :telefone, c.versao = coalesce(c.versao, 0) + 1 "
+           + "where c.tenantId = :tenantId and c.id = :id and (:versao is null or coalesce(c.versao, 0) = :versao)")
+    int atualizar(@Param("tenantId") String tenantId, @Param("id") Long id, @Param("versao") Long versao,
+                  @Param("nome") String nome, @Param("email") String email, @Param("telefone") String telefone);
+
+    /**
+     * Altera apenas os campos informados de um contato com um único {@code UPDATE} e incrementa a sua versão.
+     * Campos {@code null} mantêm o valor atual ({@code coalesce}).
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @param versao   A versão esperada, ou {@code null} para alterar qualquer versão.
+     * @param nome     O novo nome, ou {@code null} para manter o atual.
+     * @param email    O novo e-mail, ou {@code null} para manter o atual.
+     * @param telefone O novo telefone, ou {@code null} para manter o atual.
+     * @return A quantidade de linhas alteradas ({@code 0} se o contato não existir ou estiver em outra versão).
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Contato c set c.nome = coalesce(:nome, c.nome), c.email = coalesce(:email, c.email), "
+           + "c.emailNormalizado = lower(trim(coalesce(:email, c.email))), "
+           + "c.telefone = coalesce(:telefone, c.telefone), c.versao = coalesce(c.versao, 0) + 1 "
+           + "where c.tenantId = :tenantId and c.id = :id and (:versao is null or coalesce(c.versao, 0) = :versao)")
+    int atualizarParcial(@Param("tenantId") String tenantId, @Param("id") Long id, @Param("versao") Long versao,
+                         @Param("nome") String nome, @Param("email") String email, @Param("telefone") String telefone);
+
+    /**
+     * Exclui um contato com um único {@code DELETE}, sem carregá-lo antes
+     * (ao contrário de {@link #deleteById(Object)}, que busca a entidade para removê-la).
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID do contato.
+     * @param versao   A versão esperada, ou {@code null} para excluir qualquer versão.
+     * @return A quantidade de linhas excluídas ({@code 0} se o contato não existir ou estiver em outra versão).
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Contato c where c.tenantId = :tenantId and c.id = :id "
+           + "and (:versao is null or coalesce(c.versao, 0) = :versao)")
+    int excluirPorId(@Param("tenantId") String tenantId, @Param("id") Long id, @Param("versao") Long versao);
 }
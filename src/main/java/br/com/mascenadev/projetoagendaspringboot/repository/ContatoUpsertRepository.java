@@ -0,0 +1,178 @@
+package br.com.mascenadev.projetoagendaspringboot.repository;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repositório de **upsert** idempotente de {@link Contato}s, identificados pelo e-mail normalizado do tenant.
+ * <p>
+ * Cada contato é gravado com um único comando SQL: inserido se o e-mail ainda não existe no tenant, atualizado se
+ * existe com outros dados, e mantido intacto (sem incrementar a versão) se nada mudou. Reenviar os mesmos dados,
+ * portanto, não altera o banco. Os comandos são enviados em um lote JDBC, dentro da transação do chamador.
+ * </p>
+ * <ul>
+ * <li>PostgreSQL: {@code INSERT ... ON CONFLICT (tenant_id, email_normalizado) DO UPDATE ... WHERE ... IS DISTINCT FROM},
+ * apoiado na restrição {@value Contato#RESTRICAO_EMAIL};</li>
+ * <li>demais bancos (H2): o {@code MERGE} padrão do SQL, com a mesma semântica.</li>
+ * </ul>
+ * <p>
+ * O SQL é escrito à mão, como no {@link ContatoReactiveRepository}, porque o JPA não tem upsert. Antes do lote, os
+ * contatos já cadastrados são lidos e bloqueados ({@code FOR UPDATE}); só os e-mails ausentes recebem um ID novo, do
+ * {@link ContatoIdAlocador}, de modo que os contatos existentes não consomem a sequência {@code contato_seq}. O
+ * resultado de cada contato vem da comparação das versões lidas antes e depois do lote, e não da contagem de linhas
+ * do JDBC, que alguns drivers não informam em lotes ({@code SUCCESS_NO_INFO}).
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.service.ContatoService#salvarOuAtualizarEmLote(List)
+ * @since 1.1.0
+ */
+@Repository
+@Profile("!reactive")
+public class ContatoUpsertRepository {
+
+    private static final String UPSERT_POSTGRESQL = """
+            INSERT INTO contato (id, tenant_id, nome, email, email_normalizado, telefone, versao)
+            VALUES (:id, :tenantId, :nome, :email, :emailNormalizado, :telefone, 0)
+            ON CONFLICT (tenant_id, email_normalizado) DO UPDATE
+            SET nome = EXCLUDED.nome, email = EXCLUDED.email, telefone = EXCLUDED.telefone,
+                versao = COALESCE(contato.versao, 0) + 1
+            WHERE (contato.nome, contato.email, contato.telefone)
+                IS DISTINCT FROM (EXCLUDED.nome, EXCLUDED.email, EXCLUDED.telefone)
+            """;
+
+    private static final String UPSERT_MERGE = """
+            MERGE INTO contato c
+            USING (VALUES (CAST(:id AS BIGINT), CAST(:tenantId AS VARCHAR(64)), CAST(:nome AS VARCHAR(255)), CAST(:email AS VARCHAR(255)),
+                           CAST(:emailNormalizado AS VARCHAR(255)), CAST(:telefone AS VARCHAR(255))))
+                AS s (id, tenant_id, nome, email, email_normalizado, telefone)
+            ON c.tenant_id = s.tenant_id AND c.email_normalizado = s.email_normalizado
+            WHEN MATCHED AND (c.nome <> s.nome OR c.email <> s.email OR c.telefone <> s.telefone) THEN
+                UPDATE SET nome = s.nome, email = s.email, telefone = s.telefone, versao = COALESCE(c.versao, 0) + 1
+            WHEN NOT MATCHED THEN
+                INSERT (id, tenant_id, nome, email, email_normalizado, telefone, versao)
+                VALUES (s.id, s.tenant_id, s.nome, s.email, s.email_normalizado, s.telefone, 0)
+            """;
+
+    private static final String IDS_POR_EMAIL = "SELECT id, email_normalizado, versao FROM contato "
+                                                + "WHERE tenant_id = :tenantId AND email_normalizado IN (:emails)";
+
+    private static final String IDS_POR_EMAIL_BLOQUEANDO = IDS_POR_EMAIL + " FOR UPDATE";
+
+    /**
+     * Resultado do upsert de um contato.
+     *
+     * @param id       O ID do contato, novo ou existente.
+     * @param versao   A versão do contato após o comando ({@code 0} para um contato recém-criado).
+     * @param alterado {@code true} se a linha foi inserida ou alterada; {@code false} se os dados já eram os mesmos.
+     */
+    public record Resultado(Long id, Long versao, boolean alterado) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final String sqlUpsert;
+
+    private final String sqlProximoBloco;
+
+    private final ContatoIdAlocador alocador = new ContatoIdAlocador();
+
+    /**
+     * Construtor para injeção do {@link NamedParameterJdbcTemplate}.
+     *
+     * @param jdbcTemplate         O {@link NamedParameterJdbcTemplate} configurado pelo Spring Boot, sobre o mesmo
+     *                             {@code DataSource} do JPA (participa das transações do {@code JpaTransactionManager}).
+     * @param entityManagerFactory A fábrica JPA, usada para identificar o dialeto do banco sem abrir conexão.
+     */
+    public ContatoUpsertRepository(NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        boolean postgresql = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                instanceof PostgreSQLDialect;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlUpsert = postgresql ? UPSERT_POSTGRESQL : UPSERT_MERGE;
+        this.sqlProximoBloco = postgresql ? "SELECT nextval('contato_seq')" : "SELECT NEXT VALUE FOR contato_seq";
+    }
+
+    /**
+     * Insere ou atualiza os contatos de um tenant em um lote JDBC e devolve, na mesma ordem, o ID, a versão e se
+     * cada um foi gravado.
+     * <p>
+     * Os contatos existentes ficam bloqueados até o fim da transação do chamador, para que a versão lida antes do
+     * lote só mude pelo próprio lote. Um contato inserido por outra transação entre a leitura e o lote é atualizado
+     * pelo lote e tratado como existente na versão {@code 0}.
+     * </p>
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @param contatos Os contatos a gravar, sem ID e com e-mails normalizados distintos entre si.
+     * @return Um {@link Resultado} por contato, na ordem recebida.
+     */
+    public List<Resultado> upsert(String tenantId, List<Contato> contatos) {
+        List<String> emails = new ArrayList<>(contatos.size());
+        for (Contato contato : contatos) {
+            emails.add(Contato.normalizarEmail(contato.getEmail()));
+        }
+        Map<String, Resultado> antes = ler(IDS_POR_EMAIL_BLOQUEANDO, tenantId, emails);
+
+        SqlParameterSource[] parametros = new SqlParameterSource[contatos.size()];
+        long[] idsNovos = new long[contatos.size()];
+        for (int i = 0; i < contatos.size(); i++) {
+            Contato contato = contatos.get(i);
+            Resultado existente = antes.get(emails.get(i));
+            // No PostgreSQL a linha proposta é montada (e o id não pode ser nulo) antes da verificação do conflito
+            idsNovos[i] = existente == null ? proximoId() : 0;
+            parametros[i] = new MapSqlParameterSource()
+                    .addValue("id", existente != null ? existente.id() : idsNovos[i])
+                    .addValue("tenantId", tenantId)
+                    .addValue("nome", contato.getNome())
+                    .addValue("email", contato.getEmail())
+                    .addValue("emailNormalizado", emails.get(i))
+                    .addValue("telefone", contato.getTelefone());
+        }
+        jdbcTemplate.batchUpdate(sqlUpsert, parametros);
+
+        Map<String, Resultado> depois = ler(IDS_POR_EMAIL, tenantId, emails);
+        List<Resultado> resultados = new ArrayList<>(contatos.size());
+        for (int i = 0; i < contatos.size(); i++) {
+            Resultado anterior = antes.get(emails.get(i));
+            Resultado gravado = depois.get(emails.get(i));
+            boolean alterado = anterior != null ? !gravado.versao().equals(anterior.versao())
+                    : gravado.id() == idsNovos[i] || gravado.versao() != 0;
+            resultados.add(new Resultado(gravado.id(), gravado.versao(), alterado));
+        }
+        return resultados;
+    }
+
+    /**
+     * @return O ID, a versão e o e-mail normalizado dos contatos do tenant com os e-mails informados.
+     */
+    private Map<String, Resultado> ler(String sql, String tenantId, List<String> emails) {
+        Map<String, Resultado> contatos = new HashMap<>(emails.size() * 2);
+        jdbcTemplate.query(sql, new MapSqlParameterSource()
+                        .addValue("tenantId", tenantId)
+                        .addValue("emails", emails),
+                rs -> {
+                    contatos.put(rs.getString("email_normalizado"),
+                            new Resultado(rs.getLong("id"), rs.getLong("versao"), false));
+                });
+        return contatos;
+    }
+
+    private long proximoId() {
+        long id = alocador.proximo();
+        if (id == 0) {
+            id = alocador.novoBloco(jdbcTemplate.getJdbcTemplate().queryForObject(sqlProximoBloco, Long.class));
+        }
+        return id;
+    }
+}
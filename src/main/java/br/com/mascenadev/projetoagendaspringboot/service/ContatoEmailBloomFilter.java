@@ -0,0 +1,180 @@
+package br.com.mascenadev.projetoagendaspringboot.service;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoEmailProjection;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * **Filtro de Bloom** em memória dos e-mails cadastrados em todos os tenants, usado pela importação em lote.
+ * <p>
+ * Antes de inserir um bloco, o {@link ContatoService} precisa saber quais e-mails já existem. O filtro responde
+ * "com certeza não existe" para a maioria dos e-mails novos sem acessar o banco; apenas os e-mails para os quais ele
+ * responde "pode existir" (cadastrados de fato ou falsos positivos) são confirmados com uma consulta. Falsos
+ * negativos não acontecem: um e-mail cadastrado sempre é consultado. A restrição única do banco continua sendo
+ * a garantia final, inclusive contra importações concorrentes.
+ * </p>
+ * <p>
+ * Há um único vetor de {@code agenda.duplicados.bloom.bits} bits (arredondado para potência de dois), compartilhado
+ * por todos os tenants: cada entrada é o par tenant e e-mail, de modo que a memória ocupada não cresce com a
+ * quantidade de tenants. Cada par marca {@code agenda.duplicados.bloom.hashes} posições, derivadas de um hash FNV-1a
+ * de 64 bits por hashing duplo. Com os valores padrão (2<sup>24</sup> bits, ou 2 MiB, e 7 posições), a taxa de falsos
+ * positivos fica abaixo de 1% até cerca de 1,7 milhão de contatos no total. E-mails removidos não são retirados do
+ * filtro, o que só aumenta os falsos positivos até a próxima carga.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoService#salvarEmLote(java.util.List)
+ * @since 1.1.0
+ */
+@Component
+@Profile("!reactive")
+public class ContatoEmailBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ContatoEmailBloomFilter.class);
+
+    private static final long FNV_BASE = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIMO = 0x100000001b3L;
+
+    private final ContatoRepository contatoRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int bits;
+
+    private final int hashes;
+
+    private final AtomicLongArray filtro;
+
+    /**
+     * @param contatoRepository   O repositório de onde os e-mails são lidos na inicialização.
+     * @param transactionTemplate O {@link TransactionTemplate} que mantém a transação aberta durante a leitura em streaming.
+     * @param bits                Tamanho do filtro, em bits, para todos os tenants.
+     * @param hashes              Quantidade de posições marcadas por e-mail.
+     */
+    public ContatoEmailBloomFilter(ContatoRepository contatoRepository, TransactionTemplate transactionTemplate,
+                                   @Value("${agenda.duplicados.bloom.bits:16777216}") int bits,
+                                   @Value("${agenda.duplicados.bloom.hashes:7}") int hashes) {
+        this.contatoRepository = contatoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bits = Integer.highestOneBit(Math.max(bits, Long.SIZE));
+        this.hashes = Math.max(1, hashes);
+        this.filtro = new AtomicLongArray(this.bits / Long.SIZE);
+    }
+
+    /**
+     * Carrega os e-mails de todos os tenants assim que a aplicação fica pronta.
+     * Enquanto a carga não termina, e-mails ainda não carregados são tratados como novos, e a restrição única
+     * do banco rejeita eventuais duplicados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long inicio = System.nanoTime();
+        Integer total = transactionTemplate.execute(status -> {
+            int quantidade = 0;
+            try (Stream<ContatoEmailProjection> emails = contatoRepository.streamEmails()) {
+                for (ContatoEmailProjection email : (Iterable<ContatoEmailProjection>) emails::iterator) {
+                    adicionar(email.getTenantId(), email.getEmailNormalizado());
+                    quantidade++;
+                }
+            }
+            return quantidade;
+        });
+        log.info("Filtro de e-mails carregado com {} contatos em {} ms", total, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Acrescenta ao filtro o e-mail de um contato criado ou alterado.
+     *
+     * @param event A alteração do contato.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterar(ContatoAlteradoEvent event) {
+        if (event.tipo() != ContatoAlteradoEvent.Tipo.EXCLUIDO) {
+            adicionar(event.tenantId(), Contato.normalizarEmail(event.contato().getEmail()));
+        }
+    }
+
+    /**
+     * Marca um e-mail como existente no tenant.
+     *
+     * @param tenantId         O tenant dono do contato.
+     * @param emailNormalizado O e-mail, normalizado por {@link Contato#normalizarEmail(String)}.
+     */
+    public void adicionar(String tenantId, String emailNormalizado) {
+        if (tenantId == null || emailNormalizado == null) {
+            return;
+        }
+        long hash = hash(tenantId, emailNormalizado);
+        int passo = passo(hash);
+        for (int i = 0; i < hashes; i++) {
+            int posicao = ((int) hash + i * passo) & (bits - 1);
+            int palavra = posicao >>> 6;
+            long mascara = 1L << posicao;
+            long atual = filtro.get(palavra);
+            while ((atual & mascara) == 0 && !filtro.compareAndSet(palavra, atual, atual | mascara)) {
+                atual = filtro.get(palavra);
+            }
+        }
+    }
+
+    /**
+     * @param tenantId         O tenant.
+     * @param emailNormalizado O e-mail, normalizado por {@link Contato#normalizarEmail(String)}.
+     * @return {@code false} se o e-mail certamente não está cadastrado no tenant; {@code true} se pode estar.
+     */
+    public boolean podeExistir(String tenantId, String emailNormalizado) {
+        long hash = hash(tenantId, emailNormalizado);
+        int passo = passo(hash);
+        for (int i = 0; i < hashes; i++) {
+            int posicao = ((int) hash + i * passo) & (bits - 1);
+            if ((filtro.get(posicao >>> 6) & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Segundo hash do hashing duplo, tirado dos 32 bits altos; sempre ímpar, para percorrer todo o vetor.
+     */
+    private static int passo(long hash) {
+        return (int) (hash >>> 32) | 1;
+    }
+
+    /**
+     * Hash do par tenant e e-mail, calculado sobre os dois textos separados por um caractere nulo (que não aparece
+     * em nenhum deles), sem concatená-los.
+     */
+    private static long hash(String tenantId, String emailNormalizado) {
+        long hash = misturar(FNV_BASE, tenantId);
+        hash *= FNV_PRIMO;
+        hash = misturar(hash, emailNormalizado);
+        // Finalizador do MurmurHash3, para espalhar os bits do FNV entre as duas metades.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static long misturar(long hash, String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            hash ^= texto.charAt(i);
+            hash *= FNV_PRIMO;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,427 @@
+package br.com.mascenadev.projetoagendaspringboot.service;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoSugestaoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoNomeProjection;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * **Índice de trigramas em memória** sobre os nomes dos contatos, usado pelo autocompletar.
+ * <p>
+ * Um {@code LIKE '%texto%'} não aproveita índices do banco, e o autocompletar é chamado a cada tecla digitada.
+ * Este componente mantém, para cada trigrama (sequência de três caracteres) dos nomes normalizados,
+ * a lista ordenada dos IDs dos contatos que o contêm, em arrays de {@code long}. Uma pesquisa intersecta
+ * as listas dos trigramas do termo e confirma os candidatos contra o nome, sem acessar o banco.
+ * </p>
+ * <p>
+ * Os nomes são normalizados em minúsculas e sem acentos, e recebem dois espaços à esquerda para que
+ * termos de uma ou duas letras também possam ser pesquisados: eles casam com o início de qualquer palavra
+ * do nome. Para isso, além dos trigramas, cada palavra após a primeira é indexada pela sua letra inicial
+ * precedida dos dois espaços, como se começasse o nome.
+ * </p>
+ * <p>
+ * O índice é carregado a partir do {@link ContatoRepository} quando a aplicação termina de subir e é mantido
+ * atualizado pelos {@link ContatoAlteradoEvent} publicados pelo {@link ContatoService}, após a confirmação de cada escrita. Cada tenant tem o seu próprio índice, protegido por um
+ * {@link ReentrantReadWriteLock}: pesquisas concorrentes não se bloqueiam entre si, e escritas de um tenant
+ * não bloqueiam as pesquisas dos demais. A carga monta um conjunto de índices novo, fora do alcance das
+ * pesquisas, e só então o coloca no lugar do anterior, reaplicando as alterações recebidas durante a leitura.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoService#autocompletar(String, int)
+ * @since 1.1.0
+ */
+@Component
+@Profile("!reactive")
+public class ContatoNomeIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ContatoNomeIndex.class);
+
+    private static final String PREENCHIMENTO = "  ";
+
+    private final ContatoRepository contatoRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Um índice independente por tenant: pesquisas de um tenant nunca percorrem os nomes dos demais.
+     * Substituído por inteiro ao final de cada carga.
+     */
+    private volatile ConcurrentHashMap<String, Indice> indices = new ConcurrentHashMap<>();
+
+    /**
+     * Guarda {@link #pendentes} e a troca de {@link #indices} ao final da carga.
+     */
+    private final Object carga = new Object();
+
+    /**
+     * Alterações recebidas enquanto uma carga está em andamento, reaplicadas nos índices novos antes da troca;
+     * {@code null} fora da carga.
+     */
+    private List<ContatoAlteradoEvent> pendentes;
+
+    /**
+     * Construtor para injeção das dependências usadas na carga inicial do índice.
+     *
+     * @param contatoRepository   O repositório de onde os nomes são lidos na inicialização.
+     * @param transactionTemplate O {@link TransactionTemplate} que mantém a transação aberta durante a leitura em streaming.
+     */
+    public ContatoNomeIndex(ContatoRepository contatoRepository, TransactionTemplate transactionTemplate) {
+        this.contatoRepository = contatoRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Carrega todos os nomes cadastrados no índice assim que a aplicação fica pronta.
+     * <p>
+     * A leitura usa uma projeção em streaming, sem materializar entidades, e preenche índices novos; enquanto
+     * ela não termina, as pesquisas continuam nos índices anteriores. As alterações confirmadas durante a leitura
+     * podem ou não estar nela, por isso são guardadas e reaplicadas nos índices novos antes da troca.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long inicio = System.nanoTime();
+        ConcurrentHashMap<String, Indice> novos = new ConcurrentHashMap<>();
+        synchronized (carga) {
+            pendentes = new ArrayList<>();
+        }
+        Integer total;
+        try {
+            total = transactionTemplate.execute(status -> {
+                int quantidade = 0;
+                try (Stream<ContatoNomeProjection> nomes = contatoRepository.streamNomes()) {
+                    for (ContatoNomeProjection contato : (Iterable<ContatoNomeProjection>) nomes::iterator) {
+                        indexar(novos, contato.getTenantId(), contato.getId(), contato.getNome());
+                        quantidade++;
+                    }
+                }
+                return quantidade;
+            });
+            synchronized (carga) {
+                for (ContatoAlteradoEvent event : pendentes) {
+                    aplicar(novos, event);
+                }
+                indices = novos;
+            }
+        } finally {
+            synchronized (carga) {
+                pendentes = null;
+            }
+        }
+        log.info("Índice de nomes carregado com {} contatos em {} ms", total, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Atualiza o índice com uma alteração confirmada.
+     *
+     * @param event A alteração do contato.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterar(ContatoAlteradoEvent event) {
+        ConcurrentHashMap<String, Indice> destino;
+        synchronized (carga) {
+            if (pendentes != null) {
+                pendentes.add(event);
+            }
+            destino = indices;
+        }
+        aplicar(destino, event);
+    }
+
+    /**
+     * Inclui ou substitui o nome de um contato no índice do seu tenant.
+     *
+     * @param tenantId Tenant dono do contato.
+     * @param id       ID do contato.
+     * @param nome     Nome atual do contato.
+     */
+    public void indexar(String tenantId, Long id, String nome) {
+        indexar(indices, tenantId, id, nome);
+    }
+
+    /**
+     * Remove um contato do índice do seu tenant.
+     *
+     * @param tenantId Tenant dono do contato.
+     * @param id       ID do contato excluído.
+     */
+    public void remover(String tenantId, Long id) {
+        remover(indices, tenantId, id);
+    }
+
+    /**
+     * Pesquisa os contatos de um tenant cujo nome contém o termo informado.
+     * <p>
+     * Contatos cujo nome começa com o termo aparecem primeiro; dentro de cada grupo, a ordem é a de ID.
+     * </p>
+     *
+     * @param tenantId Tenant dono dos contatos.
+     * @param termo    Texto digitado pelo usuário (ignora maiúsculas e acentos).
+     * @param limite   Quantidade máxima de sugestões.
+     * @return As sugestões encontradas, no máximo {@code limite}.
+     */
+    public List<ContatoSugestaoResponseDTO> buscar(String tenantId, String termo, int limite) {
+        Indice indice = indices.get(tenantId);
+        return indice == null ? List.of() : indice.buscar(termo, limite);
+    }
+
+    private static void aplicar(Map<String, Indice> destino, ContatoAlteradoEvent event) {
+        if (event.tipo() == ContatoAlteradoEvent.Tipo.EXCLUIDO) {
+            remover(destino, event.tenantId(), event.id());
+        } else {
+            indexar(destino, event.tenantId(), event.id(), event.contato().getNome());
+        }
+    }
+
+    private static void indexar(Map<String, Indice> destino, String tenantId, Long id, String nome) {
+        if (tenantId == null || id == null || nome == null) {
+            return;
+        }
+        destino.computeIfAbsent(tenantId, chave -> new Indice()).indexar(id, nome);
+    }
+
+    private static void remover(Map<String, Indice> destino, String tenantId, Long id) {
+        Indice indice = tenantId == null ? null : destino.get(tenantId);
+        if (indice != null) {
+            indice.remover(id);
+        }
+    }
+
+    /**
+     * Índice de trigramas dos nomes de um único tenant, com o seu próprio lock.
+     */
+    private static final class Indice {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        /**
+         * Nome original e nome normalizado de cada contato indexado, por ID.
+         */
+        private final Map<Long, Entrada> entradas = new HashMap<>();
+
+        /**
+         * Lista ordenada de IDs por trigrama (três caracteres compactados em um {@code long}).
+         */
+        private final Map<Long, Postings> postings = new HashMap<>();
+
+        void indexar(Long id, String nome) {
+            String normalizado = normalizar(nome);
+            lock.writeLock().lock();
+            try {
+                Entrada anterior = entradas.put(id, new Entrada(nome, normalizado));
+                if (anterior != null) {
+                    removerPostings(id, anterior.normalizado());
+                }
+                paraCadaChave(normalizado, chave -> postings.computeIfAbsent(chave, nova -> new Postings()).adicionar(id));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remover(Long id) {
+            lock.writeLock().lock();
+            try {
+                Entrada anterior = entradas.remove(id);
+                if (anterior != null) {
+                    removerPostings(id, anterior.normalizado());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<ContatoSugestaoResponseDTO> buscar(String termo, int limite) {
+            String normalizado = normalizar(termo == null ? "" : termo.strip());
+            if (normalizado.isEmpty()) {
+                return List.of();
+            }
+            boolean curto = normalizado.length() < 3;
+            String consulta = curto ? PREENCHIMENTO.substring(normalizado.length() - 1) + normalizado : normalizado;
+
+            lock.readLock().lock();
+            try {
+                long[] candidatos = candidatos(consulta);
+                List<ContatoSugestaoResponseDTO> resultado = new ArrayList<>(Math.min(limite, candidatos.length));
+                // Primeira passada: nomes que começam com o termo; segunda: o termo em qualquer posição.
+                for (int passada = 0; passada < 2 && resultado.size() < limite; passada++) {
+                    for (long id : candidatos) {
+                        Entrada entrada = entradas.get(id);
+                        boolean prefixo = entrada.normalizado().startsWith(normalizado);
+                        boolean casa = passada == 0
+                                ? prefixo
+                                : !prefixo && (curto
+                                ? entrada.normalizado().contains(" " + normalizado)
+                                : entrada.normalizado().contains(normalizado));
+                        if (casa) {
+                            resultado.add(new ContatoSugestaoResponseDTO(id, entrada.nome()));
+                            if (resultado.size() == limite) {
+                                break;
+                            }
+                        }
+                    }
+                }
+                return resultado;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Intersecta as listas de IDs de todos os trigramas da consulta, começando pela menor.
+         * Deve ser chamado com o lock de leitura adquirido.
+         */
+        private long[] candidatos(String consulta) {
+            List<Postings> listas = new ArrayList<>(consulta.length());
+            for (int i = 0; i + 3 <= consulta.length(); i++) {
+                Postings lista = postings.get(trigrama(consulta, i));
+                if (lista == null) {
+                    return new long[0];
+                }
+                listas.add(lista);
+            }
+            listas.sort((a, b) -> Integer.compare(a.tamanho, b.tamanho));
+
+            Postings menor = listas.get(0);
+            long[] resultado = new long[menor.tamanho];
+            int quantidade = 0;
+            for (int i = 0; i < menor.tamanho; i++) {
+                long id = menor.ids[i];
+                boolean emTodas = true;
+                for (int j = 1; j < listas.size() && emTodas; j++) {
+                    emTodas = listas.get(j).contem(id);
+                }
+                if (emTodas) {
+                    resultado[quantidade++] = id;
+                }
+            }
+            return quantidade == resultado.length ? resultado : Arrays.copyOf(resultado, quantidade);
+        }
+
+        /**
+         * Remove o ID de todas as listas dos trigramas do nome informado. Deve ser chamado com o lock de escrita.
+         */
+        private void removerPostings(Long id, String normalizado) {
+            paraCadaChave(normalizado, chave -> {
+                Postings lista = postings.get(chave);
+                if (lista != null && lista.remover(id) && lista.tamanho == 0) {
+                    postings.remove(chave);
+                }
+            });
+        }
+    }
+
+    /**
+     * Percorre as chaves de um nome normalizado: os trigramas do nome com o preenchimento e, para cada palavra
+     * após a primeira, o trigrama do preenchimento com a letra inicial da palavra (usado pelas pesquisas de uma
+     * letra). Usado tanto para incluir quanto para remover o nome, para que as duas operações nunca divirjam.
+     */
+    private static void paraCadaChave(String normalizado, LongConsumer acao) {
+        String texto = PREENCHIMENTO + normalizado;
+        for (int i = 0; i + 3 <= texto.length(); i++) {
+            acao.accept(trigrama(texto, i));
+        }
+        for (int i = 1; i < normalizado.length(); i++) {
+            if (normalizado.charAt(i - 1) == ' ' && normalizado.charAt(i) != ' ') {
+                acao.accept(((long) ' ' << 32) | ((long) ' ' << 16) | normalizado.charAt(i));
+            }
+        }
+    }
+
+    /**
+     * Compacta três caracteres consecutivos em um {@code long}, 16 bits por caractere.
+     */
+    private static long trigrama(String texto, int inicio) {
+        return ((long) texto.charAt(inicio) << 32)
+               | ((long) texto.charAt(inicio + 1) << 16)
+               | texto.charAt(inicio + 2);
+    }
+
+    /**
+     * Converte o texto para minúsculas e remove acentos, para que "José" e "jose" sejam equivalentes.
+     */
+    private static String normalizar(String texto) {
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposto.length());
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Nome original (exibido na sugestão) e normalizado (usado na comparação) de um contato.
+     */
+    private record Entrada(String nome, String normalizado) {
+    }
+
+    /**
+     * Lista ordenada e sem repetições de IDs, armazenada em um array de {@code long} que cresce sob demanda.
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+
+        private int tamanho;
+
+        void adicionar(long id) {
+            if (tamanho > 0 && ids[tamanho - 1] < id) {
+                garantirCapacidade();
+                ids[tamanho++] = id;
+                return;
+            }
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao >= 0) {
+                return;
+            }
+            int insercao = -posicao - 1;
+            garantirCapacidade();
+            System.arraycopy(ids, insercao, ids, insercao + 1, tamanho - insercao);
+            ids[insercao] = id;
+            tamanho++;
+        }
+
+        boolean remover(long id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao < 0) {
+                return false;
+            }
+            System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+
+        boolean contem(long id) {
+            return Arrays.binarySearch(ids, 0, tamanho, id) >= 0;
+        }
+
+        private void garantirCapacidade() {
+            if (tamanho == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
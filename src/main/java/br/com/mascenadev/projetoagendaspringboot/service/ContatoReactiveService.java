@@ -0,0 +1,189 @@
+package br.com.mascenadev.projetoagendaspringboot.service;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.exception.ContatoNaoEncontradoException;
+import br.com.mascenadev.projetoagendaspringboot.exception.VersaoConflitanteException;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoReactiveRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * **Camada de Serviço reativa** que espelha o {@link ContatoService} para a variante WebFlux + R2DBC da API.
+ * <p>
+ * As escritas são executadas em transações reativas por meio de um {@link TransactionalOperator}
+ * (e não de {@code @Transactional}, que usa o gerenciador JPA principal). Atualização e exclusão são
+ * feitas em um único comando SQL, e a quantidade de linhas afetadas indica se o contato existia.
+ * </p>
+ * <p>
+ * As escritas condicionais ({@code If-Match}) seguem as mesmas regras do {@link ContatoService}: a versão esperada
+ * entra na condição do comando, e uma escrita que não afeta nenhuma linha resulta em
+ * {@link VersaoConflitanteException} se o contato existir em outra versão.
+ * </p>
+ * <p>
+ * Esta variante existe para comparação de desempenho entre as pilhas e cobre apenas o CRUD, a listagem e a
+ * exportação. Ela não publica {@link br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent}s: o
+ * cache de leitura, o índice de autocompletar, o filtro de e-mails, o feed de alterações e o outbox do
+ * {@link ContatoService} não existem no perfil {@code reactive}.
+ * </p>
+ * <p>
+ * Como não há uma thread fixa por requisição, o tenant é recebido explicitamente em cada operação,
+ * em vez de ser lido do {@link br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoService
+ * @see ContatoReactiveRepository
+ * @since 1.1.0
+ */
+@Service
+@Profile("reactive")
+public class ContatoReactiveService {
+
+    private final ContatoReactiveRepository contatoRepository;
+
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * Construtor para injeção do repositório reativo e do gerenciador de transações R2DBC.
+     *
+     * @param contatoRepository  O repositório reativo de contatos.
+     * @param transactionManager O {@link ReactiveTransactionManager} do R2DBC.
+     */
+    public ContatoReactiveService(ContatoReactiveRepository contatoRepository,
+                                  ReactiveTransactionManager transactionManager) {
+        this.contatoRepository = contatoRepository;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+    }
+
+    /**
+     * Cria um novo contato no tenant informado.
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param contato  O contato a ser criado.
+     * @return Um {@link Mono} com o contato salvo e seu ID.
+     */
+    public Mono<Contato> salvar(String tenantId, Contato contato) {
+        contato.setTenantId(tenantId);
+        return contatoRepository.insert(contato).as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Busca um contato pelo ID.
+     *
+     * @param tenantId O tenant dono do contato.
+     * @param id       O ID procurado.
+     * @return Um {@link Mono} com o contato, ou que falha com {@link ContatoNaoEncontradoException}.
+     */
+    public Mono<Contato> buscarPorId(String tenantId, Long id) {
+        return contatoRepository.findById(tenantId, id)
+                .switchIfEmpty(Mono.error(() -> new ContatoNaoEncontradoException(id)));
+    }
+
+    /**
+     * Retorna uma página de contatos ordenada por ID, paginada por chave (keyset).
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @param aposId   ID do último contato já entregue, ou {@code null} para começar do início.
+     * @param limite   Quantidade máxima de contatos.
+     * @return Um {@link Flux} com os contatos da página.
+     */
+    public Flux<Contato> buscarTodos(String tenantId, Long aposId, int limite) {
+        return contatoRepository.findPagina(tenantId, aposId == null ? 0L : aposId, limite);
+    }
+
+    /**
+     * Percorre todos os contatos de um tenant para exportação, sob demanda do consumidor.
+     *
+     * @param tenantId O tenant dono dos contatos.
+     * @return Um {@link Flux} com todos os contatos do tenant, em ordem de ID.
+     */
+    public Flux<Contato> exportar(String tenantId) {
+        return contatoRepository.findTodos(tenantId);
+    }
+
+    /**
+     * Atualiza nome, e-mail e telefone de um contato existente em um único comando.
+     * <p>
+     * Com {@code versaoEsperada}, o contato só é alterado se ainda estiver nessa versão, como no
+     * {@link ContatoService#atualizar(Long, Contato, Long)}.
+     * </p>
+     *
+     * @param tenantId          O tenant dono do contato.
+     * @param id                O ID do contato.
+     * @param contatoAtualizado Os novos dados.
+     * @param versaoEsperada    A versão que o cliente leu ({@code If-Match}), ou {@code null} para aceitar qualquer versão.
+     * @return Um {@link Mono} com o contato atualizado e a nova versão, ou que falha com
+     * {@link ContatoNaoEncontradoException} ou {@link VersaoConflitanteException}.
+     */
+    public Mono<Contato> atualizar(String tenantId, Long id, Contato contatoAtualizado, Long versaoEsperada) {
+        return contatoRepository.update(tenantId, id, versaoEsperada, contatoAtualizado)
+                .flatMap(linhas -> {
+                    if (linhas == 0) {
+                        return naoAlterado(tenantId, id, versaoEsperada);
+                    }
+                    contatoAtualizado.setId(id);
+                    contatoAtualizado.setTenantId(tenantId);
+                    Mono<Long> versao = versaoEsperada != null
+                            ? Mono.just(versaoEsperada + 1)
+                            : contatoRepository.findVersao(tenantId, id);
+                    return versao.map(nova -> {
+                        contatoAtualizado.setVersao(nova);
+                        return contatoAtualizado;
+                    });
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Altera apenas os campos informados de um contato e devolve o estado completo após a alteração.
+     *
+     * @param tenantId       O tenant dono do contato.
+     * @param id             O ID do contato.
+     * @param alteracoes     Os campos a alterar; os demais devem ser {@code null}.
+     * @param versaoEsperada A versão que o cliente leu ({@code If-Match}), ou {@code null} para aceitar qualquer versão.
+     * @return Um {@link Mono} com o contato atualizado, ou que falha com {@link ContatoNaoEncontradoException} ou
+     * {@link VersaoConflitanteException}.
+     */
+    public Mono<Contato> atualizarParcial(String tenantId, Long id, Contato alteracoes, Long versaoEsperada) {
+        return contatoRepository.updateParcial(tenantId, id, versaoEsperada, alteracoes)
+                .flatMap(linhas -> linhas == 0
+                        ? this.<Contato>naoAlterado(tenantId, id, versaoEsperada)
+                        : contatoRepository.findById(tenantId, id))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Exclui um contato pelo ID.
+     *
+     * @param tenantId       O tenant dono do contato.
+     * @param id             O ID do contato.
+     * @param versaoEsperada A versão que o cliente leu ({@code If-Match}), ou {@code null} para aceitar qualquer versão.
+     * @return Um {@link Mono} vazio, ou que falha com {@link ContatoNaoEncontradoException} ou
+     * {@link VersaoConflitanteException}.
+     */
+    public Mono<Void> excluir(String tenantId, Long id, Long versaoEsperada) {
+        return contatoRepository.deleteById(tenantId, id, versaoEsperada)
+                .flatMap(linhas -> linhas == 0
+                        ? this.<Void>naoAlterado(tenantId, id, versaoEsperada)
+                        : Mono.<Void>empty())
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Distingue, quando uma escrita não afetou nenhuma linha, o contato inexistente do contato em outra versão.
+     */
+    private <T> Mono<T> naoAlterado(String tenantId, Long id, Long versaoEsperada) {
+        if (versaoEsperada == null) {
+            return Mono.error(new ContatoNaoEncontradoException(id));
+        }
+        return contatoRepository.findVersao(tenantId, id)
+                .hasElement()
+                .flatMap(existe -> Mono.error(existe
+                        ? new VersaoConflitanteException(id)
+                        : new ContatoNaoEncontradoException(id)));
+    }
+}
@@ -1,13 +1,39 @@
 package br.com.mascenadev.projetoagendaspringboot.service;
 
+import br.com.mascenadev.projetoagendaspringboot.config.CacheConfig;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoSugestaoResponseDTO;
 import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent;
 import br.com.mascenadev.projetoagendaspringboot.exception.ContatoNaoEncontradoException;
+import br.com.mascenadev.projetoagendaspringboot.exception.RequisicaoInvalidaException;
+import br.com.mascenadev.projetoagendaspringboot.exception.VersaoConflitanteException;
 import br.com.mascenadev.projetoagendaspringboot.repository.ContatoRepository;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoUpsertRepository;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * **Camada de Serviço** ({@link org.springframework.stereotype.Service}) responsável
@@ -18,6 +44,29 @@ import java.util.Optional;
  * Esta classe coordena as operações de CRUD, aplica regras de negócio,
  * validações (quando necessário) e lida com a transacionalidade para garantir a integridade dos dados.
  * </p>
+ * <p>
+ * Todas as operações atuam apenas sobre os contatos do tenant da requisição ({@link TenantContext}),
+ * que é repassado a cada consulta do repositório e prefixa as chaves do cache.
+ * </p>
+ * <p>
+ * **Fronteiras de transação:** por padrão, cada método roda em uma transação {@code readOnly}. Nela, o Hibernate
+ * usa {@code FlushMode.MANUAL}, carrega as entidades sem snapshot para dirty checking e marca a conexão JDBC
+ * como somente leitura. Com uma réplica configurada, essas transações são atendidas por ela (veja
+ * {@link br.com.mascenadev.projetoagendaspringboot.config.ReplicaDataSourceConfig}). As escritas declaram
+ * {@code @Transactional} próprio, e as escritas compostas (alterar e reler, alterar e gravar na outbox)
+ * acontecem em uma única transação. A importação em lote e o autocompletar não abrem transação
+ * ({@link Propagation#NOT_SUPPORTED}): a primeira controla as suas por bloco, e o segundo não acessa o banco.
+ * </p>
+ * <p>
+ * Cada criação, alteração ou exclusão é transacional e publica um {@link ContatoAlteradoEvent}: ele é gravado
+ * na tabela de outbox na mesma transação e, após a confirmação, consumido pelo índice de nomes e pelo feed
+ * de alterações ({@code GET /contatos/changes}).
+ * </p>
+ * <p>
+ * **E-mail único:** a unicidade do e-mail por tenant é garantida pela restrição {@value Contato#RESTRICAO_EMAIL},
+ * sem consulta prévia nas escritas individuais; a violação chega ao
+ * {@link br.com.mascenadev.projetoagendaspringboot.exception.GlobalExceptionHandler} e vira {@code 409 Conflict}.
+ * </p>
  *
  * @author Gilberto Dev
  * @see Contato
@@ -27,10 +76,37 @@ import java.util.Optional;
  * @since 1.0.0
  */
 @Service
+@Profile("!reactive")
+@Transactional(readOnly = true)
 public class ContatoService {
 
+    /**
+     * Nome do timer que mede cada operação do serviço, diferenciada pela tag {@code operacao}.
+     */
+    private static final String METRICA = "agenda.contato.servico";
+
+    /**
+     * Quantidade de contatos persistidos por transação na importação em lote.
+     * Múltiplo de {@code hibernate.jdbc.batch_size} para que cada transação envie lotes JDBC completos.
+     */
+    private static final int TAMANHO_BLOCO = 500;
+
     private final ContatoRepository contatoRepository;
 
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ContatoNomeIndex nomeIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ContatoUpsertRepository upsertRepository;
+
+    private final ContatoEmailBloomFilter emailFiltro;
+
+    private final Cache cache;
+
     /**
      * Construtor para injeção de dependência do repositório de contatos.
      * <p>
@@ -40,10 +116,27 @@ public class ContatoService {
      * </p>
      *
      * @param contatoRepository A interface de repositório para acesso aos dados de contatos no banco de dados.
+     * @param entityManager       O {@link EntityManager} compartilhado, usado para desanexar entidades durante a exportação.
+     * @param transactionTemplate O {@link TransactionTemplate} usado para abrir uma transação por bloco na importação em lote.
+     * @param nomeIndex           O índice de nomes em memória, usado pelo autocompletar.
+     * @param eventPublisher      O publicador dos {@link ContatoAlteradoEvent} de cada escrita.
+     * @param upsertRepository    O repositório de upsert por e-mail, usado pela importação idempotente.
+     * @param emailFiltro         O filtro de Bloom dos e-mails cadastrados, usado pela importação em lote.
+     * @param cacheManager        O {@link CacheManager}, de onde a importação idempotente remove os contatos alterados.
      */
     @Autowired
-    public ContatoService(ContatoRepository contatoRepository) {
+    public ContatoService(ContatoRepository contatoRepository, EntityManager entityManager,
+                          TransactionTemplate transactionTemplate, ContatoNomeIndex nomeIndex,
+                          ApplicationEventPublisher eventPublisher, ContatoUpsertRepository upsertRepository,
+                          ContatoEmailBloomFilter emailFiltro, CacheManager cacheManager) {
         this.contatoRepository = contatoRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.nomeIndex = nomeIndex;
+        this.eventPublisher = eventPublisher;
+        this.upsertRepository = upsertRepository;
+        this.emailFiltro = emailFiltro;
+        this.cache = cacheManager.getCache(CacheConfig.CONTATOS);
     }
 
     /**
@@ -51,14 +144,152 @@ public class ContatoService {
      * <p>
      * Se o objeto {@link Contato} fornecido tiver um ID nulo, um novo contato será criado.
      * Se o ID não for nulo e corresponder a um contato existente, este será atualizado.
+     * O contato salvo é gravado também no cache {@value CacheConfig#CONTATOS}.
      * </p>
      *
      * @param contato A entidade {@link Contato} a ser persistida.
      * @return A instância de {@link Contato} salva ou atualizada, com o ID gerado (se for uma nova criação).
      * @see ContatoRepository#save(Object)
      */
+    @CachePut(cacheNames = CacheConfig.CONTATOS, key = CacheConfig.CHAVE_RESULTADO)
+    @Transactional
+    @Timed(value = METRICA, extraTags = {"operacao", "salvar"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
     public Contato salvar(Contato contato) {
-        return contatoRepository.save(contato);
+        contato.setTenantId(TenantContext.atual());
+        Contato salvo = contatoRepository.save(contato);
+        eventPublisher.publishEvent(ContatoAlteradoEvent.criado(salvo));
+        return salvo;
+    }
+
+    /**
+     * Salva uma lista de novos {@link Contato}s, em blocos de {@value #TAMANHO_BLOCO} por transação.
+     * <p>
+     * Cada bloco é persistido, enviado ao banco com {@code flush} (agrupado em lotes JDBC conforme
+     * {@code hibernate.jdbc.batch_size}) e então removido do contexto de persistência com {@code clear},
+     * evitando que a sessão cresça durante importações grandes. Uma falha afeta apenas o bloco em que ocorreu;
+     * os blocos anteriores permanecem gravados.
+     * </p>
+     * <p>
+     * **Duplicados:** contatos cujo e-mail já apareceu antes na mesma lista ou já está cadastrado no tenant não são
+     * gravados. Os e-mails que o {@link ContatoEmailBloomFilter} garante serem novos não são consultados; os demais
+     * são verificados com uma única consulta por bloco. Se ainda assim o bloco violar a restrição
+     * {@value Contato#RESTRICAO_EMAIL} (importações concorrentes), os seus contatos são gravados um a um, e apenas
+     * os que violarem a restrição ficam de fora.
+     * </p>
+     *
+     * @param contatos Os contatos a serem criados.
+     * @return Uma lista na mesma ordem de {@code contatos}: o contato salvo, já com o ID gerado, ou {@code null}
+     * se o seu e-mail já existia.
+     * @see ContatoRepository#saveAllAndFlush(Iterable)
+     * @see ContatoRepository#emailsExistentes(String, java.util.Collection)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed(value = METRICA, extraTags = {"operacao", "salvarEmLote"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
+    public List<Contato> salvarEmLote(List<Contato> contatos) {
+        String tenant = TenantContext.atual();
+        Set<String> emailsDaLista = new HashSet<>(contatos.size() * 2);
+        List<Contato> salvos = new ArrayList<>(contatos.size());
+        for (int inicio = 0; inicio < contatos.size(); inicio += TAMANHO_BLOCO) {
+            List<Contato> bloco = contatos.subList(inicio, Math.min(inicio + TAMANHO_BLOCO, contatos.size()));
+            List<Contato> novos = descartarDuplicados(tenant, bloco, emailsDaLista);
+            if (!novos.isEmpty() && !inserir(novos)) {
+                novos.forEach(contato -> inserir(List.of(contato)));
+            }
+            bloco.forEach(contato -> salvos.add(contato.getId() != null ? contato : null));
+        }
+        return salvos;
+    }
+
+    /**
+     * Insere ou atualiza uma lista de {@link Contato}s identificados pelo e-mail, de forma idempotente.
+     * <p>
+     * Cada contato é gravado com um único comando de upsert ({@link ContatoUpsertRepository}), em blocos de
+     * {@value #TAMANHO_BLOCO} por transação: e-mails novos criam contatos, e-mails existentes com outros dados
+     * atualizam o contato (incrementando a versão), e contatos reenviados sem mudança não são tocados.
+     * Apenas os contatos gravados publicam {@link ContatoAlteradoEvent}, e apenas os atualizados são removidos
+     * do cache {@value CacheConfig#CONTATOS}, depois da confirmação de cada bloco.
+     * </p>
+     *
+     * @param contatos Os contatos a gravar, sem ID e com e-mails distintos entre si.
+     * @return Um {@link ContatoUpsertRepository.Resultado} por contato, na mesma ordem.
+     * @see ContatoUpsertRepository#upsert(String, List)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed(value = METRICA, extraTags = {"operacao", "salvarOuAtualizarEmLote"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
+    public List<ContatoUpsertRepository.Resultado> salvarOuAtualizarEmLote(List<Contato> contatos) {
+        String tenant = TenantContext.atual();
+        List<ContatoUpsertRepository.Resultado> resultados = new ArrayList<>(contatos.size());
+        for (int inicio = 0; inicio < contatos.size(); inicio += TAMANHO_BLOCO) {
+            List<Contato> bloco = contatos.subList(inicio, Math.min(inicio + TAMANHO_BLOCO, contatos.size()));
+            List<ContatoUpsertRepository.Resultado> doBloco = transactionTemplate.execute(status -> {
+                List<ContatoUpsertRepository.Resultado> gravados = upsertRepository.upsert(tenant, bloco);
+                for (int i = 0; i < bloco.size(); i++) {
+                    ContatoUpsertRepository.Resultado resultado = gravados.get(i);
+                    if (resultado.alterado()) {
+                        Contato contato = bloco.get(i);
+                        contato.setId(resultado.id());
+                        contato.setTenantId(tenant);
+                        contato.setVersao(resultado.versao());
+                        eventPublisher.publishEvent(resultado.versao() == 0
+                                ? ContatoAlteradoEvent.criado(contato)
+                                : ContatoAlteradoEvent.atualizado(contato));
+                    }
+                }
+                return gravados;
+            });
+            doBloco.stream()
+                    .filter(resultado -> resultado.alterado() && resultado.versao() > 0)
+                    .forEach(resultado -> cache.evict(TenantContext.chave(resultado.id())));
+            resultados.addAll(doBloco);
+        }
+        return resultados;
+    }
+
+    /**
+     * Define o tenant dos contatos do bloco e devolve apenas os que devem ser inseridos: sem e-mail repetido
+     * na lista e sem e-mail já cadastrado. Só os e-mails que o filtro de Bloom não descarta são consultados.
+     */
+    private List<Contato> descartarDuplicados(String tenant, List<Contato> bloco, Set<String> emailsDaLista) {
+        List<Contato> novos = new ArrayList<>(bloco.size());
+        List<String> suspeitos = new ArrayList<>();
+        for (Contato contato : bloco) {
+            contato.setTenantId(tenant);
+            String email = Contato.normalizarEmail(contato.getEmail());
+            if (emailsDaLista.add(email)) {
+                novos.add(contato);
+                if (emailFiltro.podeExistir(tenant, email)) {
+                    suspeitos.add(email);
+                }
+            }
+        }
+        if (!suspeitos.isEmpty()) {
+            Set<String> existentes = new HashSet<>(contatoRepository.emailsExistentes(tenant, suspeitos));
+            novos.removeIf(contato -> existentes.contains(Contato.normalizarEmail(contato.getEmail())));
+        }
+        return novos;
+    }
+
+    /**
+     * Insere os contatos em uma transação. Se a restrição de e-mail for violada, a transação é desfeita e os
+     * contatos voltam a não ter ID nem versão, para que possam ser inseridos de novo.
+     *
+     * @return {@code true} se todos foram inseridos.
+     */
+    private boolean inserir(List<Contato> contatos) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                contatoRepository.saveAllAndFlush(contatos);
+                entityManager.clear();
+                contatos.forEach(contato -> eventPublisher.publishEvent(ContatoAlteradoEvent.criado(contato)));
+            });
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            contatos.forEach(contato -> {
+                contato.setId(null);
+                contato.setVersao(null);
+            });
+            return false;
+        }
     }
 
     /**
@@ -70,72 +301,206 @@ public class ContatoService {
      * <li>Um {@code Optional} vazio ({@link Optional#empty()}) se nenhum contato corresponder ao ID.</li>
      * </ul>
      * </p>
+     * <p>
+     * O resultado é lido primeiro do cache {@value CacheConfig#CONTATOS}; o banco só é consultado
+     * em caso de falha no cache. Contatos inexistentes não são armazenados.
+     * </p>
      *
      * @param id O {@link Long} identificador único do contato a ser buscado.
      * @return Um {@link Optional} que pode conter a entidade {@link Contato} encontrada.
-     * @see ContatoRepository#findById(Object)
+     * @see ContatoRepository#findByTenantIdAndId(String, Long)
      */
+    @Cacheable(cacheNames = CacheConfig.CONTATOS, key = CacheConfig.CHAVE_ID, unless = "#result == null")
+    @Timed(value = METRICA, extraTags = {"operacao", "buscarPorId"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
     public Optional<Contato> buscarPorId(Long id) {
-        return contatoRepository.findById(id);
+        return contatoRepository.findByTenantIdAndId(TenantContext.atual(), id);
+    }
+
+    /**
+     * Retorna uma página de {@link Contato}s ordenada por ID, usando paginação por chave (keyset).
+     * <p>
+     * Em vez de carregar a tabela inteira, apenas os {@code limite} contatos seguintes ao
+     * {@code aposId} são lidos, o que mantém o custo de cada página constante.
+     * </p>
+     *
+     * @param aposId ID do último contato já entregue, ou {@code null} para começar do início.
+     * @param limite Quantidade máxima de contatos a retornar.
+     * @return Uma {@link java.util.List} com no máximo {@code limite} entidades {@link Contato}.
+     * @see ContatoRepository#findByTenantIdAndIdGreaterThanOrderByIdAsc(String, Long, Limit)
+     */
+    @Timed(value = METRICA, extraTags = {"operacao", "buscarTodos"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
+    public List<Contato> buscarTodos(Long aposId, int limite) {
+        long inicio = aposId == null ? 0L : aposId;
+        return contatoRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(TenantContext.atual(), inicio, Limit.of(limite));
+    }
+
+    /**
+     * Pesquisa contatos por um dos critérios informados, sempre por meio de consultas indexadas.
+     * <p>
+     * Apenas um critério é aplicado, na seguinte ordem de prioridade: {@code email} (exato, sem diferenciar maiúsculas),
+     * {@code telefone} (exato) e {@code nome} (prefixo). Os demais são ignorados.
+     * </p>
+     *
+     * @param nome     Prefixo do nome procurado, ou {@code null}.
+     * @param email    E-mail exato procurado, ou {@code null}.
+     * @param telefone Telefone exato procurado, ou {@code null}.
+     * @param limite   Quantidade máxima de contatos a retornar.
+     * @return Uma {@link java.util.List} com os contatos encontrados.
+     * @throws RequisicaoInvalidaException Se nenhum critério for informado.
+     * @see ContatoRepository#findByTenantIdAndEmailNormalizado(String, String, Limit)
+     * @see ContatoRepository#findByTenantIdAndTelefone(String, String, Limit)
+     * @see ContatoRepository#findByTenantIdAndNomeStartingWithOrderByNomeAsc(String, String, Limit)
+     */
+    @Timed(value = METRICA, extraTags = {"operacao", "pesquisar"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
+    public List<Contato> pesquisar(String nome, String email, String telefone, int limite) {
+        if (email != null && !email.isBlank()) {
+            return contatoRepository.findByTenantIdAndEmailNormalizado(TenantContext.atual(), Contato.normalizarEmail(email),
+                    Limit.of(limite));
+        }
+        if (telefone != null && !telefone.isBlank()) {
+            return contatoRepository.findByTenantIdAndTelefone(TenantContext.atual(), telefone, Limit.of(limite));
+        }
+        if (nome != null && !nome.isBlank()) {
+            return contatoRepository.findByTenantIdAndNomeStartingWithOrderByNomeAsc(TenantContext.atual(), nome, Limit.of(limite));
+        }
+        throw new RequisicaoInvalidaException("Informe ao menos um critério de pesquisa: nome, email ou telefone");
     }
 
     /**
-     * Retorna uma lista contendo todos os {@link Contato}s cadastrados no banco de dados.
+     * Sugere contatos cujo nome contém o termo digitado, para o autocompletar da interface.
      * <p>
-     * A lista pode estar vazia se não houver contatos registrados.
+     * A pesquisa é atendida pelo {@link ContatoNomeIndex} em memória, sem acesso ao banco de dados.
      * </p>
      *
-     * @return Uma {@link java.util.List} de entidades {@link Contato}.
-     * @see ContatoRepository#findAll()
+     * @param termo  Texto digitado pelo usuário.
+     * @param limite Quantidade máxima de sugestões.
+     * @return As sugestões encontradas, com nomes iniciados pelo termo primeiro.
+     * @see ContatoNomeIndex#buscar(String, String, int)
      */
-    public List<Contato> buscarTodos() {
-        return contatoRepository.findAll();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ContatoSugestaoResponseDTO> autocompletar(String termo, int limite) {
+        return nomeIndex.buscar(TenantContext.atual(), termo, limite);
+    }
+
+    /**
+     * Percorre todos os {@link Contato}s cadastrados, entregando um de cada vez ao {@code consumidor}.
+     * <p>
+     * A leitura é feita por um {@link Stream} do repositório dentro de uma transação somente leitura.
+     * Cada entidade é desanexada do contexto de persistência logo após ser consumida, de modo que
+     * o uso de memória permanece constante independentemente do tamanho da tabela.
+     * </p>
+     *
+     * @param consumidor Função que recebe cada contato, por exemplo para escrevê-lo na resposta HTTP.
+     * @see ContatoRepository#streamTodos(String)
+     */
+    public void exportar(Consumer<Contato> consumidor) {
+        try (Stream<Contato> contatos = contatoRepository.streamTodos(TenantContext.atual())) {
+            contatos.forEach(contato -> {
+                consumidor.accept(contato);
+                entityManager.detach(contato);
+            });
+        }
     }
 
     /**
      * Atualiza as informações de um {@link Contato} existente com base no ID fornecido.
      * <p>
-     * O método primeiro tenta localizar o contato pelo {@code id}. Se encontrado,
-     * ele atualiza as propriedades de nome, e-mail e telefone com os dados do {@code contatoAtualizado}
-     * e persiste as alterações.
+     * Nome, e-mail e telefone são substituídos com um único {@code UPDATE}, sem buscar o contato antes,
+     * e a versão do contato é incrementada. Se {@code versaoEsperada} for informada, o contato só é alterado
+     * se ainda estiver nessa versão. A entrada do cache {@value CacheConfig#CONTATOS} é removida.
      * </p>
      *
      * @param id                O {@link Long} identificador único do contato a ser atualizado.
      * @param contatoAtualizado A entidade {@link Contato} contendo os novos dados (nome, email, telefone)
      *                          que serão aplicados ao contato existente.
-     * @return A entidade {@link Contato} com os dados atualizados.
+     * @param versaoEsperada    A versão que o cliente leu ({@code If-Match}), ou {@code null} para aceitar qualquer versão.
+     * @return A entidade {@link Contato} com os dados atualizados e a nova versão. Sem {@code versaoEsperada}, a versão
+     * é relida na mesma transação, em que a linha alterada continua bloqueada para outras escritas.
      * @throws ContatoNaoEncontradoException Se nenhum contato for encontrado com o {@code id} fornecido.
-     * @see ContatoRepository#findById(Object)
-     * @see ContatoRepository#save(Object)
+     * @throws VersaoConflitanteException    Se o contato existir, mas não estiver na versão esperada.
+     * @see ContatoRepository#atualizar(String, Long, Long, String, String, String)
      */
-    public Contato atualizar(Long id, Contato contatoAtualizado) {
-        return contatoRepository.findById(id)
-                .map(contato -> {
-                    contato.setNome(contatoAtualizado.getNome());
-                    contato.setEmail(contatoAtualizado.getEmail());
-                    contato.setTelefone(contatoAtualizado.getTelefone());
-                    return contatoRepository.save(contato);
-                })
-                .orElseThrow(() -> new ContatoNaoEncontradoException(id));
+    @CacheEvict(cacheNames = CacheConfig.CONTATOS, key = CacheConfig.CHAVE_ID)
+    @Transactional
+    @Timed(value = METRICA, extraTags = {"operacao", "atualizar"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
+    public Contato atualizar(Long id, Contato contatoAtualizado, Long versaoEsperada) {
+        String tenant = TenantContext.atual();
+        int linhas = contatoRepository.atualizar(tenant, id, versaoEsperada, contatoAtualizado.getNome(),
+                contatoAtualizado.getEmail(), contatoAtualizado.getTelefone());
+        if (linhas == 0) {
+            throw naoAlterado(id, versaoEsperada);
+        }
+        contatoAtualizado.setId(id);
+        contatoAtualizado.setTenantId(tenant);
+        contatoAtualizado.setVersao(versaoEsperada != null ? versaoEsperada + 1 : contatoRepository.versaoAtual(tenant, id));
+        eventPublisher.publishEvent(ContatoAlteradoEvent.atualizado(contatoAtualizado));
+        return contatoAtualizado;
+    }
+
+    /**
+     * Altera apenas os campos informados de um {@link Contato} existente.
+     * <p>
+     * Os campos {@code null} de {@code alteracoes} mantêm o valor atual. A alteração é feita com um único
+     * {@code UPDATE}; o contato é relido em seguida para devolver o estado completo, e a entrada do cache
+     * {@value CacheConfig#CONTATOS} é removida.
+     * </p>
+     *
+     * @param id             O ID do contato.
+     * @param alteracoes     Os campos a alterar; os demais devem ser {@code null}.
+     * @param versaoEsperada A versão que o cliente leu ({@code If-Match}), ou {@code null} para aceitar qualquer versão.
+     * @return O contato com os dados atualizados.
+     * @throws ContatoNaoEncontradoException Se nenhum contato for encontrado com o {@code id} fornecido.
+     * @throws VersaoConflitanteException    Se o contato existir, mas não estiver na versão esperada.
+     * @see ContatoRepository#atualizarParcial(String, Long, Long, String, String, String)
+     */
+    @CacheEvict(cacheNames = CacheConfig.CONTATOS, key = CacheConfig.CHAVE_ID)
+    @Transactional
+    @Timed(value = METRICA, extraTags = {"operacao", "atualizarParcial"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
+    public Contato atualizarParcial(Long id, Contato alteracoes, Long versaoEsperada) {
+        String tenant = TenantContext.atual();
+        int linhas = contatoRepository.atualizarParcial(tenant, id, versaoEsperada, alteracoes.getNome(),
+                alteracoes.getEmail(), alteracoes.getTelefone());
+        if (linhas == 0) {
+            throw naoAlterado(id, versaoEsperada);
+        }
+        Contato atualizado = contatoRepository.findByTenantIdAndId(tenant, id).orElseThrow(() -> new ContatoNaoEncontradoException(id));
+        eventPublisher.publishEvent(ContatoAlteradoEvent.atualizado(atualizado));
+        return atualizado;
     }
 
     /**
      * Exclui um {@link Contato} do banco de dados com base no seu identificador único.
      * <p>
-     * Antes de tentar a exclusão, o método verifica a existência do contato pelo ID.
-     * Se o contato não for encontrado, uma {@link ContatoNaoEncontradoException} é lançada.
-     * Caso contrário, o contato é removido permanentemente.
+     * A exclusão é feita com um único {@code DELETE}; se nenhuma linha for removida, o contato não existe
+     * (ou não está na versão esperada) e a exceção correspondente é lançada. Caso contrário, o contato é
+     * retirado do cache {@value CacheConfig#CONTATOS}.
      * </p>
      *
-     * @param id O {@link Long} identificador único do contato a ser excluído.
+     * @param id             O {@link Long} identificador único do contato a ser excluído.
+     * @param versaoEsperada A versão que o cliente leu ({@code If-Match}), ou {@code null} para aceitar qualquer versão.
      * @throws ContatoNaoEncontradoException Se nenhum contato for encontrado com o {@code id} fornecido.
-     * @see ContatoRepository#existsById(Object)
-     * @see ContatoRepository#deleteById(Object)
+     * @throws VersaoConflitanteException    Se o contato existir, mas não estiver na versão esperada.
+     * @see ContatoRepository#excluirPorId(String, Long, Long)
+     */
+    @CacheEvict(cacheNames = CacheConfig.CONTATOS, key = CacheConfig.CHAVE_ID)
+    @Transactional
+    @Timed(value = METRICA, extraTags = {"operacao", "excluir"}, percentiles = {0.5, 0.95, 0.99}, histogram = true)
+    public void excluir(Long id, Long versaoEsperada) {
+        String tenant = TenantContext.atual();
+        if (contatoRepository.excluirPorId(tenant, id, versaoEsperada) == 0) {
+            throw naoAlterado(id, versaoEsperada);
+        }
+        eventPublisher.publishEvent(ContatoAlteradoEvent.excluido(tenant, id));
+    }
+
+    /**
+     * Distingue, depois de uma alteração que não afetou nenhuma linha, entre contato inexistente e versão
+     * desatualizada. A consulta extra só acontece no caminho de falha de uma alteração condicional.
      */
-    public void excluir(Long id) {
-        if (!contatoRepository.existsById(id)) {
-            throw new ContatoNaoEncontradoException(id);
+    private RuntimeException naoAlterado(Long id, Long versaoEsperada) {
+        if (versaoEsperada != null && contatoRepository.existsByTenantIdAndId(TenantContext.atual(), id)) {
+            return new VersaoConflitanteException(id);
         }
-        contatoRepository.deleteById(id);
+        return new ContatoNaoEncontradoException(id);
     }
 }
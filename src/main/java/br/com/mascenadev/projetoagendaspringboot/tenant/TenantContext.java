@@ -0,0 +1,115 @@
+package br.com.mascenadev.projetoagendaspringboot.tenant;
+
+import br.com.mascenadev.projetoagendaspringboot.exception.RequisicaoInvalidaException;
+
+import java.util.regex.Pattern;
+
+/**
+ * Guarda o **tenant** (conta de cliente) da requisição em andamento, na thread que a processa.
+ * <p>
+ * Cada conta tem a sua própria agenda: o tenant é informado no cabeçalho {@value #HEADER}, definido pelo
+ * {@link TenantInterceptor} no início da requisição e lido pelo
+ * {@link br.com.mascenadev.projetoagendaspringboot.service.ContatoService}, que o repassa a todas as consultas.
+ * Requisições sem o cabeçalho usam o tenant {@value #PADRAO}, mantendo a compatibilidade com clientes de
+ * agenda única.
+ * </p>
+ * <p>
+ * Trabalhos executados em outra thread (como a exportação em streaming) devem capturar o tenant antes e
+ * restaurá-lo com {@link #executar(String, Runnable)}.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see TenantInterceptor
+ * @since 1.1.0
+ */
+public final class TenantContext {
+
+    /**
+     * Cabeçalho HTTP que identifica o tenant.
+     */
+    public static final String HEADER = "X-Tenant-ID";
+
+    /**
+     * Tenant usado quando nenhum é informado.
+     */
+    public static final String PADRAO = "default";
+
+    private static final Pattern FORMATO = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private static final ThreadLocal<String> ATUAL = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * @return O tenant da thread atual, ou {@value #PADRAO} se nenhum tiver sido definido.
+     */
+    public static String atual() {
+        String tenant = ATUAL.get();
+        return tenant != null ? tenant : PADRAO;
+    }
+
+    /**
+     * Define o tenant da thread atual.
+     *
+     * @param tenant O identificador do tenant, já validado por {@link #validar(String)}.
+     */
+    public static void definir(String tenant) {
+        ATUAL.set(tenant);
+    }
+
+    /**
+     * Remove o tenant da thread atual.
+     */
+    public static void limpar() {
+        ATUAL.remove();
+    }
+
+    /**
+     * Executa uma tarefa com o tenant informado, restaurando o anterior ao final.
+     *
+     * @param tenant O tenant a usar durante a tarefa.
+     * @param tarefa A tarefa.
+     */
+    public static void executar(String tenant, Runnable tarefa) {
+        String anterior = ATUAL.get();
+        ATUAL.set(tenant);
+        try {
+            tarefa.run();
+        } finally {
+            if (anterior != null) {
+                ATUAL.set(anterior);
+            } else {
+                ATUAL.remove();
+            }
+        }
+    }
+
+    /**
+     * Valida o identificador recebido do cliente.
+     *
+     * @param tenant O valor do cabeçalho {@value #HEADER}; {@code null} ou vazio resulta em {@value #PADRAO}.
+     * @return O tenant a usar.
+     * @throws RequisicaoInvalidaException Se o identificador tiver caracteres não permitidos ou mais de 64 caracteres.
+     */
+    public static String validar(String tenant) {
+        if (tenant == null || tenant.isEmpty()) {
+            return PADRAO;
+        }
+        if (!FORMATO.matcher(tenant).matches()) {
+            throw new RequisicaoInvalidaException("Cabeçalho " + HEADER + " inválido");
+        }
+        return tenant;
+    }
+
+    /**
+     * Monta a chave de cache de um contato, prefixada pelo tenant atual, para que tenants diferentes nunca
+     * compartilhem entradas.
+     *
+     * @param id O ID do contato.
+     * @return A chave {@code tenant:id}.
+     */
+    public static String chave(Object id) {
+        return atual() + ":" + id;
+    }
+}
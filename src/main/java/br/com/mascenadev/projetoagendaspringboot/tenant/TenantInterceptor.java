@@ -0,0 +1,37 @@
+package br.com.mascenadev.projetoagendaspringboot.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Interceptador que define o {@link TenantContext} a partir do cabeçalho {@value TenantContext#HEADER}
+ * e o remove ao final da requisição.
+ * <p>
+ * Um identificador inválido resulta em HTTP 400, pelo
+ * {@link br.com.mascenadev.projetoagendaspringboot.exception.GlobalExceptionHandler}. Em requisições assíncronas,
+ * o tenant é removido da thread do contêiner assim que o processamento assíncrono começa.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see br.com.mascenadev.projetoagendaspringboot.config.TenantConfig
+ * @since 1.1.0
+ */
+public class TenantInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TenantContext.definir(TenantContext.validar(request.getHeader(TenantContext.HEADER)));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TenantContext.limpar();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TenantContext.limpar();
+    }
+}
@@ -0,0 +1,248 @@
+package br.com.mascenadev.projetoagendaspringboot.validation;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPatchDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * **Validador dedicado** dos campos de um contato ({@link ContatoRequestDTO} e {@link ContatoPatchDTO}).
+ * <p>
+ * Aplica as mesmas regras e mensagens declaradas nas anotações dos DTOs ({@code @NotBlank}, {@code @Size},
+ * {@code @Email} e o {@code @Pattern} do telefone), mas com verificações escritas à mão: sem expressões regulares,
+ * sem metadados de Bean Validation e sem alocar objetos quando o contato é válido. Apenas um erro é registrado
+ * por campo, o primeiro encontrado, no mesmo formato de {@code MethodArgumentNotValidException} tratado pelo
+ * {@link br.com.mascenadev.projetoagendaspringboot.exception.GlobalExceptionHandler}.
+ * </p>
+ * <p>
+ * Registrado nos controladores com {@code @InitBinder} para os parâmetros {@code @Valid} dos dois DTOs, no lugar
+ * do validador Bean Validation; as anotações dos DTOs continuam documentando o contrato no OpenAPI. O e-mail segue
+ * as regras do {@code @Email} do Hibernate Validator, exceto por partes locais entre aspas e domínios na forma de
+ * endereço IP ({@code [192.168.0.1]}), que são rejeitados.
+ * </p>
+ *
+ * @author Gilberto Dev
+ * @see ContatoRequestDTO
+ * @see ContatoPatchDTO
+ * @since 1.1.0
+ */
+@Component
+public class ContatoValidator implements Validator {
+
+    public static final String NOME_OBRIGATORIO = "Nome é obrigatório";
+
+    public static final String NOME_TAMANHO = "Nome deve ter entre 3 e 100 caracteres";
+
+    public static final String EMAIL_OBRIGATORIO = "Email é obrigatório";
+
+    public static final String EMAIL_INVALIDO = "Email inválido";
+
+    public static final String TELEFONE_OBRIGATORIO = "Telefone é obrigatório";
+
+    public static final String TELEFONE_FORMATO = "Telefone deve estar no formato (XX) XXXXX-XXXX ou (XX) XXXX-XXXX";
+
+    private static final int NOME_MINIMO = 3;
+
+    private static final int NOME_MAXIMO = 100;
+
+    private static final int LOCAL_MAXIMO = 64;
+
+    private static final int DOMINIO_MAXIMO = 255;
+
+    private static final int ROTULO_MAXIMO = 63;
+
+    /**
+     * Caracteres, além de letras e dígitos, aceitos no e-mail (RFC 5322, {@code atext}); no domínio, como no
+     * Hibernate Validator, o hífen não pode iniciar nem terminar um rótulo.
+     */
+    private static final String ESPECIAIS_LOCAL = "!#$%&'*+/=?^_`{|}~-";
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return clazz == ContatoRequestDTO.class || clazz == ContatoPatchDTO.class;
+    }
+
+    /**
+     * Valida um {@link ContatoRequestDTO} (todos os campos obrigatórios) ou um {@link ContatoPatchDTO}
+     * (apenas os campos enviados; um nome enviado em branco é rejeitado, como no {@code POST}).
+     */
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (target instanceof ContatoRequestDTO request) {
+            rejeitar(errors, "nome", erroNome(request.getNome()));
+            rejeitar(errors, "email", erroEmail(request.getEmail()));
+            rejeitar(errors, "telefone", erroTelefone(request.getTelefone()));
+        } else if (target instanceof ContatoPatchDTO patch) {
+            if (patch.getNome() != null) {
+                rejeitar(errors, "nome", erroNome(patch.getNome()));
+            }
+            if (patch.getEmail() != null && !emailValido(patch.getEmail())) {
+                rejeitar(errors, "email", EMAIL_INVALIDO);
+            }
+            if (patch.getTelefone() != null && !telefoneValido(patch.getTelefone())) {
+                rejeitar(errors, "telefone", TELEFONE_FORMATO);
+            }
+        }
+    }
+
+    /**
+     * @param nome O nome informado.
+     * @return A mensagem de erro, ou {@code null} se o nome for válido.
+     */
+    public static String erroNome(String nome) {
+        if (branco(nome)) {
+            return NOME_OBRIGATORIO;
+        }
+        return tamanhoValido(nome) ? null : NOME_TAMANHO;
+    }
+
+    /**
+     * @param email O e-mail informado.
+     * @return A mensagem de erro, ou {@code null} se o e-mail for válido.
+     */
+    public static String erroEmail(String email) {
+        if (branco(email)) {
+            return EMAIL_OBRIGATORIO;
+        }
+        return emailValido(email) ? null : EMAIL_INVALIDO;
+    }
+
+    /**
+     * @param telefone O telefone informado.
+     * @return A mensagem de erro, ou {@code null} se o telefone estiver no formato {@code (XX) XXXXX-XXXX}
+     * ou {@code (XX) XXXX-XXXX}.
+     */
+    public static String erroTelefone(String telefone) {
+        if (branco(telefone)) {
+            return TELEFONE_OBRIGATORIO;
+        }
+        return telefoneValido(telefone) ? null : TELEFONE_FORMATO;
+    }
+
+    static boolean tamanhoValido(String nome) {
+        return nome.length() >= NOME_MINIMO && nome.length() <= NOME_MAXIMO;
+    }
+
+    /**
+     * Equivalente a {@code \(\d{2}\) \d{4,5}-\d{4}}, percorrendo a string uma única vez.
+     */
+    static boolean telefoneValido(String telefone) {
+        int tamanho = telefone.length();
+        if (tamanho != 14 && tamanho != 15) {
+            return false;
+        }
+        int hifen = tamanho - 5;
+        if (telefone.charAt(0) != '(' || telefone.charAt(3) != ')' || telefone.charAt(4) != ' '
+            || telefone.charAt(hifen) != '-') {
+            return false;
+        }
+        for (int i = 1; i < tamanho; i++) {
+            if (i != 3 && i != 4 && i != hifen && !digito(telefone.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica {@code local@dominio}: a parte local é uma sequência de átomos separados por pontos, e o domínio
+     * uma sequência de rótulos de até 63 caracteres, sem hífen nas pontas, separados por pontos.
+     */
+    static boolean emailValido(String email) {
+        int arroba = email.lastIndexOf('@');
+        if (arroba <= 0 || arroba > LOCAL_MAXIMO || arroba == email.length() - 1
+            || email.length() - arroba - 1 > DOMINIO_MAXIMO) {
+            return false;
+        }
+        return localValido(email, arroba) && dominioValido(email, arroba + 1);
+    }
+
+    private static boolean localValido(String email, int fim) {
+        char anterior = '.';
+        for (int i = 0; i < fim; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (anterior == '.') {
+                    return false;
+                }
+            } else if (!letraOuDigito(c) && ESPECIAIS_LOCAL.indexOf(c) < 0) {
+                return false;
+            }
+            anterior = c;
+        }
+        return anterior != '.';
+    }
+
+    private static boolean dominioValido(String email, int inicio) {
+        int rotulo = 0;
+        char anterior = '.';
+        for (int i = inicio; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (rotulo == 0 || anterior == '-') {
+                    return false;
+                }
+                rotulo = 0;
+            } else if (c == '-') {
+                if (rotulo == 0) {
+                    return false;
+                }
+                rotulo++;
+            } else if (letraOuDigito(c) || ESPECIAIS_LOCAL.indexOf(c) >= 0) {
+                rotulo++;
+            } else {
+                return false;
+            }
+            if (rotulo > ROTULO_MAXIMO) {
+                return false;
+            }
+            anterior = c;
+        }
+        return rotulo > 0 && anterior != '-';
+    }
+
+    /**
+     * Equivalente ao {@code @NotBlank}: {@code null}, vazio ou apenas caracteres removidos por {@link String#trim()}.
+     */
+    private static boolean branco(String valor) {
+        if (valor == null) {
+            return true;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            if (valor.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean digito(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Letras e dígitos ASCII e qualquer caractere não ASCII (e-mails internacionalizados).
+     */
+    private static boolean letraOuDigito(char c) {
+        return digito(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c >= 0x80;
+    }
+
+    /**
+     * Registra o erro no campo, com o código da restrição equivalente do Bean Validation.
+     */
+    private static void rejeitar(Errors errors, String campo, String mensagem) {
+        if (mensagem != null) {
+            errors.rejectValue(campo, codigo(mensagem), mensagem);
+        }
+    }
+
+    private static String codigo(String mensagem) {
+        return switch (mensagem) {
+            case NOME_OBRIGATORIO, EMAIL_OBRIGATORIO, TELEFONE_OBRIGATORIO -> "NotBlank";
+            case NOME_TAMANHO -> "Size";
+            case EMAIL_INVALIDO -> "Email";
+            default -> "Pattern";
+        };
+    }
+}
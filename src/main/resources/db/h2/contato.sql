@@ -0,0 +1,22 @@
+-- Esquema da tabela contato para o H2 em memória do perfil "reactive".
+--
+-- Fora desse perfil o esquema é criado pelo Hibernate (ddl-auto); aqui ele é equivalente ao gerado a partir
+-- da entidade Contato: mesma sequência (incremento 50, como o allocationSize), restrição de e-mail único por
+-- tenant e índices começando pelo tenant. Executado pelo spring.sql.init apenas em bancos embarcados.
+
+CREATE SEQUENCE IF NOT EXISTS contato_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS contato (
+    id                BIGINT       NOT NULL PRIMARY KEY,
+    tenant_id         VARCHAR(64)  NOT NULL,
+    nome              VARCHAR(255) NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    email_normalizado VARCHAR(255) NOT NULL,
+    telefone          VARCHAR(255) NOT NULL,
+    versao            BIGINT,
+    CONSTRAINT uk_contato_tenant_email UNIQUE (tenant_id, email_normalizado)
+);
+
+CREATE INDEX IF NOT EXISTS idx_contato_tenant_id ON contato (tenant_id, id);
+CREATE INDEX IF NOT EXISTS idx_contato_tenant_nome ON contato (tenant_id, nome);
+CREATE INDEX IF NOT EXISTS idx_contato_tenant_telefone ON contato (tenant_id, telefone);
@@ -0,0 +1,27 @@
+-- Migração para o e-mail único por tenant (PostgreSQL).
+--
+-- A entidade Contato passa a ter a coluna email_normalizado (e-mail sem espaços nas pontas e em
+-- minúsculas) e a restrição uk_contato_tenant_email sobre (tenant_id, email_normalizado). O ddl-auto
+-- "update" não consegue criá-las em uma tabela com linhas, por isso esta migração deve rodar antes
+-- de subir a nova versão.
+--
+--   psql -d agenda -f email-normalizado-contato.sql
+
+ALTER TABLE contato ADD COLUMN IF NOT EXISTS email_normalizado varchar(255);
+
+UPDATE contato SET email_normalizado = lower(trim(email)) WHERE email_normalizado IS NULL;
+
+-- Duplicados existentes impedem a criação da restrição. Esta consulta lista os e-mails repetidos de cada
+-- tenant; os contatos excedentes devem ser mesclados ou removidos antes de continuar.
+--
+-- SELECT tenant_id, email_normalizado, array_agg(id ORDER BY id) AS ids
+-- FROM contato GROUP BY tenant_id, email_normalizado HAVING count(*) > 1;
+
+ALTER TABLE contato ALTER COLUMN email_normalizado SET NOT NULL;
+
+-- O índice é criado sem bloquear escritas e depois promovido a restrição. É ele que atende à busca
+-- por e-mail e ao INSERT ... ON CONFLICT (tenant_id, email_normalizado) do upsert em lote.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_contato_tenant_email ON contato (tenant_id, email_normalizado);
+ALTER TABLE contato ADD CONSTRAINT uk_contato_tenant_email UNIQUE USING INDEX uk_contato_tenant_email;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_contato_tenant_email;
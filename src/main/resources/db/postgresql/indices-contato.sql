@@ -0,0 +1,14 @@
+-- Índices complementares para PostgreSQL.
+--
+-- O índice idx_contato_tenant_nome, criado a partir de @Table(indexes = ...) na entidade Contato,
+-- só atende a "tenant_id = ? AND nome LIKE 'prefixo%'" quando o banco usa a collation "C". Para as
+-- demais collations, o índice de prefixo precisa da classe de operadores varchar_pattern_ops.
+--
+-- Execute uma vez em produção (CONCURRENTLY evita bloquear a tabela durante a criação):
+--   psql -d agenda -f indices-contato.sql
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contato_tenant_nome_prefixo
+    ON contato (tenant_id, nome varchar_pattern_ops);
+
+-- Substituído pelo índice acima, que começa pelo tenant.
+DROP INDEX CONCURRENTLY IF EXISTS idx_contato_nome_prefixo;
@@ -0,0 +1,48 @@
+-- Migração da tabela contato para o modelo com tenant (PostgreSQL).
+--
+-- Bancos criados antes da coluna tenant_id precisam desta migração antes de subir a nova versão:
+-- o ddl-auto "update" não consegue adicionar uma coluna NOT NULL sem valor padrão a uma tabela
+-- com linhas. Os contatos existentes passam a pertencer ao tenant "default", o mesmo usado pelas
+-- requisições sem o cabeçalho X-Tenant-ID.
+--
+--   psql -d agenda -f tenant-contato.sql
+
+ALTER TABLE contato ADD COLUMN IF NOT EXISTS tenant_id varchar(64) NOT NULL DEFAULT 'default';
+ALTER TABLE contato_outbox ADD COLUMN IF NOT EXISTS tenant_id varchar(64) NOT NULL DEFAULT 'default';
+
+-- Índices compostos começando pelo tenant (os mesmos declarados na entidade Contato).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contato_tenant_id ON contato (tenant_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contato_tenant_nome ON contato (tenant_id, nome);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contato_tenant_email ON contato (tenant_id, email);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_contato_tenant_telefone ON contato (tenant_id, telefone);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_contato_nome;
+DROP INDEX CONCURRENTLY IF EXISTS idx_contato_email;
+DROP INDEX CONCURRENTLY IF EXISTS idx_contato_telefone;
+
+-- Particionamento opcional, para agendas com muitos tenants grandes.
+--
+-- Com a tabela particionada por HASH do tenant, cada consulta (que sempre filtra por tenant_id)
+-- toca uma única partição, e os índices de cada partição ficam proporcionalmente menores.
+-- A chave primária de uma tabela particionada precisa incluir a coluna de partição; o ID continua
+-- vindo da sequência contato_seq e permanece único entre os tenants.
+--
+-- CREATE TABLE contato_particionada (
+--     id        bigint       NOT NULL DEFAULT nextval('contato_seq'),
+--     tenant_id varchar(64)  NOT NULL,
+--     nome      varchar(255) NOT NULL,
+--     email     varchar(255) NOT NULL,
+--     email_normalizado varchar(255) NOT NULL,
+--     telefone  varchar(255) NOT NULL,
+--     versao    bigint,
+--     PRIMARY KEY (tenant_id, id),
+--     CONSTRAINT uk_contato_tenant_email UNIQUE (tenant_id, email_normalizado)
+-- ) PARTITION BY HASH (tenant_id);
+--
+-- CREATE TABLE contato_p0 PARTITION OF contato_particionada FOR VALUES WITH (MODULUS 4, REMAINDER 0);
+-- CREATE TABLE contato_p1 PARTITION OF contato_particionada FOR VALUES WITH (MODULUS 4, REMAINDER 1);
+-- CREATE TABLE contato_p2 PARTITION OF contato_particionada FOR VALUES WITH (MODULUS 4, REMAINDER 2);
+-- CREATE TABLE contato_p3 PARTITION OF contato_particionada FOR VALUES WITH (MODULUS 4, REMAINDER 3);
+--
+-- Tenants muito maiores que os demais podem ter uma partição própria com PARTITION BY LIST (tenant_id),
+-- deixando os restantes em uma partição DEFAULT.
@@ -0,0 +1,126 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteracoesFeed;
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * Verifica que um assinante de {@code GET /contatos/changes} que para de ler é desconectado quando a sua fila
+ * enche, sem atrasar os demais assinantes.
+ * <p>
+ * Usa um servidor real, para que o envio ao assinante lento de fato bloqueie no socket, e publica diretamente no
+ * {@link ContatoAlteracoesFeed} eventos grandes o bastante para encher os buffers de rede.
+ * </p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:alteracoeslentodb",
+        "agenda.changes.pendentes-por-assinante=200"
+})
+class ContatoAlteracoesAssinanteLentoIntegrationTest {
+
+    private static final String TENANT = "feed-lento";
+
+    private static final Duration ESPERA = Duration.ofSeconds(30);
+
+    private static final long ULTIMO = 1_000_000;
+
+    /**
+     * O primeiro {@code id} do JSON da alteração é o do contato.
+     */
+    private static final Pattern ID_DO_CONTATO = Pattern.compile("\"id\":(\\d+)");
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ContatoAlteracoesFeed feed;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void assinanteQueNaoLeEDesconectadoSemAtrasarOsDemais() throws Exception {
+        try (Socket lento = new Socket()) {
+            lento.setReceiveBufferSize(4096);
+            lento.connect(new InetSocketAddress("localhost", porta));
+            OutputStream saida = lento.getOutputStream();
+            saida.write(("GET /contatos/changes HTTP/1.1\r\nHost: localhost\r\n" + TenantContext.HEADER + ": " + TENANT
+                    + "\r\nAccept: " + MediaType.TEXT_EVENT_STREAM_VALUE + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            saida.flush();
+
+            AtomicLong ultimoRecebido = new AtomicLong();
+            CompletableFuture<HttpResponse<Stream<String>>> rapido = HttpClient.newHttpClient().sendAsync(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/contatos/changes"))
+                            .header(TenantContext.HEADER, TENANT)
+                            .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                            .GET().build(),
+                    HttpResponse.BodyHandlers.ofLines());
+            rapido.thenAccept(resposta -> resposta.body().forEach(linha -> {
+                Matcher id = ID_DO_CONTATO.matcher(linha);
+                if (linha.startsWith("data:") && id.find()) {
+                    ultimoRecebido.set(Long.parseLong(id.group(1)));
+                }
+            }));
+            await().atMost(ESPERA).until(() -> assinantes() == 2);
+
+            // A publicação não pode esperar pelo envio bloqueado ao assinante lento.
+            String nome = "x".repeat(8 * 1024);
+            assertTimeout(ESPERA, () -> {
+                for (long id = 1; id <= 4000 && desconectados() == 0; id++) {
+                    publicar(id, nome);
+                    if (id % 50 == 0) {
+                        long publicado = id;
+                        await().atMost(ESPERA).until(() -> ultimoRecebido.get() == publicado);
+                    }
+                }
+            });
+
+            assertThat(desconectados()).isEqualTo(1);
+            assertThat(assinantes()).isEqualTo(1);
+            publicar(ULTIMO, "Contato Final");
+            await().atMost(ESPERA).until(() -> ultimoRecebido.get() == ULTIMO);
+        }
+    }
+
+    private void publicar(long id, String nome) {
+        Contato contato = new Contato(nome, "lento" + id + "@email.com", "(11) 98888-7777");
+        contato.setId(id);
+        contato.setTenantId(TENANT);
+        feed.publicar(ContatoAlteradoEvent.atualizado(contato));
+    }
+
+    private double assinantes() {
+        return registry.get("agenda.contato.changes.assinantes").gauge().value();
+    }
+
+    private double desconectados() {
+        return registry.get("agenda.contato.changes.desconectados").counter().count();
+    }
+}
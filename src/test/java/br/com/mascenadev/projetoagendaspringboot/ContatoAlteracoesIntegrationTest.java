@@ -0,0 +1,91 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica o feed {@code GET /contatos/changes}: reenvio pelo {@code Last-Event-ID}, evento {@code reset}
+ * e isolamento entre tenants.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoAlteracoesIntegrationTest {
+
+    private static final Pattern ID_DO_RESET = Pattern.compile("id:(\\d+)\\nevent:reset");
+
+    private static final Duration ESPERA = Duration.ofSeconds(5);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void reconexaoRecebeOsEventosPerdidosDoProprioTenant() throws Exception {
+        long ultimoId = sequenciaAtual();
+        criar("alteracoes-a", "Ana Feed", "ana.feed@email.com");
+        criar("alteracoes-b", "Bia Feed", "bia.feed@email.com");
+
+        MockHttpServletResponse resposta = assinar("alteracoes-a", ultimoId);
+        await().atMost(ESPERA).until(() -> resposta.getContentAsString().contains("ana.feed@email.com"));
+        assertThat(resposta.getContentAsString())
+                .contains("event:contato", "\"tipo\":\"CRIADO\"")
+                .doesNotContain("bia.feed@email.com");
+
+        criar("alteracoes-a", "Caio Feed", "caio.feed@email.com");
+        criar("alteracoes-b", "Davi Feed", "davi.feed@email.com");
+        await().atMost(ESPERA).until(() -> resposta.getContentAsString().contains("caio.feed@email.com"));
+        assertThat(resposta.getContentAsString()).doesNotContain("davi.feed@email.com");
+    }
+
+    @Test
+    void idDesconhecidoRecebeReset() throws Exception {
+        MockHttpServletResponse resposta = assinar("alteracoes-reset", Long.MAX_VALUE);
+        await().atMost(ESPERA).until(() -> ID_DO_RESET.matcher(resposta.getContentAsString()).find());
+        assertThat(resposta.getContentAsString()).doesNotContain("event:contato");
+    }
+
+    /**
+     * Obtém a sequência atual do feed pelo {@code id} do evento {@code reset} enviado a um {@code Last-Event-ID}
+     * posterior a ela.
+     */
+    private long sequenciaAtual() throws Exception {
+        MockHttpServletResponse resposta = assinar("alteracoes-sequencia", Long.MAX_VALUE);
+        await().atMost(ESPERA).until(() -> ID_DO_RESET.matcher(resposta.getContentAsString()).find());
+        Matcher reset = ID_DO_RESET.matcher(resposta.getContentAsString());
+        assertThat(reset.find()).isTrue();
+        return Long.parseLong(reset.group(1));
+    }
+
+    private MockHttpServletResponse assinar(String tenant, long ultimoId) throws Exception {
+        return mockMvc.perform(comTenant(get("/contatos/changes"), tenant).header("Last-Event-ID", ultimoId))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private void criar(String tenant, String nome, String email) throws Exception {
+        mockMvc.perform(comTenant(post("/contatos"), tenant).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private static MockHttpServletRequestBuilder comTenant(MockHttpServletRequestBuilder requisicao, String tenant) {
+        return requisicao.header(TenantContext.HEADER, tenant);
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.config.CacheConfig;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que as escritas removem a entrada do cache {@value CacheConfig#CONTATOS}, de modo que uma
+ * leitura por ID nunca devolve um contato desatualizado.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void atualizacaoRemoveAEntradaDoCache() throws Exception {
+        String location = criar("Ana Cache", "ana.cache@email.com");
+        mockMvc.perform(get(location)).andExpect(jsonPath("$.nome").value("Ana Cache"));
+        assertThat(emCache(location)).isNotNull();
+
+        mockMvc.perform(put(location).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Ana Cache Nova", "ana.cache@email.com")))
+                .andExpect(status().isOk());
+
+        assertThat(emCache(location)).isNull();
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Ana Cache Nova"));
+    }
+
+    @Test
+    void atualizacaoParcialRemoveAEntradaDoCache() throws Exception {
+        String location = criar("Caio Cache", "caio.cache@email.com");
+        mockMvc.perform(get(location)).andExpect(jsonPath("$.nome").value("Caio Cache"));
+        assertThat(emCache(location)).isNotNull();
+
+        mockMvc.perform(patch(location).contentType(MediaType.APPLICATION_JSON).content("{\"nome\":\"Caio Cache Novo\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(emCache(location)).isNull();
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Caio Cache Novo"));
+    }
+
+    @Test
+    void upsertEmLoteRemoveAEntradaDoCache() throws Exception {
+        String location = criar("Davi Cache", "davi.cache@email.com");
+        mockMvc.perform(get(location)).andExpect(jsonPath("$.nome").value("Davi Cache"));
+        assertThat(emCache(location)).isNotNull();
+
+        mockMvc.perform(put("/contatos/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + contato("Davi Cache Novo", "davi.cache@email.com") + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].status").value(200));
+
+        assertThat(emCache(location)).isNull();
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Davi Cache Novo"));
+    }
+
+    @Test
+    void exclusaoRemoveAEntradaDoCache() throws Exception {
+        String location = criar("Bia Cache", "bia.cache@email.com");
+        mockMvc.perform(get(location)).andExpect(status().isOk());
+        assertThat(emCache(location)).isNotNull();
+
+        mockMvc.perform(delete(location)).andExpect(status().isNoContent());
+
+        assertThat(emCache(location)).isNull();
+        mockMvc.perform(get(location)).andExpect(status().isNotFound());
+    }
+
+    private Contato emCache(String location) {
+        Cache cache = cacheManager.getCache(CacheConfig.CONTATOS);
+        assertThat(cache).isNotNull();
+        long id = Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+        return cache.get(TenantContext.chave(id), Contato.class);
+    }
+
+    private String criar(String nome, String email) throws Exception {
+        return mockMvc.perform(post("/contatos").contentType(MediaType.APPLICATION_JSON).content(contato(nome, email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+    }
+
+    private static String contato(String nome, String email) {
+        return "{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}";
+    }
+}
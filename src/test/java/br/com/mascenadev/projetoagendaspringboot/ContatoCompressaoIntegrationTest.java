@@ -0,0 +1,70 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.StringJoiner;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica a compressão gzip das respostas JSON pelo Tomcat ({@code server.compression}).
+ * <p>
+ * Usa um servidor real (a compressão não passa pelo MockMvc) e um banco próprio, para que o tamanho das respostas
+ * não dependa dos contatos criados por outros testes.
+ * </p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:compressaodb")
+class ContatoCompressaoIntegrationTest {
+
+    private final HttpClient cliente = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void comprimeAListagemQuandoOClienteAceitaGzip() throws Exception {
+        StringJoiner lote = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 40; i++) {
+            lote.add("{\"nome\":\"Contato Compressao " + i + "\",\"email\":\"compressao" + i
+                    + "@email.com\",\"telefone\":\"(11) 98888-7777\"}");
+        }
+        HttpResponse<String> criacao = cliente.send(requisicao("/contatos/batch")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(lote.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(criacao.statusCode()).isEqualTo(200);
+
+        HttpResponse<InputStream> listagem = cliente.send(requisicao("/contatos?limit=40").GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+        assertThat(listagem.statusCode()).isEqualTo(200);
+        assertThat(listagem.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (InputStream corpo = new GZIPInputStream(listagem.body())) {
+            JsonNode pagina = objectMapper.readTree(corpo);
+            assertThat(pagina.get("itens")).hasSize(40);
+        }
+    }
+
+    private HttpRequest.Builder requisicao(String caminho) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    }
+}
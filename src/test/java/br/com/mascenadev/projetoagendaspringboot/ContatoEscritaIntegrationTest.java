@@ -0,0 +1,82 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifica as escritas de um único comando: {@code PUT}, {@code PATCH} e {@code DELETE} de {@code /contatos/{id}}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoEscritaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void patchAlteraSomenteOsCamposEnviados() throws Exception {
+        String location = criar("Ana Lima", "ana.escrita@email.com");
+
+        mockMvc.perform(patch(location).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"telefone\":\"(21) 3333-4444\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Ana Lima"))
+                .andExpect(jsonPath("$.email").value("ana.escrita@email.com"))
+                .andExpect(jsonPath("$.telefone").value("(21) 3333-4444"));
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.telefone").value("(21) 3333-4444"));
+    }
+
+    @Test
+    void patchRejeitaCamposInvalidos() throws Exception {
+        String location = criar("Bia Reis", "bia.escrita@email.com");
+
+        mockMvc.perform(patch(location).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"   \",\"email\":\"invalido\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.erros.nome").exists())
+                .andExpect(jsonPath("$.erros.email").exists());
+    }
+
+    @Test
+    void putEPatchDeContatoInexistenteRespondemNaoEncontrado() throws Exception {
+        mockMvc.perform(put("/contatos/{id}", Long.MAX_VALUE).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Caio Dias", "caio.escrita@email.com")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/contatos/{id}", Long.MAX_VALUE).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Caio Dias\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteExcluiUmaVezERespondeNaoEncontradoDepois() throws Exception {
+        String location = criar("Davi Melo", "davi.escrita@email.com");
+
+        mockMvc.perform(delete(location)).andExpect(status().isNoContent());
+        mockMvc.perform(delete(location))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+        mockMvc.perform(get(location)).andExpect(status().isNotFound());
+    }
+
+    private String criar(String nome, String email) throws Exception {
+        return mockMvc.perform(post("/contatos").contentType(MediaType.APPLICATION_JSON)
+                        .content(contato(nome, email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+    }
+
+    private static String contato(String nome, String email) {
+        return "{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}";
+    }
+}
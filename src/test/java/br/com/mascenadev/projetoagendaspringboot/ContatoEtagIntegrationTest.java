@@ -0,0 +1,106 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifica as requisições condicionais de {@code /contatos/{id}}: ETag, {@code 304 Not Modified} e
+ * {@code 412 Precondition Failed}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoEtagIntegrationTest {
+
+    private static final String TENANT = "etag-teste";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getComAMesmaEtagRespondeNaoModificado() throws Exception {
+        String location = criar("ana.etag@email.com");
+        String etag = mockMvc.perform(comTenant(get(location)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(comTenant(get(location)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void putDevolveAEtagNovaComOuSemIfMatch() throws Exception {
+        String location = criar("bia.etag@email.com");
+
+        mockMvc.perform(comTenant(put(location)).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Bia Souza", "bia.etag@email.com")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(comTenant(put(location)).header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(contato("Bia Lima", "bia.etag@email.com")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+    }
+
+    @Test
+    void ifMatchDesatualizadoOuEstranhoRespondePreconditionFailedSemVersaoInterna() throws Exception {
+        String location = criar("caio.etag@email.com");
+
+        for (String ifMatch : new String[]{"\"5\"", "W/\"0\"", "\"pabc\""}) {
+            String corpo = mockMvc.perform(comTenant(put(location)).header(HttpHeaders.IF_MATCH, ifMatch)
+                            .contentType(MediaType.APPLICATION_JSON).content(contato("Caio Reis", "caio.etag@email.com")))
+                    .andExpect(status().isPreconditionFailed())
+                    .andReturn().getResponse().getContentAsString();
+            assertThat(corpo).doesNotContain("-1");
+        }
+    }
+
+    @Test
+    void ifMatchMalformadoOuComVariasEtagsRespondeBadRequest() throws Exception {
+        String location = criar("davi.etag@email.com");
+
+        for (String ifMatch : new String[]{"0", "\"0\", \"1\"", "\"0"}) {
+            mockMvc.perform(comTenant(patch(location)).header(HttpHeaders.IF_MATCH, ifMatch)
+                            .contentType(MediaType.APPLICATION_JSON).content("{\"telefone\":\"(11) 99999-0000\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private String criar(String email) throws Exception {
+        return mockMvc.perform(comTenant(post("/contatos")).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Contato Etag", email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+    }
+
+    private static MockHttpServletRequestBuilder comTenant(MockHttpServletRequestBuilder requisicao) {
+        return requisicao.header(TenantContext.HEADER, TENANT).with(endereco("10.0.13.1"));
+    }
+
+    /**
+     * Define o endereço remoto da requisição, que identifica o cliente no limite de requisições.
+     */
+    private static RequestPostProcessor endereco(String ip) {
+        return requisicao -> {
+            requisicao.setRemoteAddr(ip);
+            return requisicao;
+        };
+    }
+
+    private static String contato(String nome, String email) {
+        return "{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}";
+    }
+}
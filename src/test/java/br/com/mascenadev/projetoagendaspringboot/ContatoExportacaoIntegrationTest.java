@@ -0,0 +1,88 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica a exportação em streaming {@code GET /contatos/export}: um objeto JSON por linha, apenas com os contatos
+ * do tenant da requisição.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoExportacaoIntegrationTest {
+
+    private static final String TENANT = "exportacao-teste";
+
+    private static final String OUTRO_TENANT = "exportacao-outro";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void escreveUmContatoPorLinha() throws Exception {
+        criar(TENANT, "Ana Export", "ana.export@email.com");
+        criar(TENANT, "Bia Export", "bia.export@email.com");
+        criar(OUTRO_TENANT, "Caio Export", "caio.export@email.com");
+
+        List<JsonNode> linhas = exportar(TENANT);
+
+        assertThat(linhas).allSatisfy(linha -> {
+            assertThat(linha.isObject()).isTrue();
+            assertThat(linha.has("id")).isTrue();
+            assertThat(linha.has("nome")).isTrue();
+        });
+        assertThat(linhas).extracting(linha -> linha.get("id").asLong()).doesNotHaveDuplicates();
+        assertThat(linhas).extracting(linha -> linha.get("email").asText())
+                .containsExactlyInAnyOrder("ana.export@email.com", "bia.export@email.com");
+    }
+
+    private List<JsonNode> exportar(String tenant) throws Exception {
+        MvcResult exportacao = mockMvc.perform(comTenant(get("/contatos/export"), tenant))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String corpo = mockMvc.perform(asyncDispatch(exportacao))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(corpo).endsWith("\n");
+        List<JsonNode> linhas = new ArrayList<>();
+        for (String linha : corpo.split("\n")) {
+            linhas.add(objectMapper.readTree(linha));
+        }
+        return linhas;
+    }
+
+    private void criar(String tenant, String nome, String email) throws Exception {
+        mockMvc.perform(comTenant(post("/contatos"), tenant).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}"))
+                .andExpect(status().isCreated());
+    }
+
+    private static MockHttpServletRequestBuilder comTenant(MockHttpServletRequestBuilder requisicao, String tenant) {
+        return requisicao.header(TenantContext.HEADER, tenant);
+    }
+}
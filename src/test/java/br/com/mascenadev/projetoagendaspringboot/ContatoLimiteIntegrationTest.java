@@ -0,0 +1,118 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica o limite de requisições por cliente (429) e o descarte por concorrência (503) de {@code /contatos}.
+ * <p>
+ * O limite de requisições simultâneas é fixado em 1, e um endpoint de teste em {@code /contatos/teste-lento}
+ * mantém uma requisição em andamento até o teste liberá-la.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "agenda.limite.concorrencia.inicial=1",
+        "agenda.limite.concorrencia.minimo=1",
+        "agenda.limite.concorrencia.maximo=1"
+})
+@AutoConfigureMockMvc
+class ContatoLimiteIntegrationTest {
+
+    private static final CountDownLatch ENTROU = new CountDownLatch(1);
+
+    private static final CountDownLatch LIBERAR = new CountDownLatch(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void enderecoAcimaDaRajadaRecebe429ComRetryAfterSemAfetarOsDemais() throws Exception {
+        String lote = "[{\"nome\":\"Ana Limite\",\"email\":\"ana.limite@email.com\",\"telefone\":\"(11) 98888-7777\"}]";
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(comCliente(put("/contatos/batch"), "10.0.25.1")
+                            .contentType(MediaType.APPLICATION_JSON).content(lote))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(comCliente(put("/contatos/batch"), "10.0.25.1")
+                        .contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+
+        mockMvc.perform(comCliente(put("/contatos/batch"), "10.0.25.1").header("X-Client-Id", "outro-id")
+                        .contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(comCliente(put("/contatos/batch"), "10.0.25.2")
+                        .contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void requisicaoAcimaDoLimiteDeConcorrenciaRecebe503() throws Exception {
+        CompletableFuture<Integer> lenta = CompletableFuture.supplyAsync(() -> {
+            try {
+                return mockMvc.perform(comCliente(get("/contatos/teste-lento"), "10.0.25.3"))
+                        .andReturn().getResponse().getStatus();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        try {
+            assertThat(ENTROU.await(5, TimeUnit.SECONDS)).isTrue();
+
+            mockMvc.perform(comCliente(get("/contatos"), "10.0.25.4"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        } finally {
+            LIBERAR.countDown();
+        }
+
+        assertThat(lenta.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+        mockMvc.perform(comCliente(get("/contatos"), "10.0.25.4")).andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder comCliente(MockHttpServletRequestBuilder requisicao, String endereco) {
+        return requisicao.header(TenantContext.HEADER, "limite-teste").with(chamada -> {
+            chamada.setRemoteAddr(endereco);
+            return chamada;
+        });
+    }
+
+    /**
+     * Endpoint que permanece em andamento até {@link #LIBERAR}, ocupando a única permissão de concorrência.
+     */
+    @TestConfiguration
+    @RestController
+    static class EndpointLento {
+
+        @GetMapping("/contatos/teste-lento")
+        String aguardar() throws InterruptedException {
+            ENTROU.countDown();
+            LIBERAR.await(5, TimeUnit.SECONDS);
+            return "ok";
+        }
+    }
+}
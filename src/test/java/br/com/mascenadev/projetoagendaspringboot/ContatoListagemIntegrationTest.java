@@ -0,0 +1,114 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.controller.ContatoController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica a listagem {@code GET /contatos}: páginas por cursor, ETag da página e os formatos binários negociados
+ * pelo {@code Accept}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoListagemIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void percorreTodasAsPaginasPeloCursorSemRepetirContatos() throws Exception {
+        List<Long> criados = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            criados.add(criar("Contato Lista " + i, "lista" + i + "@email.com"));
+        }
+
+        List<Long> lidos = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder requisicao = get("/contatos").param("limit", "2");
+            if (cursor != null) {
+                requisicao.param("cursor", cursor);
+            }
+            JsonNode pagina = objectMapper.readTree(mockMvc.perform(requisicao)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray());
+            cursor = pagina.get("proximoCursor").isNull() ? null : pagina.get("proximoCursor").asText();
+            if (cursor != null) {
+                assertThat(pagina.get("itens")).hasSize(2);
+            }
+            pagina.get("itens").forEach(item -> lidos.add(item.get("id").asLong()));
+        } while (cursor != null);
+
+        assertThat(lidos).isSorted().doesNotHaveDuplicates().containsAll(criados);
+    }
+
+    @Test
+    void cursorInvalidoRespondeRequisicaoInvalida() throws Exception {
+        mockMvc.perform(get("/contatos").param("cursor", "nao-e-um-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void paginaInalteradaRespondeNaoModificado() throws Exception {
+        criar("Contato Etag Lista", "etag.lista@email.com");
+        MvcResult pagina = mockMvc.perform(get("/contatos"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(pagina.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        String etag = pagina.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/contatos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void negociaCborESmileComOMesmoConteudoDoJson() throws Exception {
+        criar("Contato Binario", "binario.lista@email.com");
+        JsonNode json = objectMapper.readTree(ler(MediaType.APPLICATION_JSON_VALUE).getResponse().getContentAsByteArray());
+
+        MvcResult cbor = ler(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(cbor.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(cbor.getResponse().getContentAsByteArray())).isEqualTo(json);
+
+        MvcResult smile = ler(ContatoController.APPLICATION_SMILE_VALUE);
+        assertThat(smile.getResponse().getContentType()).isEqualTo(ContatoController.APPLICATION_SMILE_VALUE);
+        assertThat(new ObjectMapper(new SmileFactory()).readTree(smile.getResponse().getContentAsByteArray())).isEqualTo(json);
+    }
+
+    private MvcResult ler(String formato) throws Exception {
+        return mockMvc.perform(get("/contatos").accept(formato))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private long criar(String nome, String email) throws Exception {
+        String location = mockMvc.perform(post("/contatos").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+}
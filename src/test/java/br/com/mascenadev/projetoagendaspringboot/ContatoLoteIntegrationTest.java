@@ -0,0 +1,139 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica os status por item e os totais de {@code POST /contatos/batch} e {@code PUT /contatos/batch}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoLoteIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void postSalvaOsItensValidosERejeitaOsInvalidosNaMesmaOrdem() throws Exception {
+        String corpo = mockMvc.perform(post("/contatos/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("["
+                                + contato("Gil Lote", "gil.lote@email.com") + ","
+                                + contato("X", "sem-email") + ","
+                                + contato("Hugo Lote", "hugo.lote@email.com") + "]"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode resposta = objectMapper.readTree(corpo);
+
+        assertThat(statusDosItens(resposta)).containsExactly(201, 400, 201);
+        assertThat(resposta.get("total").asInt()).isEqualTo(3);
+        assertThat(resposta.get("salvos").asInt()).isEqualTo(2);
+        assertThat(resposta.get("rejeitados").asInt()).isEqualTo(1);
+        assertThat(resposta.get("itens").get(1).get("erros").has("email")).isTrue();
+
+        mockMvc.perform(get("/contatos/{id}", resposta.get("itens").get(2).get("id").asLong()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("hugo.lote@email.com"));
+    }
+
+    @Test
+    void putCriaAtualizaEMantemComOsStatusDeCadaItem() throws Exception {
+        String tenant = "lote-upsert";
+        JsonNode primeiro = enviarPut(tenant, "["
+                + contato("Ana Lima", "ana.lote@email.com") + ","
+                + contato("Bia Reis", "bia.lote@email.com") + "]");
+        assertThat(statusDosItens(primeiro)).containsExactly(201, 201);
+        assertThat(primeiro.get("salvos").asInt()).isEqualTo(2);
+
+        JsonNode segundo = enviarPut(tenant, "["
+                + contato("Ana Lima", "ANA.lote@email.com") + ","
+                + contato("Bia Souza", "bia.lote@email.com") + ","
+                + contato("Caio Dias", "caio.lote@email.com") + "]");
+        assertThat(statusDosItens(segundo)).containsExactly(200, 200, 201);
+        assertThat(segundo.get("itens").get(0).get("id")).isEqualTo(primeiro.get("itens").get(0).get("id"));
+
+        JsonNode terceiro = enviarPut(tenant, "["
+                + contato("Ana Lima", "ANA.lote@email.com") + ","
+                + contato("Bia Souza", "bia.lote@email.com") + "]");
+        assertThat(statusDosItens(terceiro)).containsExactly(304, 304);
+        assertThat(terceiro.get("salvos").asInt()).isZero();
+        assertThat(terceiro.get("rejeitados").asInt()).isZero();
+    }
+
+    @Test
+    void putRejeitaEmailRepetidoNoLote() throws Exception {
+        JsonNode resposta = enviarPut("lote-repetido", "["
+                + contato("Davi Melo", "davi.lote@email.com") + ","
+                + contato("Davi Melo Jr", "Davi.Lote@email.com") + ","
+                + contato("X", "sem-email") + "]");
+
+        assertThat(statusDosItens(resposta)).containsExactly(201, 400, 400);
+        assertThat(resposta.get("itens").get(1).get("erros").has("email")).isTrue();
+        assertThat(resposta.get("salvos").asInt()).isEqualTo(1);
+        assertThat(resposta.get("rejeitados").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void postRecusaEmailJaCadastradoComConflito() throws Exception {
+        String tenant = "lote-post";
+        String lote = "[" + contato("Eva Nunes", "eva.lote@email.com") + "]";
+        mockMvc.perform(post("/contatos/batch").header(TenantContext.HEADER, tenant).with(endereco("10.0.20.2"))
+                        .contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isOk());
+
+        String corpo = mockMvc.perform(post("/contatos/batch").header(TenantContext.HEADER, tenant)
+                        .with(endereco("10.0.20.2")).contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode resposta = objectMapper.readTree(corpo);
+        assertThat(statusDosItens(resposta)).containsExactly(409);
+        assertThat(resposta.get("salvos").asInt()).isZero();
+    }
+
+    private JsonNode enviarPut(String tenant, String lote) throws Exception {
+        String corpo = mockMvc.perform(put("/contatos/batch").header(TenantContext.HEADER, tenant)
+                        .with(endereco("10.0.20.1")).contentType(MediaType.APPLICATION_JSON).content(lote))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(corpo);
+    }
+
+    /**
+     * Define o endereço remoto da requisição, que identifica o cliente no limite de requisições.
+     */
+    private static RequestPostProcessor endereco(String ip) {
+        return requisicao -> {
+            requisicao.setRemoteAddr(ip);
+            return requisicao;
+        };
+    }
+
+    private static int[] statusDosItens(JsonNode resposta) {
+        int[] status = new int[resposta.get("itens").size()];
+        for (int i = 0; i < status.length; i++) {
+            status[i] = resposta.get("itens").get(i).get("status").asInt();
+        }
+        return status;
+    }
+
+    private static String contato(String nome, String email) {
+        return "{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}";
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que a quantidade de consultas por requisição também é publicada nas requisições assíncronas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoMetricasIntegrationTest {
+
+    private static final String TENANT = "metricas-teste";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void exportacaoRegistraAsConsultasDaThreadAssincrona() throws Exception {
+        mockMvc.perform(post("/contatos").header(TenantContext.HEADER, TENANT).with(endereco("10.0.11.1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Ana Metricas\",\"email\":\"ana.metricas@email.com\",\"telefone\":\"(11) 98888-7777\"}"))
+                .andExpect(status().isCreated());
+
+        MvcResult exportacao = mockMvc.perform(get("/contatos/export").header(TenantContext.HEADER, TENANT)
+                        .with(endereco("10.0.11.1")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(exportacao)).andExpect(status().isOk());
+
+        DistributionSummary consultas = registry.find("agenda.http.consultas").tag("uri", "/contatos/export")
+                .tag("status", "200").summary();
+        assertThat(consultas).isNotNull();
+        assertThat(consultas.count()).isEqualTo(1);
+        assertThat(consultas.totalAmount()).isPositive();
+    }
+
+    /**
+     * Define o endereço remoto da requisição, que identifica o cliente no limite de requisições.
+     */
+    private static RequestPostProcessor endereco(String ip) {
+        return requisicao -> {
+            requisicao.setRemoteAddr(ip);
+            return requisicao;
+        };
+    }
+}
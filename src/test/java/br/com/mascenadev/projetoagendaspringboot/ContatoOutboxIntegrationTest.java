@@ -0,0 +1,93 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.outbox.MemoriaOutboxSink;
+import br.com.mascenadev.projetoagendaspringboot.outbox.OutboxDispatcher;
+import br.com.mascenadev.projetoagendaspringboot.outbox.OutboxEvento;
+import br.com.mascenadev.projetoagendaspringboot.outbox.OutboxRepository;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica que cada escrita confirmada grava um evento na outbox e que o {@link OutboxDispatcher} o entrega ao sink.
+ * <p>
+ * Usa um banco próprio e um intervalo longo, para que os despachantes de outros contextos de teste não
+ * consumam a tabela; o despacho é disparado manualmente.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outboxdb",
+        "agenda.outbox.intervalo-ms=3600000"
+})
+@AutoConfigureMockMvc
+class ContatoOutboxIntegrationTest {
+
+    private static final String TENANT = "outbox-teste";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private MemoriaOutboxSink sink;
+
+    @Test
+    void entregaCriacaoAlteracaoEExclusaoNaOrdemEDescartaEscritasRecusadas() throws Exception {
+        String location = mockMvc.perform(comTenant(post("/contatos")).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Ana Outbox", "ana.outbox@email.com")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        long id = Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+
+        mockMvc.perform(comTenant(post("/contatos")).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Ana Repetida", "ana.outbox@email.com")))
+                .andExpect(status().isConflict());
+        mockMvc.perform(comTenant(patch(location)).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"telefone\":\"(21) 3333-4444\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(comTenant(put(location)).header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Ana Antiga", "ana.outbox@email.com")))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(comTenant(delete(location))).andExpect(status().isNoContent());
+
+        assertThat(outboxRepository.count()).isEqualTo(3);
+        dispatcher.despachar();
+        assertThat(outboxRepository.count()).isZero();
+
+        List<OutboxEvento> eventos = sink.eventos().stream()
+                .filter(evento -> evento.getContatoId() == id)
+                .toList();
+        assertThat(eventos).extracting(OutboxEvento::getTipo).containsExactly("CRIADO", "ATUALIZADO", "EXCLUIDO");
+        assertThat(eventos).extracting(OutboxEvento::getTenantId).containsOnly(TENANT);
+        assertThat(eventos.get(1).getPayload()).contains("(21) 3333-4444");
+    }
+
+    private static MockHttpServletRequestBuilder comTenant(MockHttpServletRequestBuilder requisicao) {
+        return requisicao.header(TenantContext.HEADER, TENANT);
+    }
+
+    private static String contato(String nome, String email) {
+        return "{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}";
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.config.CacheConfig;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica o isolamento entre tenants nas leituras, escritas, listagem, unicidade de e-mail e chaves de cache.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContatoTenantIntegrationTest {
+
+    private static final String TENANT_A = "tenant-a-teste";
+
+    private static final String TENANT_B = "tenant-b-teste";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void contatoDeUmTenantNaoEVistoNemAlteradoPorOutro() throws Exception {
+        String location = criar(TENANT_A, "Ana Tenant", "ana.tenant@email.com");
+        long id = Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+        mockMvc.perform(comTenant(get(location), TENANT_A)).andExpect(status().isOk());
+
+        mockMvc.perform(comTenant(get(location), TENANT_B)).andExpect(status().isNotFound());
+        mockMvc.perform(comTenant(put(location), TENANT_B).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Intrusa", "intrusa.tenant@email.com")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(comTenant(delete(location), TENANT_B)).andExpect(status().isNotFound());
+        mockMvc.perform(comTenant(get("/contatos"), TENANT_B))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[*].id", not(hasItem((int) id))));
+
+        mockMvc.perform(comTenant(get(location), TENANT_A))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Ana Tenant"));
+
+        Cache cache = cacheManager.getCache(CacheConfig.CONTATOS);
+        assertThat(cache).isNotNull();
+        assertThat(cache.get(TENANT_A + ":" + id)).isNotNull();
+        assertThat(cache.get(TENANT_B + ":" + id)).isNull();
+    }
+
+    @Test
+    void mesmoEmailPodeExistirEmTenantsDiferentes() throws Exception {
+        criar(TENANT_A, "Bia Tenant", "bia.tenant@email.com");
+        criar(TENANT_B, "Bia Tenant", "bia.tenant@email.com");
+
+        mockMvc.perform(comTenant(post("/contatos"), TENANT_B).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato("Bia Repetida", "BIA.tenant@email.com")))
+                .andExpect(status().isConflict());
+    }
+
+    private String criar(String tenant, String nome, String email) throws Exception {
+        return mockMvc.perform(comTenant(post("/contatos"), tenant).contentType(MediaType.APPLICATION_JSON)
+                        .content(contato(nome, email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+    }
+
+    private static MockHttpServletRequestBuilder comTenant(MockHttpServletRequestBuilder requisicao, String tenant) {
+        return requisicao.header(TenantContext.HEADER, tenant);
+    }
+
+    private static String contato(String nome, String email) {
+        return "{\"nome\":\"" + nome + "\",\"email\":\"" + email + "\",\"telefone\":\"(11) 98888-7777\"}";
+    }
+}
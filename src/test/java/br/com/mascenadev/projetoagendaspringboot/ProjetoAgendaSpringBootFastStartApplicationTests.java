@@ -0,0 +1,41 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.config.SwaggerConfig;
+import br.com.mascenadev.projetoagendaspringboot.outbox.OutboxDispatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que a aplicação sobe no perfil {@code fast-start}: beans com inicialização tardia, despachante da outbox
+ * criado na subida e Springdoc desligado.
+ * <p>
+ * O perfil espera o esquema já migrado; aqui ele é criado a partir das entidades, em um banco próprio, no lugar das
+ * migrações. O intervalo longo evita que o despachante rode durante o teste.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:faststartdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "agenda.outbox.intervalo-ms=3600000"
+})
+@ActiveProfiles("fast-start")
+class ProjetoAgendaSpringBootFastStartApplicationTests {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    void contextLoads() {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        assertThat(beanFactory.getBeanDefinition("contatoService").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanNamesForType(OutboxDispatcher.class)).singleElement()
+                .satisfies(nome -> assertThat(beanFactory.containsSingleton(nome)).isTrue());
+        assertThat(context.getBeansOfType(SwaggerConfig.class)).isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.mascenadev.projetoagendaspringboot;
+
+import br.com.mascenadev.projetoagendaspringboot.controller.ContatoReactiveController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que a aplicação sobe no perfil {@code reactive}, apenas com R2DBC, que o esquema do H2 é criado e que
+ * as requisições condicionais seguem o mesmo contrato da variante MVC.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ProjetoAgendaSpringBootReactiveApplicationTests {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void contextLoads() {
+        assertThat(context.getBeansOfType(ContatoReactiveController.class)).hasSize(1);
+        assertThat(context.getBeansOfType(DataSource.class)).isEmpty();
+    }
+
+    @Test
+    void criaELeUmContato() {
+        String location = client.post().uri("/contatos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"nome\":\"Ana Reativa\",\"email\":\"ana@reativa.com\",\"telefone\":\"(11) 91234-5678\"}")
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(String.class)
+                .getResponseHeaders().getLocation().toString();
+
+        client.get().uri(location)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.nome").isEqualTo("Ana Reativa");
+    }
+
+    @Test
+    void respeitaIfNoneMatchEIfMatch() {
+        String location = client.post().uri("/contatos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"nome\":\"Bia Reativa\",\"email\":\"bia@reativa.com\",\"telefone\":\"(11) 91234-5678\"}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .returnResult(String.class)
+                .getResponseHeaders().getLocation().toString();
+
+        client.get().uri(location).header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .exchange()
+                .expectStatus().isNotModified();
+
+        client.patch().uri(location).header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"nome\":\"Bia Lima\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+
+        client.put().uri(location).header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"nome\":\"Bia Souza\",\"email\":\"bia@reativa.com\",\"telefone\":\"(11) 91234-5678\"}")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        client.delete().uri(location).header(HttpHeaders.IF_MATCH, "\"0\", \"1\"")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        client.delete().uri(location).header(HttpHeaders.IF_MATCH, "\"1\"")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @Test
+    void idsDoMesmoBlocoDaSequencia() {
+        long primeiro = criar("caio@reativa.com");
+        long segundo = criar("davi@reativa.com");
+
+        assertThat(segundo).isEqualTo(primeiro + 1);
+    }
+
+    private long criar(String email) {
+        String location = client.post().uri("/contatos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"nome\":\"Contato Reativo\",\"email\":\"" + email + "\",\"telefone\":\"(11) 91234-5678\"}")
+                .exchange()
+                .expectStatus().isCreated()
+                .returnResult(String.class)
+                .getResponseHeaders().getLocation().toString();
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+}
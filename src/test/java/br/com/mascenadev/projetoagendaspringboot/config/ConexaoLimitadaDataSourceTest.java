@@ -0,0 +1,76 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifica o semáforo do {@link ConexaoLimitadaDataSource} com um pool de duas conexões.
+ */
+class ConexaoLimitadaDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+
+    @Test
+    void aguardaQuandoOPoolEstaCheioEContinuaQuandoUmaConexaoEFechada() throws Exception {
+        when(pool.getConnection()).thenAnswer(invocacao -> mock(Connection.class));
+        ConexaoLimitadaDataSource dataSource = new ConexaoLimitadaDataSource(pool, 2, 5_000);
+
+        Connection primeira = dataSource.getConnection();
+        dataSource.getConnection();
+        CompletableFuture<Connection> terceira = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dataSource.getThreadsAguardando() == 1);
+        assertThat(terceira).isNotDone();
+
+        primeira.close();
+        assertThat(terceira.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(dataSource.getThreadsAguardando()).isZero();
+    }
+
+    @Test
+    void devolveAPermissaoUmaUnicaVezMesmoComCloseRepetido() throws Exception {
+        Connection real = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(real);
+        ConexaoLimitadaDataSource dataSource = new ConexaoLimitadaDataSource(pool, 2, 50);
+
+        Connection conexao = dataSource.getConnection();
+        conexao.close();
+        conexao.close();
+        verify(real, times(2)).close();
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void devolveAPermissaoQuandoOPoolFalha() throws Exception {
+        when(pool.getConnection())
+                .thenThrow(new SQLException("pool indisponível"))
+                .thenAnswer(invocacao -> mock(Connection.class));
+        ConexaoLimitadaDataSource dataSource = new ConexaoLimitadaDataSource(pool, 1, 50);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool indisponível");
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+}
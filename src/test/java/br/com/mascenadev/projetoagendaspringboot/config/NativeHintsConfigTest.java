@@ -0,0 +1,46 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoAlteracaoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoNomeProjection;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.http.ProblemDetail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica, sem compilar a imagem nativa, que as dicas da aplicação cobrem os tipos usados por reflexão.
+ */
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeHintsConfigTest() {
+        new NativeHintsConfig.AgendaRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registraEntidadeEDtosSerializadosForaDosControladores() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Contato.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ContatoAlteracaoResponseDTO.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProblemDetail.class)).accepts(hints);
+    }
+
+    @Test
+    void registraProxiesDasProjecoes() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(
+                AopProxyUtils.completeJdkProxyInterfaces(ContatoNomeProjection.class, TargetAware.class))).accepts(hints);
+    }
+
+    @Test
+    void registraRecursosDoSwaggerUi() {
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/resources/webjars/swagger-ui/5.18.2/index.html")).accepts(hints);
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.mascenadev.projetoagendaspringboot.config;
+
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent;
+import br.com.mascenadev.projetoagendaspringboot.tenant.TenantContext;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica o roteamento entre dois bancos H2 em memória, cada um identificado pelo conteúdo da tabela {@code origem}.
+ */
+class RoteamentoDataSourceTest {
+
+    private RoteamentoDataSource roteamento;
+
+    private JdbcTemplate jdbc;
+
+    private TransactionTemplate escrita;
+
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    void preparar() {
+        DataSource primario = h2("primario");
+        DataSource replica = h2("replica");
+        roteamento = new RoteamentoDataSource(primario, replica, Duration.ofMillis(200));
+        DataSource roteado = new LazyConnectionDataSourceProxy(roteamento);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(roteado);
+        jdbc = new JdbcTemplate(roteado);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    @AfterEach
+    void limpar() {
+        TenantContext.limpar();
+    }
+
+    @Test
+    void transacaoSomenteLeituraUsaReplica() {
+        assertThat(origemEm(leitura)).isEqualTo("replica");
+    }
+
+    @Test
+    void transacaoDeEscritaUsaPrimario() {
+        assertThat(origemEm(escrita)).isEqualTo("primario");
+    }
+
+    @Test
+    void leituraLogoAposAlteracaoDeContatoDoMesmoTenantUsaPrimario() throws InterruptedException {
+        TenantContext.definir("acme");
+        escrita.executeWithoutResult(status -> jdbc.update("UPDATE origem SET nome = nome"));
+        roteamento.registrarEscrita(ContatoAlteradoEvent.excluido("acme", 1L));
+
+        assertThat(origemEm(leitura)).isEqualTo("primario");
+
+        TenantContext.definir("outro");
+        assertThat(origemEm(leitura)).isEqualTo("replica");
+
+        Thread.sleep(250);
+        TenantContext.definir("acme");
+        assertThat(origemEm(leitura)).isEqualTo("replica");
+    }
+
+    @Test
+    void escritasSemAlteracaoDeContatoNaoPrendemAsLeiturasNoPrimario() throws Exception {
+        ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor();
+        try {
+            dispatcher.scheduleWithFixedDelay(() -> escrita.executeWithoutResult(
+                    status -> jdbc.update("UPDATE origem SET nome = nome")), 0, 10, TimeUnit.MILLISECONDS);
+            Thread.sleep(50);
+
+            assertThat(origemEm(leitura)).isEqualTo("replica");
+            TenantContext.definir(TenantContext.PADRAO);
+            escrita.executeWithoutResult(status -> jdbc.update("UPDATE origem SET nome = nome"));
+            assertThat(origemEm(leitura)).isEqualTo("replica");
+        } finally {
+            dispatcher.shutdownNow();
+            dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Executa a consulta dentro de uma transação do modelo informado; o tipo {@code String} explícito evita a
+     * ambiguidade entre as sobrecargas de {@code assertThat}.
+     */
+    private String origemEm(TransactionTemplate transacao) {
+        return transacao.execute(status -> origem());
+    }
+
+    private String origem() {
+        return jdbc.queryForObject("SELECT nome FROM origem", String.class);
+    }
+
+    private static DataSource h2(String nome) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:roteamento_" + nome + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS origem (nome VARCHAR(20))");
+        jdbc.update("DELETE FROM origem");
+        jdbc.update("INSERT INTO origem (nome) VALUES (?)", nome);
+        return dataSource;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.mascenadev.projetoagendaspringboot.exception;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
+import br.com.mascenadev.projetoagendaspringboot.validation.ContatoValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica o formato {@code application/problem+json} das respostas e o reaproveitamento das constantes.
+ */
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(objectMapper);
+
+    @Test
+    void naoEncontradoEhConstante() throws Exception {
+        ResponseEntity<byte[]> resposta = handler.handleContatoNaoEncontrado(new ContatoNaoEncontradoException(1L));
+
+        assertThat(resposta).isSameAs(handler.handleContatoNaoEncontrado(new ContatoNaoEncontradoException(2L)));
+        assertThat(resposta.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+        JsonNode corpo = objectMapper.readTree(resposta.getBody());
+        assertThat(corpo.get("status").asInt()).isEqualTo(404);
+        assertThat(corpo.get("title").asText()).isEqualTo("Contato não encontrado");
+    }
+
+    @Test
+    void validacaoDoContatoValidatorUsaCorpoPronto() throws Exception {
+        ResponseEntity<byte[]> resposta = handler.handleValidationErrors(
+                invalido(new ContatoRequestDTO("Jo", "ana@email.com", "")));
+
+        assertThat(resposta).isSameAs(handler.handleValidationErrors(
+                invalido(new ContatoRequestDTO("Jo", "outra@email.com", "   "))));
+        JsonNode erros = objectMapper.readTree(resposta.getBody()).get(GlobalExceptionHandler.PROPRIEDADE_ERROS);
+        assertThat(erros.size()).isEqualTo(2);
+        assertThat(erros.get("nome").asText()).isEqualTo(ContatoValidator.NOME_TAMANHO);
+        assertThat(erros.get("telefone").asText()).isEqualTo(ContatoValidator.TELEFONE_OBRIGATORIO);
+    }
+
+    @Test
+    void erroGenericoNaoExpoeAMensagem() throws Exception {
+        ResponseEntity<byte[]> resposta = handler.handleGenericException(new IllegalStateException("senha=segredo"));
+
+        assertThat(resposta.getStatusCode().value()).isEqualTo(500);
+        assertThat(new String(resposta.getBody())).doesNotContain("segredo");
+    }
+
+    private static MethodArgumentNotValidException invalido(ContatoRequestDTO request) throws Exception {
+        BeanPropertyBindingResult resultado = new BeanPropertyBindingResult(request, "contatoRequestDTO");
+        new ContatoValidator().validate(request, resultado);
+        MethodParameter parametro = new MethodParameter(
+                GlobalExceptionHandlerTest.class.getDeclaredMethod("invalido", ContatoRequestDTO.class), 0);
+        return new MethodArgumentNotValidException(parametro, resultado);
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.mascenadev.projetoagendaspringboot.limite;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica o balde de tokens e o limitador de concorrência com um relógio controlado pelo teste.
+ */
+class BaldeDeTokensTest {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void aceitaARajadaERecusaOExcedenteAteAReposicao() {
+        BaldeDeTokens balde = new BaldeDeTokens(10, 5);
+        long agora = 1_000 * SEGUNDO;
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(balde.consumir(agora)).isZero();
+        }
+        long espera = balde.consumir(agora);
+        assertThat(espera).isEqualTo(SEGUNDO / 10);
+
+        assertThat(balde.consumir(agora + espera)).isZero();
+        assertThat(balde.consumir(agora + espera)).isPositive();
+    }
+
+    @Test
+    void baldeOciosoFicaCheio() {
+        BaldeDeTokens balde = new BaldeDeTokens(10, 5);
+        long agora = 1_000 * SEGUNDO;
+
+        assertThat(balde.cheio(agora)).isTrue();
+        balde.consumir(agora);
+        assertThat(balde.cheio(agora)).isFalse();
+        assertThat(balde.cheio(agora + SEGUNDO / 10)).isTrue();
+    }
+
+    @Test
+    void limitadorReduzComLatenciaAltaECresceComLatenciaBaixa() {
+        long alvo = TimeUnit.MILLISECONDS.toNanos(200);
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia(10, 2, 20, alvo);
+        long agora = System.nanoTime();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limitador.adquirir()).isTrue();
+        }
+        assertThat(limitador.adquirir()).isFalse();
+
+        limitador.liberar(2 * alvo, agora + alvo);
+        limitador.liberar(2 * alvo, agora + alvo);
+        assertThat(limitador.getLimite()).isEqualTo(9);
+
+        for (int i = 0; i < 8; i++) {
+            limitador.liberar(alvo / 2, agora + alvo);
+        }
+        assertThat(limitador.getEmUso()).isZero();
+        for (int i = 0; i < 9; i++) {
+            assertThat(limitador.adquirir()).isTrue();
+            limitador.liberar(alvo / 2, agora + alvo);
+        }
+        assertThat(limitador.getLimite()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.mascenadev.projetoagendaspringboot.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica, pelo plano de execução do H2, que as consultas de pesquisa de um tenant usam os índices compostos de {@code contato}.
+ */
+@DataJpaTest
+class ContatoRepositoryPlanoH2Test {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void pesquisaPorPrefixoDeNomeUsaIndice() {
+        assertThat(plano("SELECT * FROM contato WHERE tenant_id = 'default' AND nome LIKE 'Ana%' ORDER BY nome"))
+                .containsIgnoringCase("idx_contato_tenant_nome");
+    }
+
+    @Test
+    void pesquisaPorEmailUsaIndice() {
+        assertThat(plano("SELECT * FROM contato WHERE tenant_id = 'default' AND email_normalizado = 'ana@email.com'"))
+                .containsIgnoringCase("uk_contato_tenant_email");
+    }
+
+    @Test
+    void pesquisaPorTelefoneUsaIndice() {
+        assertThat(plano("SELECT * FROM contato WHERE tenant_id = 'default' AND telefone = '(11) 91234-5678'"))
+                .containsIgnoringCase("idx_contato_tenant_telefone");
+    }
+
+    private String plano(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.mascenadev.projetoagendaspringboot.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica, pelo {@code EXPLAIN} do PostgreSQL, que as consultas de pesquisa de um tenant usam os índices compostos de {@code contato}.
+ * <p>
+ * Executado apenas quando a variável de ambiente {@code AGENDA_POSTGRES_URL} aponta para um banco descartável
+ * (por exemplo, {@code jdbc:postgresql://localhost:5432/agenda_test}). A varredura sequencial é desabilitada
+ * na sessão para que o resultado não dependa do volume de dados da tabela.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "AGENDA_POSTGRES_URL", matches = ".+")
+@TestPropertySource(properties = {
+        "spring.datasource.url=${AGENDA_POSTGRES_URL}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.datasource.username=${AGENDA_POSTGRES_USER:postgres}",
+        "spring.datasource.password=${AGENDA_POSTGRES_PASSWORD:postgres}",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ContatoRepositoryPlanoPostgresTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void prepararSessao() {
+        entityManager.createNativeQuery(
+                "CREATE INDEX IF NOT EXISTS idx_contato_tenant_nome_prefixo ON contato (tenant_id, nome varchar_pattern_ops)")
+                .executeUpdate();
+        entityManager.createNativeQuery("SET enable_seqscan = off").executeUpdate();
+    }
+
+    @Test
+    void pesquisaPorPrefixoDeNomeUsaIndice() {
+        assertThat(plano("SELECT * FROM contato WHERE tenant_id = 'default' AND nome LIKE 'Ana%' ORDER BY nome"))
+                .contains("idx_contato_tenant_nome");
+    }
+
+    @Test
+    void pesquisaPorEmailUsaIndice() {
+        assertThat(plano("SELECT * FROM contato WHERE tenant_id = 'default' AND email_normalizado = 'ana@email.com'"))
+                .contains("uk_contato_tenant_email");
+    }
+
+    @Test
+    void pesquisaPorTelefoneUsaIndice() {
+        assertThat(plano("SELECT * FROM contato WHERE tenant_id = 'default' AND telefone = '(11) 91234-5678'"))
+                .contains("idx_contato_tenant_telefone");
+    }
+
+    @SuppressWarnings("unchecked")
+    private String plano(String sql) {
+        List<Object> linhas = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+        return String.join("\n", linhas.stream().map(String::valueOf).toList());
+    }
+}
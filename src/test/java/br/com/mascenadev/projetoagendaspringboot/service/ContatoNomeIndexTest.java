@@ -0,0 +1,91 @@
+package br.com.mascenadev.projetoagendaspringboot.service;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoSugestaoResponseDTO;
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import br.com.mascenadev.projetoagendaspringboot.events.ContatoAlteradoEvent;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoNomeProjection;
+import br.com.mascenadev.projetoagendaspringboot.repository.ContatoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifica as pesquisas curtas do índice de nomes e a carga concorrente com escritas.
+ */
+class ContatoNomeIndexTest {
+
+    private final ContatoRepository repository = mock(ContatoRepository.class);
+
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private final ContatoNomeIndex index = new ContatoNomeIndex(repository, transactionTemplate);
+
+    @Test
+    void umaLetraCasaComOInicioDeQualquerPalavra() {
+        index.indexar("t", 1L, "Ana Souza");
+        index.indexar("t", 2L, "Bruno Silva");
+        index.indexar("t", 3L, "Sérgio Lima");
+        index.indexar("t", 4L, "Carla Dias");
+
+        assertThat(ids(index.buscar("t", "s", 10))).containsExactly(3L, 1L, 2L);
+        assertThat(ids(index.buscar("t", "l", 10))).containsExactly(3L);
+
+        index.indexar("t", 3L, "Marcos Rocha");
+        index.remover("t", 2L);
+        assertThat(ids(index.buscar("t", "s", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void cargaReaplicaAsEscritasFeitasDuranteALeitura() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(repository.streamNomes()).thenAnswer(invocacao -> {
+            // Escritas confirmadas depois que a leitura já passou pelas linhas afetadas
+            index.aoAlterar(ContatoAlteradoEvent.criado(contato(3L, "Daniela Costa")));
+            index.aoAlterar(ContatoAlteradoEvent.excluido("t", 2L));
+            return Stream.of(nome(1L, "Daniel Alves"), nome(2L, "Danilo Reis"));
+        });
+
+        index.carregar();
+
+        assertThat(ids(index.buscar("t", "dan", 10))).containsExactly(1L, 3L);
+    }
+
+    private static List<Long> ids(List<ContatoSugestaoResponseDTO> sugestoes) {
+        return sugestoes.stream().map(ContatoSugestaoResponseDTO::id).toList();
+    }
+
+    private static Contato contato(Long id, String nome) {
+        Contato contato = new Contato(nome, "x@email.com", "(11) 98888-7777");
+        contato.setId(id);
+        contato.setTenantId("t");
+        return contato;
+    }
+
+    private static ContatoNomeProjection nome(Long id, String nome) {
+        return new ContatoNomeProjection() {
+            @Override
+            public String getTenantId() {
+                return "t";
+            }
+
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNome() {
+                return nome;
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.mascenadev.projetoagendaspringboot.service;
+
+import br.com.mascenadev.projetoagendaspringboot.entities.Contato;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que as leituras do {@link ContatoService} rodam em transação somente leitura (o padrão da classe) e que
+ * as escritas a substituem por uma transação de leitura e escrita, inclusive na releitura feita dentro delas.
+ * <p>
+ * Um aspecto de teste registra, a cada chamada ao {@code ContatoRepository}, se a transação corrente é somente leitura.
+ * </p>
+ */
+@SpringBootTest
+class ContatoServiceTransacaoTest {
+
+    @Autowired
+    private ContatoService contatoService;
+
+    @Autowired
+    private RegistroDeTransacoes registro;
+
+    @BeforeEach
+    void limparRegistro() {
+        registro.somenteLeitura.clear();
+    }
+
+    @Test
+    void leiturasRodamSomenteLeituraEEscritasNao() {
+        Contato salvo = contatoService.salvar(new Contato("Ana Transacao", "ana.transacao@email.com", "(11) 98888-7777"));
+        assertThat(registro.somenteLeitura).isNotEmpty().containsOnly(false);
+
+        registro.somenteLeitura.clear();
+        assertThat(contatoService.buscarTodos(null, 10)).isNotEmpty();
+        assertThat(registro.somenteLeitura).containsExactly(true);
+
+        registro.somenteLeitura.clear();
+        contatoService.atualizarParcial(salvo.getId(), new Contato(null, null, "(21) 3333-4444"), null);
+        assertThat(registro.somenteLeitura).hasSize(2).containsOnly(false);
+    }
+
+    @Aspect
+    static class RegistroDeTransacoes {
+
+        private final List<Boolean> somenteLeitura = new CopyOnWriteArrayList<>();
+
+        @Around("execution(* br.com.mascenadev.projetoagendaspringboot.repository.ContatoRepository.*(..))")
+        Object registrar(ProceedingJoinPoint chamada) throws Throwable {
+            somenteLeitura.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return chamada.proceed();
+        }
+    }
+
+    @TestConfiguration
+    static class Configuracao {
+
+        @Bean
+        RegistroDeTransacoes registroDeTransacoes() {
+            return new RegistroDeTransacoes();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.mascenadev.projetoagendaspringboot.validation;
+
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoPatchDTO;
+import br.com.mascenadev.projetoagendaspringboot.dtos.ContatoRequestDTO;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara o {@link ContatoValidator} com o Bean Validation aplicado às anotações dos DTOs.
+ */
+class ContatoValidatorTest {
+
+    private static final ValidatorFactory FACTORY = Validation.buildDefaultValidatorFactory();
+
+    private final Validator beanValidation = FACTORY.getValidator();
+
+    private final ContatoValidator contatoValidator = new ContatoValidator();
+
+    @AfterAll
+    static void encerrar() {
+        FACTORY.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ana@email.com", "ana.souza+agenda@sub.email.com.br", "a@b", "jose@dominio-1.com",
+            "", " ", "ana", "@email.com", "ana@", "ana@@email.com", ".ana@email.com", "ana.@email.com",
+            "ana..souza@email.com", "ana souza@email.com", "ana@-email.com", "ana@email-.com", "ana@email..com",
+            "ana@email.com.", "ana@.email.com", "ana@email_com"})
+    void emailIgualAoBeanValidation(String email) {
+        ContatoRequestDTO request = new ContatoRequestDTO("Ana Souza", email, "(11) 91234-5678");
+        assertThat(erro(request, "email")).isEqualTo(mensagemBeanValidation(request, "email"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(11) 91234-5678", "(11) 1234-5678", "", "   ", "11 912345678", "(11) 123-5678",
+            "(11) 123456-5678", "(11)91234-5678", "(1a) 91234-5678", "(11) 91234 5678", "(11) 91234-567",
+            "(11) 91234-56789", "(11) ９1234-5678"})
+    void telefoneIgualAoBeanValidation(String telefone) {
+        ContatoRequestDTO request = new ContatoRequestDTO("Ana Souza", "ana@email.com", telefone);
+        assertThat(erro(request, "telefone")).isEqualTo(mensagemBeanValidation(request, "telefone"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Ana", "Jo", "", "   ", "\t\n", "Ana Souza"})
+    void nomeIgualAoBeanValidation(String nome) {
+        ContatoRequestDTO request = new ContatoRequestDTO(nome, "ana@email.com", "(11) 91234-5678");
+        assertThat(erro(request, "nome")).isEqualTo(mensagemBeanValidation(request, "nome"));
+    }
+
+    @Test
+    void contatoValidoNaoRegistraErros() {
+        Errors erros = validar(new ContatoRequestDTO("Ana Souza", "ana@email.com", "(11) 91234-5678"));
+        assertThat(erros.hasErrors()).isFalse();
+    }
+
+    @Test
+    void patchValidaApenasOsCamposEnviados() {
+        assertThat(validar(new ContatoPatchDTO(null, null, null)).hasErrors()).isFalse();
+
+        Errors erros = validar(new ContatoPatchDTO("Jo", null, "11 912345678"));
+        assertThat(erros.getFieldError("nome").getDefaultMessage()).isEqualTo(ContatoValidator.NOME_TAMANHO);
+        assertThat(erros.getFieldError("email")).isNull();
+        assertThat(erros.getFieldError("telefone").getDefaultMessage()).isEqualTo(ContatoValidator.TELEFONE_FORMATO);
+    }
+
+    @Test
+    void patchRejeitaNomeEmBranco() {
+        Errors erros = validar(new ContatoPatchDTO("   ", null, null));
+        assertThat(erros.getFieldError("nome").getDefaultMessage()).isEqualTo(ContatoValidator.NOME_OBRIGATORIO);
+        assertThat(erros.getFieldErrorCount()).isEqualTo(1);
+    }
+
+    private Errors validar(Object alvo) {
+        Errors erros = new BeanPropertyBindingResult(alvo, "contato");
+        contatoValidator.validate(alvo, erros);
+        return erros;
+    }
+
+    private String erro(ContatoRequestDTO request, String campo) {
+        var erro = validar(request).getFieldError(campo);
+        return erro == null ? null : erro.getDefaultMessage();
+    }
+
+    /**
+     * Mensagem do Bean Validation para o campo. Quando há mais de uma violação (por exemplo, {@code @NotBlank}
+     * e {@code @Pattern} em um valor vazio), vale a de obrigatoriedade, registrada primeiro pelo validador.
+     */
+    private String mensagemBeanValidation(ContatoRequestDTO request, String campo) {
+        return beanValidation.validateProperty(request, campo).stream()
+                .map(violacao -> violacao.getMessage())
+                .min((a, b) -> Boolean.compare(!a.endsWith("obrigatório"), !b.endsWith("obrigatório")))
+                .orElse(null);
+    }
+}